@@ -0,0 +1,418 @@
+package AST;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import syntaxtree.*;
+import visitor.DepthFirstVisitor;
+
+/*
+ * Builds the Tree of a parsed program. Every visit adds the node of its syntaxtree node
+ * on top of a stack after those of its children, which it takes off the stack, so the
+ * nodes a visit leaves on the stack are the children of the node being lowered. The
+ * nodes that only choose or group (Statement, Expression, PrimaryExpression, Clause,
+ * BracketExpression, the lists and tails) are walked through and add nothing.
+ */
+public class Lowering extends DepthFirstVisitor {
+    Tree tree;
+    Map<String, Integer> nameIndices;
+    int[] stack;
+    int stackSize;
+
+    Lowering(){
+        this.tree = new Tree();
+        this.nameIndices = new HashMap<String, Integer>();
+        this.stack = new int[256];
+    }
+
+    public static Tree lower(Goal root) throws Exception {
+        Lowering lowering = new Lowering();
+        root.accept(lowering);
+        lowering.tree.trim();
+        return lowering.tree;
+    }
+
+    int name(String name){
+        Integer index = this.nameIndices.get(name);
+        if (index == null){
+            index = this.tree.addName(name);
+            this.nameIndices.put(name, index);
+        }
+        return index;
+    }
+
+    void push(int node){
+        if (this.stackSize == this.stack.length)
+            this.stack = Arrays.copyOf(this.stack, 2 * this.stackSize);
+        this.stack[this.stackSize++] = node;
+    }
+
+    //Replaces the nodes on the stack from mark on with their parent
+    void add(byte kind, String name, NodeToken position, int mark){
+        int node = this.tree.addNode(kind, name == null ? -1 : this.name(name),
+                                position == null ? 0 : position.beginLine, position == null ? 0 : position.beginColumn,
+                                this.stack, mark, this.stackSize);
+        this.stackSize = mark;
+        this.push(node);
+    }
+
+    void addType(String name, NodeToken position){
+        this.add(Tree.TYPE, name, position, this.stackSize);
+    }
+
+    /**
+    * f0 -> MainClass()
+    * f1 -> ( TypeDeclaration() )*
+    * f2 -> <EOF>
+    */
+    public void visit(Goal n) throws Exception {
+        int mark = this.stackSize;
+        n.f0.accept(this);
+        n.f1.accept(this);
+        this.add(Tree.GOAL, null, null, mark);
+        this.tree.root = this.stack[--this.stackSize];
+    }
+
+    /**
+    * f0 -> "class"
+    * f1 -> Identifier()
+    * f2 -> "{"
+    * f3 -> "public"
+    * f4 -> "static"
+    * f5 -> "void"
+    * f6 -> "main"
+    * f7 -> "("
+    * f8 -> "String"
+    * f9 -> "["
+    * f10 -> "]"
+    * f11 -> Identifier()
+    * f12 -> ")"
+    * f13 -> "{"
+    * f14 -> ( VarDeclaration() )*
+    * f15 -> ( Statement() )*
+    * f16 -> "}"
+    * f17 -> "}"
+    */
+    public void visit(MainClass n) throws Exception {
+        int mark = this.stackSize;
+        this.addType("String[]", n.f8);
+        this.add(Tree.FORMAL_PARAMETER, n.f11.f0.toString(), n.f11.f0, mark);
+        n.f14.accept(this);
+        n.f15.accept(this);
+        this.add(Tree.MAIN_CLASS, n.f1.f0.toString(), n.f1.f0, mark);
+    }
+
+    /**
+    * f0 -> "class"
+    * f1 -> Identifier()
+    * f2 -> "{"
+    * f3 -> ( VarDeclaration() )*
+    * f4 -> ( MethodDeclaration() )*
+    * f5 -> "}"
+    */
+    public void visit(ClassDeclaration n) throws Exception {
+        int mark = this.stackSize;
+        n.f3.accept(this);
+        n.f4.accept(this);
+        this.add(Tree.CLASS_DECLARATION, n.f1.f0.toString(), n.f1.f0, mark);
+    }
+
+    /**
+    * f0 -> "class"
+    * f1 -> Identifier()
+    * f2 -> "extends"
+    * f3 -> Identifier()
+    * f4 -> "{"
+    * f5 -> ( VarDeclaration() )*
+    * f6 -> ( MethodDeclaration() )*
+    * f7 -> "}"
+    */
+    public void visit(ClassExtendsDeclaration n) throws Exception {
+        int mark = this.stackSize;
+        this.addType(n.f3.f0.toString(), n.f3.f0);
+        n.f5.accept(this);
+        n.f6.accept(this);
+        this.add(Tree.CLASS_EXTENDS_DECLARATION, n.f1.f0.toString(), n.f1.f0, mark);
+    }
+
+    /**
+    * f0 -> Type()
+    * f1 -> Identifier()
+    * f2 -> ";"
+    */
+    public void visit(VarDeclaration n) throws Exception {
+        int mark = this.stackSize;
+        n.f0.accept(this);
+        this.add(Tree.VAR_DECLARATION, n.f1.f0.toString(), n.f1.f0, mark);
+    }
+
+    /**
+    * f0 -> "public"
+    * f1 -> Type()
+    * f2 -> Identifier()
+    * f3 -> "("
+    * f4 -> ( FormalParameterList() )?
+    * f5 -> ")"
+    * f6 -> "{"
+    * f7 -> ( VarDeclaration() )*
+    * f8 -> ( Statement() )*
+    * f9 -> "return"
+    * f10 -> Expression()
+    * f11 -> ";"
+    * f12 -> "}"
+    */
+    public void visit(MethodDeclaration n) throws Exception {
+        int mark = this.stackSize;
+        n.f1.accept(this);
+        n.f4.accept(this);
+        n.f7.accept(this);
+        n.f8.accept(this);
+        n.f10.accept(this);
+        this.add(Tree.METHOD_DECLARATION, n.f2.f0.toString(), n.f9, mark);
+    }
+
+    /**
+    * f0 -> Type()
+    * f1 -> Identifier()
+    */
+    public void visit(FormalParameter n) throws Exception {
+        int mark = this.stackSize;
+        n.f0.accept(this);
+        this.add(Tree.FORMAL_PARAMETER, n.f1.f0.toString(), n.f1.f0, mark);
+    }
+
+    public void visit(BooleanArrayType n) throws Exception {
+        this.addType("boolean[]", n.f0);
+    }
+
+    public void visit(IntegerArrayType n) throws Exception {
+        this.addType("int[]", n.f0);
+    }
+
+    public void visit(BooleanType n) throws Exception {
+        this.addType("boolean", n.f0);
+    }
+
+    public void visit(IntegerType n) throws Exception {
+        this.addType("int", n.f0);
+    }
+
+    //Class types; identifiers in expressions are lowered by visit(Identifier)
+    public void visit(syntaxtree.Type n) throws Exception {
+        if (n.f0.choice instanceof Identifier){
+            NodeToken name = ((Identifier) n.f0.choice).f0;
+            this.addType(name.toString(), name);
+        }
+        else
+            n.f0.accept(this);
+    }
+
+    /**
+    * f0 -> "{"
+    * f1 -> ( Statement() )*
+    * f2 -> "}"
+    */
+    public void visit(Block n) throws Exception {
+        int mark = this.stackSize;
+        n.f1.accept(this);
+        this.add(Tree.BLOCK, null, n.f0, mark);
+    }
+
+    /**
+    * f0 -> Identifier()
+    * f1 -> "="
+    * f2 -> Expression()
+    * f3 -> ";"
+    */
+    public void visit(AssignmentStatement n) throws Exception {
+        int mark = this.stackSize;
+        n.f0.accept(this);
+        n.f2.accept(this);
+        this.add(Tree.ASSIGNMENT_STATEMENT, null, n.f1, mark);
+    }
+
+    /**
+    * f0 -> Identifier()
+    * f1 -> "["
+    * f2 -> Expression()
+    * f3 -> "]"
+    * f4 -> "="
+    * f5 -> Expression()
+    * f6 -> ";"
+    */
+    public void visit(ArrayAssignmentStatement n) throws Exception {
+        int mark = this.stackSize;
+        n.f0.accept(this);
+        n.f2.accept(this);
+        this.add(Tree.ARRAY_LOOKUP, null, n.f1, mark);
+        n.f5.accept(this);
+        this.add(Tree.ARRAY_ASSIGNMENT_STATEMENT, null, n.f4, mark);
+    }
+
+    /**
+    * f0 -> "if"
+    * f1 -> "("
+    * f2 -> Expression()
+    * f3 -> ")"
+    * f4 -> Statement()
+    * f5 -> "else"
+    * f6 -> Statement()
+    */
+    public void visit(IfStatement n) throws Exception {
+        int mark = this.stackSize;
+        n.f2.accept(this);
+        n.f4.accept(this);
+        n.f6.accept(this);
+        this.add(Tree.IF_STATEMENT, null, n.f0, mark);
+    }
+
+    /**
+    * f0 -> "while"
+    * f1 -> "("
+    * f2 -> Expression()
+    * f3 -> ")"
+    * f4 -> Statement()
+    */
+    public void visit(WhileStatement n) throws Exception {
+        int mark = this.stackSize;
+        n.f2.accept(this);
+        n.f4.accept(this);
+        this.add(Tree.WHILE_STATEMENT, null, n.f0, mark);
+    }
+
+    /**
+    * f0 -> "System.out.println"
+    * f1 -> "("
+    * f2 -> Expression()
+    * f3 -> ")"
+    * f4 -> ";"
+    */
+    public void visit(PrintStatement n) throws Exception {
+        int mark = this.stackSize;
+        n.f2.accept(this);
+        this.add(Tree.PRINT_STATEMENT, null, n.f0, mark);
+    }
+
+    void binary(byte kind, Node left, NodeToken operator, Node right) throws Exception {
+        int mark = this.stackSize;
+        left.accept(this);
+        right.accept(this);
+        this.add(kind, null, operator, mark);
+    }
+
+    public void visit(AndExpression n) throws Exception {
+        this.binary(Tree.AND_EXPRESSION, n.f0, n.f1, n.f2);
+    }
+
+    public void visit(CompareExpression n) throws Exception {
+        this.binary(Tree.COMPARE_EXPRESSION, n.f0, n.f1, n.f2);
+    }
+
+    public void visit(PlusExpression n) throws Exception {
+        this.binary(Tree.PLUS_EXPRESSION, n.f0, n.f1, n.f2);
+    }
+
+    public void visit(MinusExpression n) throws Exception {
+        this.binary(Tree.MINUS_EXPRESSION, n.f0, n.f1, n.f2);
+    }
+
+    public void visit(TimesExpression n) throws Exception {
+        this.binary(Tree.TIMES_EXPRESSION, n.f0, n.f1, n.f2);
+    }
+
+    public void visit(ArrayLookup n) throws Exception {
+        this.binary(Tree.ARRAY_LOOKUP, n.f0, n.f1, n.f2);
+    }
+
+    /**
+    * f0 -> PrimaryExpression()
+    * f1 -> "."
+    * f2 -> "length"
+    */
+    public void visit(ArrayLength n) throws Exception {
+        int mark = this.stackSize;
+        n.f0.accept(this);
+        this.add(Tree.ARRAY_LENGTH, null, n.f1, mark);
+    }
+
+    /**
+    * f0 -> PrimaryExpression()
+    * f1 -> "."
+    * f2 -> Identifier()
+    * f3 -> "("
+    * f4 -> ( ExpressionList() )?
+    * f5 -> ")"
+    */
+    public void visit(MessageSend n) throws Exception {
+        int mark = this.stackSize;
+        n.f0.accept(this);
+        n.f4.accept(this);
+        this.add(Tree.MESSAGE_SEND, n.f2.f0.toString(), n.f2.f0, mark);
+    }
+
+    public void visit(IntegerLiteral n) throws Exception {
+        this.add(Tree.INTEGER_LITERAL, n.f0.toString(), n.f0, this.stackSize);
+    }
+
+    public void visit(TrueLiteral n) throws Exception {
+        this.add(Tree.TRUE_LITERAL, null, n.f0, this.stackSize);
+    }
+
+    public void visit(FalseLiteral n) throws Exception {
+        this.add(Tree.FALSE_LITERAL, null, n.f0, this.stackSize);
+    }
+
+    public void visit(Identifier n) throws Exception {
+        this.add(Tree.IDENTIFIER, n.f0.toString(), n.f0, this.stackSize);
+    }
+
+    public void visit(ThisExpression n) throws Exception {
+        this.add(Tree.THIS_EXPRESSION, null, n.f0, this.stackSize);
+    }
+
+    /**
+    * f0 -> "new"
+    * f1 -> "boolean"
+    * f2 -> "["
+    * f3 -> Expression()
+    * f4 -> "]"
+    */
+    public void visit(BooleanArrayAllocationExpression n) throws Exception {
+        int mark = this.stackSize;
+        n.f3.accept(this);
+        this.add(Tree.BOOLEAN_ARRAY_ALLOCATION, null, n.f0, mark);
+    }
+
+    /**
+    * f0 -> "new"
+    * f1 -> "int"
+    * f2 -> "["
+    * f3 -> Expression()
+    * f4 -> "]"
+    */
+    public void visit(IntegerArrayAllocationExpression n) throws Exception {
+        int mark = this.stackSize;
+        n.f3.accept(this);
+        this.add(Tree.INTEGER_ARRAY_ALLOCATION, null, n.f0, mark);
+    }
+
+    /**
+    * f0 -> "new"
+    * f1 -> Identifier()
+    * f2 -> "("
+    * f3 -> ")"
+    */
+    public void visit(AllocationExpression n) throws Exception {
+        this.add(Tree.ALLOCATION_EXPRESSION, n.f1.f0.toString(), n.f0, this.stackSize);
+    }
+
+    /**
+    * f0 -> "!"
+    * f1 -> Clause()
+    */
+    public void visit(NotExpression n) throws Exception {
+        int mark = this.stackSize;
+        n.f1.accept(this);
+        this.add(Tree.NOT_EXPRESSION, null, n.f0, mark);
+    }
+}
@@ -0,0 +1,168 @@
+package AST;
+import java.util.Arrays;
+
+/*
+ * The program as the passes after the parser see it, lowered from the syntaxtree of
+ * MiniJavaParser by Lowering. A node is an int, the index of its entries in the arrays
+ * below, and has a kind, a name, the line and column of its token and a list of child
+ * nodes. Keywords, punctuation and brackets are not kept.
+ *
+ * Names are interned, so nodes with the same name have the same String. The name of a
+ * declaration or identifier is what it names, that of a TYPE is the type as written
+ * ("int[]", "boolean" or the class name) and that of an INTEGER_LITERAL its digits.
+ *
+ * The position of a node is that of the token its errors are reported at: the operator
+ * of an expression, the keyword of a statement, the name of an identifier or method call
+ * and the "return" of a method.
+ *
+ * Children, in order:
+ *   GOAL                        MAIN_CLASS, then a CLASS_DECLARATION or CLASS_EXTENDS_DECLARATION per class
+ *   MAIN_CLASS                  FORMAL_PARAMETER (the String[] arguments), VAR_DECLARATION*, statement*
+ *   CLASS_DECLARATION           VAR_DECLARATION*, METHOD_DECLARATION*
+ *   CLASS_EXTENDS_DECLARATION   TYPE (the parent class), VAR_DECLARATION*, METHOD_DECLARATION*
+ *   VAR_DECLARATION             TYPE
+ *   METHOD_DECLARATION          TYPE (the return type), FORMAL_PARAMETER*, VAR_DECLARATION*, statement*, return expression
+ *   FORMAL_PARAMETER            TYPE
+ *   BLOCK                       statement*
+ *   ASSIGNMENT_STATEMENT        IDENTIFIER, expression
+ *   ARRAY_ASSIGNMENT_STATEMENT  ARRAY_LOOKUP (of the IDENTIFIER and the index), expression
+ *   IF_STATEMENT                condition, then statement, else statement
+ *   WHILE_STATEMENT             condition, statement
+ *   PRINT_STATEMENT             expression
+ *   AND_EXPRESSION ... TIMES_EXPRESSION, ARRAY_LOOKUP   left, right
+ *   ARRAY_LENGTH, NOT_EXPRESSION                        expression
+ *   BOOLEAN_ARRAY_ALLOCATION, INTEGER_ARRAY_ALLOCATION  size
+ *   MESSAGE_SEND                object, arguments*
+ * and no children for TYPE and the remaining expressions.
+ */
+public class Tree {
+    public static final byte GOAL = 0;
+    public static final byte MAIN_CLASS = 1;
+    public static final byte CLASS_DECLARATION = 2;
+    public static final byte CLASS_EXTENDS_DECLARATION = 3;
+    public static final byte VAR_DECLARATION = 4;
+    public static final byte METHOD_DECLARATION = 5;
+    public static final byte FORMAL_PARAMETER = 6;
+    public static final byte TYPE = 7;
+    public static final byte BLOCK = 8;
+    public static final byte ASSIGNMENT_STATEMENT = 9;
+    public static final byte ARRAY_ASSIGNMENT_STATEMENT = 10;
+    public static final byte IF_STATEMENT = 11;
+    public static final byte WHILE_STATEMENT = 12;
+    public static final byte PRINT_STATEMENT = 13;
+    public static final byte AND_EXPRESSION = 14;
+    public static final byte COMPARE_EXPRESSION = 15;
+    public static final byte PLUS_EXPRESSION = 16;
+    public static final byte MINUS_EXPRESSION = 17;
+    public static final byte TIMES_EXPRESSION = 18;
+    public static final byte ARRAY_LOOKUP = 19;
+    public static final byte ARRAY_LENGTH = 20;
+    public static final byte MESSAGE_SEND = 21;
+    public static final byte INTEGER_LITERAL = 22;
+    public static final byte TRUE_LITERAL = 23;
+    public static final byte FALSE_LITERAL = 24;
+    public static final byte IDENTIFIER = 25;
+    public static final byte THIS_EXPRESSION = 26;
+    public static final byte BOOLEAN_ARRAY_ALLOCATION = 27;
+    public static final byte INTEGER_ARRAY_ALLOCATION = 28;
+    public static final byte ALLOCATION_EXPRESSION = 29;
+    public static final byte NOT_EXPRESSION = 30;
+
+    //Per node
+    byte[] kinds;
+    int[] names;            //index in nameTable, -1 for none
+    int[] lines;
+    int[] columns;
+    int[] firstChildren;    //index in children of the first child
+    int[] childCounts;
+    int nodeCount;
+
+    int[] children;
+    int childrenSize;
+
+    String[] nameTable;
+    int nameCount;
+
+    int root;
+
+    Tree(){
+        this.kinds = new byte[1024];
+        this.names = new int[1024];
+        this.lines = new int[1024];
+        this.columns = new int[1024];
+        this.firstChildren = new int[1024];
+        this.childCounts = new int[1024];
+        this.children = new int[1024];
+        this.nameTable = new String[256];
+    }
+
+    public int getRoot() { return this.root; }
+    public int getNodeCount() { return this.nodeCount; }
+
+    public byte getKind(int node) { return this.kinds[node]; }
+    public int getLine(int node) { return this.lines[node]; }
+    public int getColumn(int node) { return this.columns[node]; }
+    public int getChildCount(int node) { return this.childCounts[node]; }
+    public int getChild(int node, int index) { return this.children[this.firstChildren[node] + index]; }
+
+    public String getName(int node){
+        int name = this.names[node];
+        return name < 0 ? null : this.nameTable[name];
+    }
+
+    //The index of the first child at or after from that is not of the given kind, e.g. of the
+    //first statement of a method with skipChildren(method, VAR_DECLARATION, first variable)
+    public int skipChildren(int node, byte kind, int from){
+        int count = this.childCounts[node];
+        int first = this.firstChildren[node];
+        while (from < count && this.kinds[this.children[first + from]] == kind)
+            from++;
+        return from;
+    }
+
+    int addName(String name){
+        if (this.nameCount == this.nameTable.length)
+            this.nameTable = Arrays.copyOf(this.nameTable, 2 * this.nameCount);
+        this.nameTable[this.nameCount] = name;
+        return this.nameCount++;
+    }
+
+    //Adds a node whose children are the given range of stack, the nodes added last
+    int addNode(byte kind, int name, int line, int column, int[] stack, int from, int to){
+        if (this.nodeCount == this.kinds.length){
+            int capacity = 2 * this.nodeCount;
+            this.kinds = Arrays.copyOf(this.kinds, capacity);
+            this.names = Arrays.copyOf(this.names, capacity);
+            this.lines = Arrays.copyOf(this.lines, capacity);
+            this.columns = Arrays.copyOf(this.columns, capacity);
+            this.firstChildren = Arrays.copyOf(this.firstChildren, capacity);
+            this.childCounts = Arrays.copyOf(this.childCounts, capacity);
+        }
+        int count = to - from;
+        if (this.childrenSize + count > this.children.length)
+            this.children = Arrays.copyOf(this.children, Math.max(2 * this.children.length, this.childrenSize + count));
+        System.arraycopy(stack, from, this.children, this.childrenSize, count);
+
+        int node = this.nodeCount++;
+        this.kinds[node] = kind;
+        this.names[node] = name;
+        this.lines[node] = line;
+        this.columns[node] = column;
+        this.firstChildren[node] = this.childrenSize;
+        this.childCounts[node] = count;
+        this.childrenSize += count;
+        return node;
+    }
+
+    //Drops the room left by growing the arrays
+    void trim(){
+        this.kinds = Arrays.copyOf(this.kinds, this.nodeCount);
+        this.names = Arrays.copyOf(this.names, this.nodeCount);
+        this.lines = Arrays.copyOf(this.lines, this.nodeCount);
+        this.columns = Arrays.copyOf(this.columns, this.nodeCount);
+        this.firstChildren = Arrays.copyOf(this.firstChildren, this.nodeCount);
+        this.childCounts = Arrays.copyOf(this.childCounts, this.nodeCount);
+        this.children = Arrays.copyOf(this.children, this.childrenSize);
+        this.nameTable = Arrays.copyOf(this.nameTable, this.nameCount);
+    }
+}
@@ -0,0 +1,97 @@
+package AST;
+
+/*
+ * A walk over a Tree, as GJDepthFirst is over the syntaxtree: visit calls the method of
+ * the kind of the node, and every method visits the children of its node in order
+ * unless overridden.
+ */
+public abstract class TreeVisitor<R> {
+    protected Tree tree;
+
+    protected TreeVisitor(Tree tree){
+        this.tree = tree;
+    }
+
+    public Tree getTree() { return this.tree; }
+
+    public R visit(int n) throws Exception {
+        switch(this.tree.getKind(n)){
+            case Tree.GOAL: return this.visitGoal(n);
+            case Tree.MAIN_CLASS: return this.visitMainClass(n);
+            case Tree.CLASS_DECLARATION: return this.visitClassDeclaration(n);
+            case Tree.CLASS_EXTENDS_DECLARATION: return this.visitClassExtendsDeclaration(n);
+            case Tree.VAR_DECLARATION: return this.visitVarDeclaration(n);
+            case Tree.METHOD_DECLARATION: return this.visitMethodDeclaration(n);
+            case Tree.FORMAL_PARAMETER: return this.visitFormalParameter(n);
+            case Tree.TYPE: return this.visitType(n);
+            case Tree.BLOCK: return this.visitBlock(n);
+            case Tree.ASSIGNMENT_STATEMENT: return this.visitAssignmentStatement(n);
+            case Tree.ARRAY_ASSIGNMENT_STATEMENT: return this.visitArrayAssignmentStatement(n);
+            case Tree.IF_STATEMENT: return this.visitIfStatement(n);
+            case Tree.WHILE_STATEMENT: return this.visitWhileStatement(n);
+            case Tree.PRINT_STATEMENT: return this.visitPrintStatement(n);
+            case Tree.AND_EXPRESSION: return this.visitAndExpression(n);
+            case Tree.COMPARE_EXPRESSION: return this.visitCompareExpression(n);
+            case Tree.PLUS_EXPRESSION: return this.visitPlusExpression(n);
+            case Tree.MINUS_EXPRESSION: return this.visitMinusExpression(n);
+            case Tree.TIMES_EXPRESSION: return this.visitTimesExpression(n);
+            case Tree.ARRAY_LOOKUP: return this.visitArrayLookup(n);
+            case Tree.ARRAY_LENGTH: return this.visitArrayLength(n);
+            case Tree.MESSAGE_SEND: return this.visitMessageSend(n);
+            case Tree.INTEGER_LITERAL: return this.visitIntegerLiteral(n);
+            case Tree.TRUE_LITERAL: return this.visitTrueLiteral(n);
+            case Tree.FALSE_LITERAL: return this.visitFalseLiteral(n);
+            case Tree.IDENTIFIER: return this.visitIdentifier(n);
+            case Tree.THIS_EXPRESSION: return this.visitThisExpression(n);
+            case Tree.BOOLEAN_ARRAY_ALLOCATION: return this.visitBooleanArrayAllocation(n);
+            case Tree.INTEGER_ARRAY_ALLOCATION: return this.visitIntegerArrayAllocation(n);
+            case Tree.ALLOCATION_EXPRESSION: return this.visitAllocationExpression(n);
+            case Tree.NOT_EXPRESSION: return this.visitNotExpression(n);
+            default: throw new IllegalStateException("Unknown node kind " + this.tree.getKind(n));
+        }
+    }
+
+    //Visits the children from index from up to, not including, index to
+    public void visitChildren(int n, int from, int to) throws Exception {
+        for (int i = from; i < to; i++){
+            this.visit(this.tree.getChild(n, i));
+        }
+    }
+
+    public R visitChildren(int n) throws Exception {
+        this.visitChildren(n, 0, this.tree.getChildCount(n));
+        return null;
+    }
+
+    public R visitGoal(int n) throws Exception { return this.visitChildren(n); }
+    public R visitMainClass(int n) throws Exception { return this.visitChildren(n); }
+    public R visitClassDeclaration(int n) throws Exception { return this.visitChildren(n); }
+    public R visitClassExtendsDeclaration(int n) throws Exception { return this.visitChildren(n); }
+    public R visitVarDeclaration(int n) throws Exception { return this.visitChildren(n); }
+    public R visitMethodDeclaration(int n) throws Exception { return this.visitChildren(n); }
+    public R visitFormalParameter(int n) throws Exception { return this.visitChildren(n); }
+    public R visitType(int n) throws Exception { return this.visitChildren(n); }
+    public R visitBlock(int n) throws Exception { return this.visitChildren(n); }
+    public R visitAssignmentStatement(int n) throws Exception { return this.visitChildren(n); }
+    public R visitArrayAssignmentStatement(int n) throws Exception { return this.visitChildren(n); }
+    public R visitIfStatement(int n) throws Exception { return this.visitChildren(n); }
+    public R visitWhileStatement(int n) throws Exception { return this.visitChildren(n); }
+    public R visitPrintStatement(int n) throws Exception { return this.visitChildren(n); }
+    public R visitAndExpression(int n) throws Exception { return this.visitChildren(n); }
+    public R visitCompareExpression(int n) throws Exception { return this.visitChildren(n); }
+    public R visitPlusExpression(int n) throws Exception { return this.visitChildren(n); }
+    public R visitMinusExpression(int n) throws Exception { return this.visitChildren(n); }
+    public R visitTimesExpression(int n) throws Exception { return this.visitChildren(n); }
+    public R visitArrayLookup(int n) throws Exception { return this.visitChildren(n); }
+    public R visitArrayLength(int n) throws Exception { return this.visitChildren(n); }
+    public R visitMessageSend(int n) throws Exception { return this.visitChildren(n); }
+    public R visitIntegerLiteral(int n) throws Exception { return this.visitChildren(n); }
+    public R visitTrueLiteral(int n) throws Exception { return this.visitChildren(n); }
+    public R visitFalseLiteral(int n) throws Exception { return this.visitChildren(n); }
+    public R visitIdentifier(int n) throws Exception { return this.visitChildren(n); }
+    public R visitThisExpression(int n) throws Exception { return this.visitChildren(n); }
+    public R visitBooleanArrayAllocation(int n) throws Exception { return this.visitChildren(n); }
+    public R visitIntegerArrayAllocation(int n) throws Exception { return this.visitChildren(n); }
+    public R visitAllocationExpression(int n) throws Exception { return this.visitChildren(n); }
+    public R visitNotExpression(int n) throws Exception { return this.visitChildren(n); }
+}
@@ -0,0 +1,249 @@
+import syntaxtree.*;
+
+import java.io.FileInputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import AST.Lowering;
+import AST.Tree;
+import IR.Function;
+import IR.IRPrinter;
+import SymbolTables.GlobalSymbolTable;
+
+/*
+ * Measures every phase of the compiler on its own, in the way of a JMH average-time
+ * benchmark: each phase gets warmup and measured iterations, and the state it starts
+ * from (source bytes, AST, filled symbol table, ...) is rebuilt by running the earlier
+ * phases outside the timed region. The corpus input compiles all the given files in
+ * one operation, synthetic inputs are single programs from ProgramGenerator.
+ *
+ * The scaling mode compiles generated programs of growing size and reports the best
+ * time and the peak heap of every phase, and how much the time grew from the previous
+ * size: about 2 when the size doubles means linear, about 4 quadratic.
+ *
+ * With --single-pass the type checks run within codegen, as in Main --single-pass, and
+ * the typecheck phase does nothing. --parallel-typecheck checks the method bodies on the
+ * common ForkJoinPool, --parallel-codegen generates the functions on it.
+ */
+public class Benchmark {
+    static final String[] PHASES = {"parse", "lower", "symbols", "typecheck", "offsets", "codegen", "print"};
+    static final PrintStream NULL_STREAM = new PrintStream(OutputStream.nullOutputStream());
+
+    static int warmupIterations = 5;
+    static int measuredIterations = 10;
+    static boolean singlePass = false;
+    static boolean parallelTypeCheck = false;
+    static boolean parallelCodeGen = false;
+    static Object blackhole;    //keeps the results of the measured phase alive
+
+    public static void main(String[] args) throws Exception {
+        List<String> inputFiles = new ArrayList<String>();
+        List<Integer> syntheticSizes = new ArrayList<Integer>();
+        List<Integer> scalingSizes = new ArrayList<Integer>();
+        for (int i = 0; i < args.length; i++){
+            if (args[i].equals("--warmup") && i + 1 < args.length)
+                warmupIterations = Integer.parseInt(args[++i]);
+            else if (args[i].equals("--iterations") && i + 1 < args.length)
+                measuredIterations = Integer.parseInt(args[++i]);
+            else if (args[i].equals("--single-pass"))
+                singlePass = true;
+            else if (args[i].equals("--parallel-typecheck"))
+                parallelTypeCheck = true;
+            else if (args[i].equals("--parallel-codegen"))
+                parallelCodeGen = true;
+            else if (args[i].equals("--synthetic") && i + 1 < args.length)
+                syntheticSizes.add(Integer.parseInt(args[++i]));
+            else if (args[i].equals("--scaling") && i + 1 < args.length){
+                for (String size : args[++i].split(","))
+                    scalingSizes.add(Integer.parseInt(size));
+            }
+            else
+                inputFiles.add(args[i]);
+        }
+        if (!scalingSizes.isEmpty()){
+            measureScaling(scalingSizes);
+            return;
+        }
+        if (inputFiles.isEmpty() && syntheticSizes.isEmpty()){
+            System.err.println("Usage: java Benchmark [--warmup N] [--iterations N] [--single-pass] [--parallel-typecheck] [--parallel-codegen] [--synthetic <classes>]... <inputFile1> <inputFile2> ...");
+            System.err.println("       java Benchmark [--warmup N] [--iterations N] [--single-pass] [--parallel-typecheck] [--parallel-codegen] --scaling <classes1>,<classes2>,...");
+            System.exit(1);
+        }
+
+        Map<String, List<byte[]>> inputs = new LinkedHashMap<String, List<byte[]>>();
+        if (!inputFiles.isEmpty()){
+            List<byte[]> corpus = new ArrayList<byte[]>();
+            for (String inputFile : inputFiles){
+                try (FileInputStream fis = new FileInputStream(inputFile)){
+                    corpus.add(fis.readAllBytes());
+                }
+            }
+            inputs.put("corpus(" + corpus.size() + ")", corpus);
+        }
+        for (int classes : syntheticSizes){
+            inputs.put("synthetic(" + classes + ")", List.of(new ProgramGenerator(classes, 5, 4, 3, 3).generate(0).getBytes()));
+        }
+
+        System.out.println(String.format("%-10s %-16s %5s %12s    %10s  %s", "Phase", "Input", "Cnt", "Score", "Stdev", "Units"));
+        for (Map.Entry<String, List<byte[]>> input : inputs.entrySet()){
+            for (int phase = 0; phase < PHASES.length; phase++){
+                double[] samples = measure(phase, input.getValue());
+                double mean = 0, variance = 0;
+                for (double sample : samples) mean += sample / samples.length;
+                for (double sample : samples) variance += (sample - mean) * (sample - mean) / Math.max(1, samples.length - 1);
+                System.out.println(String.format("%-10s %-16s %5d %12.3f +- %10.3f  ms/op",
+                                    PHASES[phase], input.getKey(), samples.length, mean, Math.sqrt(variance)));
+            }
+        }
+    }
+
+    //The state each phase leaves for the next one
+    static class Pipeline {
+        byte[] source;
+        Goal root;
+        Tree tree;
+        GlobalSymbolTable symbolTable;
+        LLVMGeneratingVisitor codeGen;
+
+        Pipeline(byte[] source){
+            this.source = source;
+        }
+
+        void run(int phase) throws Exception {
+            switch(PHASES[phase]){
+                case "parse":
+                    this.root = SourceCharStream.parser(this.source).Goal();
+                    break;
+                case "lower":
+                    this.tree = Lowering.lower(this.root);
+                    this.root = null;   //as in Main, only the Tree is kept
+                    break;
+                case "symbols":
+                    this.symbolTable = new GlobalSymbolTable();
+                    new SymbolTableVisitor(this.tree, this.symbolTable).visit(this.tree.getRoot());
+                    break;
+                case "typecheck":
+                    if (parallelTypeCheck)
+                        TypeCheckVisitor.checkInParallel(this.tree, this.symbolTable, ForkJoinPool.commonPool(), false);
+                    else if (!singlePass)
+                        new TypeCheckVisitor(this.tree, this.symbolTable).visit(this.tree.getRoot());
+                    break;
+                case "offsets":
+                    this.symbolTable.calculateOffsets(NULL_STREAM, false);
+                    break;
+                case "codegen":
+                    this.codeGen = new LLVMGeneratingVisitor(this.tree, this.symbolTable, false, "word", singlePass);
+                    if (parallelCodeGen)
+                        this.codeGen.generateInParallel(ForkJoinPool.commonPool());
+                    else
+                        this.codeGen.visit(this.tree.getRoot());
+                    break;
+                case "print":
+                    PrintWriter writer = new PrintWriter(Writer.nullWriter());
+                    IRPrinter printer = new IRPrinter(writer);
+                    printer.printHeader(this.codeGen.getModule());
+                    for (Function function : this.codeGen.getModule().getFunctions()){
+                        printer.printFunction(function);
+                    }
+                    writer.flush();
+                    break;
+            }
+        }
+    }
+
+    //Milliseconds per operation of each measured iteration
+    static double[] measure(int phase, List<byte[]> sources) throws Exception {
+        double[] samples = new double[measuredIterations];
+        for (int iteration = -warmupIterations; iteration < measuredIterations; iteration++){
+            List<Pipeline> pipelines = new ArrayList<Pipeline>();
+            for (byte[] source : sources){
+                Pipeline pipeline = new Pipeline(source);
+                for (int earlier = 0; earlier < phase; earlier++){
+                    pipeline.run(earlier);
+                }
+                pipelines.add(pipeline);
+            }
+
+            long start = System.nanoTime();
+            for (Pipeline pipeline : pipelines){
+                pipeline.run(phase);
+            }
+            long elapsed = System.nanoTime() - start;
+            blackhole = pipelines;
+            if (iteration >= 0)
+                samples[iteration] = elapsed / 1e6;
+        }
+        return samples;
+    }
+
+    static void measureScaling(List<Integer> sizes) throws Exception {
+        ProgramGenerator generator = new ProgramGenerator();
+        generator.classes = sizes.get(0);
+        byte[] warmupSource = generator.generate(0).getBytes();
+        for (int iteration = 0; iteration < warmupIterations; iteration++){
+            Pipeline pipeline = new Pipeline(warmupSource);
+            for (int phase = 0; phase < PHASES.length; phase++){
+                pipeline.run(phase);
+            }
+        }
+
+        System.out.println(String.format("%-10s %8s %9s %12s %14s %8s", "Phase", "Classes", "Lines", "Best ms", "Peak heap MB", "Growth"));
+        double[] previous = null;
+        for (int classes : sizes){
+            generator.classes = classes;
+            String program = generator.generate(0);
+            long lines = program.chars().filter(c -> c == '\n').count();
+
+            double[] best = new double[PHASES.length];
+            long[] peakHeap = new long[PHASES.length];
+            Arrays.fill(best, Double.MAX_VALUE);
+            for (int iteration = 0; iteration < measuredIterations; iteration++){
+                Pipeline pipeline = new Pipeline(program.getBytes());
+                for (int phase = 0; phase < PHASES.length; phase++){
+                    System.gc();
+                    resetPeakHeap();
+                    long start = System.nanoTime();
+                    pipeline.run(phase);
+                    best[phase] = Math.min(best[phase], (System.nanoTime() - start) / 1e6);
+                    peakHeap[phase] = Math.max(peakHeap[phase], peakHeap());
+                }
+                blackhole = pipeline;
+            }
+
+            for (int phase = 0; phase < PHASES.length; phase++){
+                String growth = previous == null ? "" : String.format("%.2fx", best[phase] / previous[phase]);
+                System.out.println(String.format("%-10s %8d %9d %12.3f %14.1f %8s",
+                                    PHASES[phase], classes, lines, best[phase], peakHeap[phase] / 1048576.0, growth));
+            }
+            previous = best;
+        }
+    }
+
+    static void resetPeakHeap(){
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()){
+            if (pool.getType() == MemoryType.HEAP)
+                pool.resetPeakUsage();
+        }
+    }
+
+    //Sum of the peaks of the heap pools, which may not have peaked at the same time
+    static long peakHeap(){
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()){
+            if (pool.getType() == MemoryType.HEAP)
+                peak += pool.getPeakUsage().getUsed();
+        }
+        return peak;
+    }
+}
@@ -0,0 +1,73 @@
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+
+/*
+ * On-disk cache of compiler results, keyed by a hash of the source bytes, the
+ * compiler version and the code generation options. A hit restores the .ll file
+ * and replays the console output (offset report included) without parsing, type
+ * checking or generating code.
+ * Only successful compilations are cached.
+ */
+public class BuildCache {
+    //Bump whenever the generated code or the printed report changes
+    static final String COMPILER_VERSION = "5";
+
+    Path directory;
+
+    BuildCache(String directory) throws IOException {
+        this.directory = Path.of(directory);
+        Files.createDirectories(this.directory);
+    }
+
+    String key(byte[] source) throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        digest.update(COMPILER_VERSION.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte)0);
+        digest.update(Main.codeGenerationOptions().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte)0);
+        digest.update(source);
+        StringBuilder key = new StringBuilder();
+        for (byte b : digest.digest()){
+            key.append(String.format("%02x", b));
+        }
+        return key.toString();
+    }
+
+    public boolean restore(byte[] source, String llvmFileName, PrintStream out, PrintStream err) throws Exception {
+        String key = key(source);
+        Path llvmFile = this.directory.resolve(key + ".ll");
+        Path outFile = this.directory.resolve(key + ".out");
+        Path errFile = this.directory.resolve(key + ".err");
+        if (!Files.exists(llvmFile) || !Files.exists(outFile) || !Files.exists(errFile))
+            return false;
+
+        try{
+            Files.copy(llvmFile, Path.of(llvmFileName), StandardCopyOption.REPLACE_EXISTING);
+            err.print(Files.readString(errFile));
+            out.print(Files.readString(outFile));
+        }
+        catch(IOException ex){
+            return false;
+        }
+        return true;
+    }
+
+    public void store(byte[] source, String llvmFileName, CompileResult result) throws Exception {
+        String key = key(source);
+        //Write to temporary files first, parallel jobs may store the same key
+        storeFile(key + ".ll", Files.readAllBytes(Path.of(llvmFileName)));
+        storeFile(key + ".out", result.out.toByteArray());
+        storeFile(key + ".err", result.err.toByteArray());
+    }
+
+    void storeFile(String name, byte[] data) throws IOException {
+        Path temp = Files.createTempFile(this.directory, name, ".tmp");
+        Files.write(temp, data);
+        Files.move(temp, this.directory.resolve(name), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
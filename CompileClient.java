@@ -0,0 +1,69 @@
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.util.List;
+
+/*
+ * Thin client for CompileServer. Sends the input files as one batch, replays the
+ * compiler output on the local console and writes test_results.txt like Main does.
+ */
+public class CompileClient {
+    Path socketPath;
+
+    CompileClient(String socketPath){
+        this.socketPath = Path.of(socketPath);
+    }
+
+    //Returns false if the server closed the connection before the batch was done
+    public boolean compile(List<String> inputFiles) throws Exception {
+        try (SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX)){
+            channel.connect(UnixDomainSocketAddress.of(this.socketPath));
+            BufferedReader reader = new BufferedReader(new InputStreamReader(Channels.newInputStream(channel)));
+            PrintWriter requestWriter = new PrintWriter(Channels.newOutputStream(channel));
+
+            //The server may run in another directory
+            for (String inputFile : inputFiles){
+                requestWriter.println("compile " + new File(inputFile).getAbsolutePath());
+            }
+            requestWriter.println();
+            requestWriter.flush();
+
+            PrintWriter writer = new PrintWriter("test_results.txt");
+            int fileIndex = 0;
+            String line;
+            while ((line = reader.readLine()) != null && !line.equals("done")){
+                if (line.startsWith("out "))
+                    System.out.println(line.substring(4));
+                else if (line.startsWith("err "))
+                    System.err.println(line.substring(4));
+                else if (line.startsWith("result ")){
+                    String result = line.substring(7);
+                    if (!result.equals("Missing"))
+                        writer.println(result + ": " + inputFiles.get(fileIndex));
+                    fileIndex++;
+                }
+            }
+            writer.close();
+            if (line == null){
+                System.err.println("The compile server closed the connection after " + fileIndex + " of " + inputFiles.size() + " files");
+                return false;
+            }
+            return true;
+        }
+    }
+
+    public static void stop(String socketPath) throws Exception {
+        try (SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX)){
+            channel.connect(UnixDomainSocketAddress.of(Path.of(socketPath)));
+            PrintWriter requestWriter = new PrintWriter(Channels.newOutputStream(channel));
+            requestWriter.println("shutdown");
+            requestWriter.flush();
+        }
+    }
+}
@@ -0,0 +1,8 @@
+import java.io.ByteArrayOutputStream;
+
+//The outcome and console output of one compilation, kept to print as a group or to send and cache
+class CompileResult {
+    Boolean success;
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ByteArrayOutputStream err = new ByteArrayOutputStream();
+}
@@ -0,0 +1,132 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.AsynchronousCloseException;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/*
+ * Long-lived compiler listening on a UNIX domain socket, so the parser and visitor
+ * classes are loaded and JIT-compiled once instead of on every invocation.
+ *
+ * Requests are lines of text:
+ *      compile <absolute path>     (one line per file, ended by an empty line)
+ *      shutdown
+ * For every file the server answers with the lines the compiler printed, prefixed
+ * by "out " or "err ", followed by "result Success|Failed|Missing".
+ * A batch is closed with "done".
+ */
+public class CompileServer {
+    Path socketPath;
+    ServerSocketChannel server;
+    ExecutorService connectionPool;
+    ExecutorService compilePool;
+
+    CompileServer(String socketPath){
+        this.socketPath = Path.of(socketPath);
+        this.connectionPool = Executors.newCachedThreadPool();
+        this.compilePool = Executors.newFixedThreadPool(Main.jobs);
+    }
+
+    public void run() throws Exception {
+        Files.deleteIfExists(this.socketPath);
+        this.server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        this.server.bind(UnixDomainSocketAddress.of(this.socketPath));
+        System.err.println("Compile server listening on " + this.socketPath);
+
+        try{
+            while (true){
+                SocketChannel client = this.server.accept();
+                this.connectionPool.submit(() -> serve(client));
+            }
+        }
+        catch(AsynchronousCloseException ex){
+            //Closed by a shutdown request
+        }
+        finally{
+            this.connectionPool.shutdown();
+            this.compilePool.shutdown();
+            Files.deleteIfExists(this.socketPath);
+        }
+    }
+
+    Void serve(SocketChannel client) throws Exception {
+        try (client){
+            BufferedReader reader = new BufferedReader(new InputStreamReader(Channels.newInputStream(client)));
+            PrintWriter writer = new PrintWriter(Channels.newOutputStream(client));
+            List<String> batch = new ArrayList<String>();
+            String line;
+            while ((line = reader.readLine()) != null){
+                if (line.startsWith("compile "))
+                    batch.add(line.substring(8));
+                else if (line.isEmpty()){
+                    compileBatch(batch, writer);
+                    batch.clear();
+                }
+                else if (line.equals("shutdown")){
+                    this.server.close();
+                    break;
+                }
+                else{
+                    writer.println("err Unknown request '" + line + "'");
+                    writer.flush();
+                }
+            }
+        }
+        catch(Exception ex){
+            System.err.println(ex.getMessage());
+        }
+        return null;
+    }
+
+    void compileBatch(List<String> inputFiles, PrintWriter writer) throws Exception {
+        List<Future<CompileResult>> results = new ArrayList<Future<CompileResult>>();
+        for (String inputFile : inputFiles){
+            results.add(this.compilePool.submit(() -> Main.compileBuffered(inputFile)));
+        }
+
+        for (Future<CompileResult> future : results){
+            CompileResult result;
+            try{
+                result = future.get();
+            }
+            catch(ExecutionException ex){
+                //Still answer for the file, so the client gets every result and the "done" of the batch
+                result = new CompileResult();
+                result.success = false;
+                new PrintStream(result.out, true).println(ex.getCause().getMessage());
+            }
+            sendLines("err ", result.err.toString(), writer);
+            sendLines("out ", result.out.toString(), writer);
+            if (result.success == null)
+                writer.println("result Missing");
+            else
+                writer.println("result " + (result.success ? "Success" : "Failed"));
+            writer.flush();
+        }
+        writer.println("done");
+        writer.flush();
+    }
+
+    void sendLines(String prefix, String text, PrintWriter writer) throws IOException {
+        BufferedReader reader = new BufferedReader(new StringReader(text));
+        String line;
+        while ((line = reader.readLine()) != null){
+            writer.println(prefix + line);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import AST.Tree;
+import IR.BasicBlock;
+import IR.Function;
+
+/*
+ * Wall time, CPU time and allocated bytes of every phase of one compilation, and the
+ * size of its AST and IR, written as one JSON line per file for --stats. CPU time and
+ * allocations are those of the compiling thread, so the work --parallel-typecheck and
+ * --parallel-codegen hand to the pool shows only in the wall time. A phase that runs
+ * again and again, as codegen and print do for every function, is recorded as its total.
+ *
+ * A disabled instance measures nothing, so the compiler can record its phases either way.
+ */
+public class CompileStats {
+    static final com.sun.management.ThreadMXBean THREADS =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    String fileName;
+    boolean enabled;
+    Map<String, long[]> phases;     //phase -> total {wall ns, cpu ns, allocated bytes}, in the order they first ran
+    Map<String, Long> sizes;        //e.g. "ast_tokens" -> count
+
+    String phase;                   //the phase running, null between phases
+    long wallStart, cpuStart, allocatedStart;
+
+    CompileStats(String fileName, boolean enabled){
+        this.fileName = fileName;
+        this.enabled = enabled;
+        this.phases = new LinkedHashMap<String, long[]>();
+        this.sizes = new LinkedHashMap<String, Long>();
+    }
+
+    void begin(String phase){
+        if (!this.enabled) return;
+        this.end();
+        this.phase = phase;
+        this.wallStart = System.nanoTime();
+        this.cpuStart = THREADS.getCurrentThreadCpuTime();
+        this.allocatedStart = THREADS.getCurrentThreadAllocatedBytes();
+    }
+
+    //Ends the running phase, if any. A phase that failed is recorded up to its error
+    void end(){
+        if (!this.enabled || this.phase == null) return;
+        long[] measured = {System.nanoTime() - this.wallStart,
+                           THREADS.getCurrentThreadCpuTime() - this.cpuStart,
+                           THREADS.getCurrentThreadAllocatedBytes() - this.allocatedStart};
+        this.phases.merge(this.phase, measured, (total, more) -> new long[]{total[0] + more[0], total[1] + more[1], total[2] + more[2]});
+        this.phase = null;
+    }
+
+    void countAst(Tree tree){
+        if (!this.enabled) return;
+        this.sizes.put("ast_nodes", (long) tree.getNodeCount());
+    }
+
+    //Adds a function as written to the IR sizes
+    void countIr(Function function){
+        if (!this.enabled) return;
+        this.sizes.merge("ir_functions", 1L, Long::sum);
+        for (BasicBlock block : function.getBlocks()){
+            this.sizes.merge("ir_blocks", 1L, Long::sum);
+            this.sizes.merge("ir_instructions", (long) block.getInstructions().size(), Long::sum);
+        }
+    }
+
+    //Writes the record, whole lines only, as several compilations may share the writer
+    void report(PrintWriter writer, boolean success, boolean cached){
+        if (!this.enabled) return;
+        this.end();
+        StringBuilder json = new StringBuilder("{\"file\":\"");
+        for (char c : this.fileName.toCharArray()){
+            if (c == '"' || c == '\\')
+                json.append('\\').append(c);
+            else if (c < 0x20)
+                json.append(String.format("\\u%04x", (int) c));
+            else
+                json.append(c);
+        }
+        json.append("\",\"success\":").append(success).append(",\"cached\":").append(cached);
+        for (Map.Entry<String, Long> size : this.sizes.entrySet()){
+            json.append(",\"").append(size.getKey()).append("\":").append(size.getValue());
+        }
+        json.append(",\"phases\":{");
+        String separator = "";
+        for (Map.Entry<String, long[]> phase : this.phases.entrySet()){
+            long[] measured = phase.getValue();
+            json.append(separator).append("\"").append(phase.getKey()).append("\":{\"wall_ns\":").append(measured[0])
+                .append(",\"cpu_ns\":").append(measured[1]).append(",\"allocated_bytes\":").append(measured[2]).append("}");
+            separator = ",";
+        }
+        json.append("}}");
+        synchronized (writer){
+            writer.println(json);
+            writer.flush();
+        }
+    }
+}
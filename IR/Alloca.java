@@ -0,0 +1,12 @@
+package IR;
+
+public class Alloca extends Instruction {
+    String allocatedType;
+
+    public Alloca(Register result, String allocatedType){
+        super(result);
+        this.allocatedType = allocatedType;
+    }
+
+    public String getAllocatedType() { return this.allocatedType; }
+}
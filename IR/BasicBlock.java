@@ -0,0 +1,36 @@
+package IR;
+import java.util.ArrayList;
+import java.util.List;
+
+public class BasicBlock {
+    String label;
+    List<Instruction> instructions;
+    Function parent;
+
+    public BasicBlock(String label){
+        this.label = label;
+        this.instructions = new ArrayList<Instruction>();
+    }
+
+    public String getLabel() { return this.label; }
+    public List<Instruction> getInstructions() { return this.instructions; }
+    public Function getParent() { return this.parent; }
+
+    public void add(Instruction instruction){
+        instruction.parent = this;
+        this.instructions.add(instruction);
+    }
+
+    public Instruction getTerminator(){
+        if (this.instructions.isEmpty()) return null;
+        Instruction last = this.instructions.get(this.instructions.size() - 1);
+        return last.isTerminator() ? last : null;
+    }
+
+    public List<BasicBlock> getSuccessors(){
+        Instruction terminator = this.getTerminator();
+        if (terminator instanceof Branch)
+            return ((Branch) terminator).getTargets();
+        return List.of();
+    }
+}
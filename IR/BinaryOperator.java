@@ -0,0 +1,13 @@
+package IR;
+
+//add, sub, mul, xor
+public class BinaryOperator extends Instruction {
+    String opcode;
+
+    public BinaryOperator(Register result, String opcode, Value lhs, Value rhs){
+        super(result, lhs, rhs);
+        this.opcode = opcode;
+    }
+
+    public String getOpcode() { return this.opcode; }
+}
@@ -0,0 +1,377 @@
+package IR;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/*
+ * Removes array bounds checks whose index is proven to be in range by the conditions
+ * that dominate them, e.g. the check of arr[j] inside while (j < arr.length) when j
+ * starts at a non negative value and only grows by one. A check is recognized by its
+ * shape: br (icmp ult index, length), ok, error where length is loaded from the array
+ * and the error block only calls throw_oob.
+ *
+ * Expects SSA form (Mem2Reg), otherwise loop counters are reloaded from their allocas
+ * and nothing can be said about them.
+ */
+public class BoundsCheckElimination {
+    Function function;
+    DominatorTree dominatorTree;
+    Map<Value, Instruction> definitions;
+    Map<Value, String> keys;
+    Set<String> storedFields;
+    boolean callsUnknownCode;
+    int eliminated;
+
+    //What the comparisons in force on entry to each block tell, filled by collectFacts
+    Set<BasicBlock> checksBelowLength;      //checks whose index is known ult the length of their array
+    Set<BasicBlock> checksAgainstLength;    //checks whose index is known less than that length, signed or not
+    Set<Value> boundedDefinitions;          //values known ult something where they are defined
+    Set<Instruction> boundedIncrements;     //adds whose non constant operand is known signed less than something
+
+    //Returns the number of checks removed
+    public int run(Function function){
+        this.function = function;
+        this.eliminated = 0;
+        Mem2Reg.removeUnreachableBlocks(function);
+        this.dominatorTree = new DominatorTree(function);
+        this.analyzeDefinitions();
+        this.collectFacts();
+
+        List<BasicBlock> redundant = new ArrayList<BasicBlock>();
+        for (BasicBlock block : this.dominatorTree.getReversePostOrder()){
+            if (this.isBoundsCheck(block) && this.isProvenInBounds(block))
+                redundant.add(block);
+        }
+        for (BasicBlock block : redundant){
+            Branch check = (Branch) block.getTerminator();
+            BasicBlock ok = check.getTargets().get(0);
+            BasicBlock error = check.getTargets().get(1);
+            block.getInstructions().remove(check);
+            block.add(new Branch(ok));
+            function.getBlocks().remove(error);
+            this.eliminated++;
+        }
+        if (this.eliminated > 0){
+            removeDeadInstructions(function);
+            mergeStraightLineBlocks(function);
+        }
+        return this.eliminated;
+    }
+
+    void analyzeDefinitions(){
+        this.definitions = new IdentityHashMap<Value, Instruction>();
+        this.keys = new IdentityHashMap<Value, String>();
+        this.storedFields = new HashSet<String>();
+        this.callsUnknownCode = false;
+        for (BasicBlock block : this.function.getBlocks()){
+            for (Instruction instruction : block.getInstructions()){
+                if (instruction.getResult() != null)
+                    this.definitions.put(instruction.getResult(), instruction);
+                if (instruction instanceof Call && !isRuntimeFunction(((Call) instruction).getCallee()))
+                    this.callsUnknownCode = true;
+            }
+        }
+        for (BasicBlock block : this.function.getBlocks()){
+            for (Instruction instruction : block.getInstructions()){
+                if (!(instruction instanceof Store)) continue;
+                String field = this.fieldOf(instruction.getOperand(1));
+                if (field != null)
+                    this.storedFields.add(field);
+            }
+        }
+    }
+
+    static boolean isRuntimeFunction(Value callee){
+        String name = callee.getName();
+        return name.equals("@calloc") || name.equals("@print_int") || name.equals("@throw_oob");
+    }
+
+    //"this+<offset>" for a pointer to a field of this, null otherwise
+    String fieldOf(Value pointer){
+        Instruction definition = this.definitions.get(pointer);
+        if (definition instanceof Cast)
+            definition = this.definitions.get(((Cast) definition).getValue());
+        if (!(definition instanceof GetElementPtr)) return null;
+        GetElementPtr gep = (GetElementPtr) definition;
+        if (!gep.getPointer().getName().equals("%this") || gep.getOperands().size() != 2
+                || !(gep.getOperand(1) instanceof Constant))
+            return null;
+        return "this+" + gep.getOperand(1).getName();
+    }
+
+    /*
+     * Values with the same key are equal wherever both are defined: constants, the same
+     * register, the same arithmetic or cast of equal values, or a field that the function never
+     * writes and that no method it calls could write.
+     */
+    String key(Value value){
+        String key = this.keys.get(value);
+        if (key != null) return key;
+        Instruction definition = this.definitions.get(value);
+        if (value instanceof Constant)
+            key = "#" + value.getName();
+        else if (definition instanceof BinaryOperator)
+            key = "(" + ((BinaryOperator) definition).getOpcode() + " " + this.key(definition.getOperand(0))
+                    + " " + this.key(definition.getOperand(1)) + ")";
+        else if (definition instanceof Cast)
+            key = "(" + ((Cast) definition).getOpcode() + " " + this.key(definition.getOperand(0)) + ")";
+        else if (definition instanceof Load && this.isInvariantField(definition.getOperand(0)))
+            key = this.fieldOf(definition.getOperand(0));
+        else
+            key = value.getName();
+        this.keys.put(value, key);
+        return key;
+    }
+
+    boolean isInvariantField(Value pointer){
+        String field = this.fieldOf(pointer);
+        return field != null && !this.callsUnknownCode && !this.storedFields.contains(field);
+    }
+
+    //The array whose length the value is, or null. Allocas and field addresses hold ints, not arrays.
+    Value lengthOf(Value value){
+        Instruction definition = this.definitions.get(value);
+        if (!(definition instanceof Load)) return null;
+        Value array = definition.getOperand(0);
+        if (!array.getType().equals("i32*")) return null;
+        Instruction arrayDefinition = this.definitions.get(array);
+        if (arrayDefinition instanceof Alloca || arrayDefinition instanceof GetElementPtr
+                || this.fieldOf(array) != null)
+            return null;
+        return array;
+    }
+
+    boolean isErrorBlock(BasicBlock block, BasicBlock ok){
+        List<Instruction> instructions = block.getInstructions();
+        if (instructions.size() != 2 || !(instructions.get(0) instanceof Call)) return false;
+        Call call = (Call) instructions.get(0);
+        if (!call.getCallee().getName().equals("@throw_oob")) return false;
+        return block.getSuccessors().equals(List.of(ok)) && this.dominatorTree.getPredecessors(block).size() == 1;
+    }
+
+    boolean isBoundsCheck(BasicBlock block){
+        ICmp condition = this.conditionOf(block);
+        if (condition == null || !condition.getPredicate().equals("ult")) return false;
+        if (this.lengthOf(condition.getOperand(1)) == null) return false;
+        List<BasicBlock> targets = block.getSuccessors();
+        return this.isErrorBlock(targets.get(1), targets.get(0));
+    }
+
+    ICmp conditionOf(BasicBlock block){
+        Instruction terminator = block.getTerminator();
+        if (!(terminator instanceof Branch) || !((Branch) terminator).isConditional()) return null;
+        Instruction definition = this.definitions.get(((Branch) terminator).getCondition());
+        return definition instanceof ICmp ? (ICmp) definition : null;
+    }
+
+    /*
+     * Walks the dominator tree with its own stack, counting the comparisons in force on
+     * entry to the walked block by what they tell, and records what the checks and
+     * increments of the block need from them. A comparison is added when the walk enters
+     * the block its true edge leads to and removed when it leaves, so every block is visited
+     * once instead of once per dominator of every check.
+     */
+    void collectFacts(){
+        this.checksBelowLength = new HashSet<BasicBlock>();
+        this.checksAgainstLength = new HashSet<BasicBlock>();
+        this.boundedDefinitions = new HashSet<Value>();
+        this.boundedIncrements = new HashSet<Instruction>();
+        Map<String, Integer> facts = new HashMap<String, Integer>();
+        Deque<Iterator<BasicBlock>> children = new ArrayDeque<Iterator<BasicBlock>>();
+        Deque<List<String>> added = new ArrayDeque<List<String>>();
+        BasicBlock entry = this.function.getEntryBlock();
+        added.push(this.enterBlock(entry, facts));
+        children.push(this.dominatorTree.getChildren(entry).iterator());
+        while (!children.isEmpty()){
+            if (children.peek().hasNext()){
+                BasicBlock child = children.peek().next();
+                added.push(this.enterBlock(child, facts));
+                children.push(this.dominatorTree.getChildren(child).iterator());
+            }
+            else{
+                children.pop();
+                for (String fact : added.pop()){
+                    facts.merge(fact, -1, Integer::sum);
+                }
+            }
+        }
+    }
+
+    //Adds what the edge from the immediate dominator tells, returns it to be removed after the subtree
+    List<String> enterBlock(BasicBlock block, Map<String, Integer> facts){
+        ICmp condition = this.edgeCondition(block);
+        List<String> added = condition == null ? List.of() : this.describe(condition);
+        for (String fact : added){
+            facts.merge(fact, 1, Integer::sum);
+        }
+
+        if (this.isBoundsCheck(block)){
+            ICmp check = this.conditionOf(block);
+            String operands = this.key(check.getOperand(0)) + "|" + this.key(this.lengthOf(check.getOperand(1)));
+            if (facts.getOrDefault("below length|" + operands, 0) > 0)
+                this.checksBelowLength.add(block);
+            if (facts.getOrDefault("length|" + operands, 0) > 0)
+                this.checksAgainstLength.add(block);
+        }
+        for (Instruction instruction : block.getInstructions()){
+            Value result = instruction.getResult();
+            if (result != null && facts.getOrDefault("below|" + this.key(result), 0) > 0)
+                this.boundedDefinitions.add(result);
+            if (instruction instanceof BinaryOperator && ((BinaryOperator) instruction).getOpcode().equals("add")){
+                Value lhs = instruction.getOperand(0) instanceof Constant ? instruction.getOperand(1) : instruction.getOperand(0);
+                if (facts.getOrDefault("signed|" + this.key(lhs), 0) > 0)
+                    this.boundedIncrements.add(instruction);
+            }
+        }
+        return added;
+    }
+
+    //The comparison of the immediate dominator that is true on entry to the block, or null
+    ICmp edgeCondition(BasicBlock block){
+        if (block == this.function.getEntryBlock()) return null;
+        BasicBlock dominator = this.dominatorTree.getImmediateDominator(block);
+        ICmp condition = this.conditionOf(dominator);
+        if (condition == null || dominator.getSuccessors().get(0) != block
+                || dominator.getSuccessors().get(1) == block)
+            return null;
+        //The error block of a bounds check does not come back
+        for (BasicBlock predecessor : this.dominatorTree.getPredecessors(block)){
+            if (predecessor != dominator && !this.isErrorBlock(predecessor, block))
+                return null;
+        }
+        return condition;
+    }
+
+    //What a comparison tells about its left operand, by the keys of the operands
+    List<String> describe(ICmp fact){
+        List<String> facts = new ArrayList<String>();
+        String lhs = this.key(fact.getOperand(0));
+        Value length = this.lengthOf(fact.getOperand(1));
+        boolean unsigned = fact.getPredicate().equals("ult");
+        if (unsigned)
+            facts.add("below|" + lhs);
+        if (length != null){
+            facts.add("length|" + lhs + "|" + this.key(length));
+            if (unsigned)
+                facts.add("below length|" + lhs + "|" + this.key(length));
+        }
+        if (length != null || fact.getPredicate().equals("slt"))
+            facts.add("signed|" + lhs);
+        return facts;
+    }
+
+    boolean isProvenInBounds(BasicBlock block){
+        if (this.checksBelowLength.contains(block))
+            return true;
+        return this.checksAgainstLength.contains(block)
+                && this.isNonNegative(this.conditionOf(block).getOperand(0), new HashSet<Value>());
+    }
+
+    //Phis are assumed non negative while they are being visited, which proves induction variables
+    boolean isNonNegative(Value value, Set<Value> visiting){
+        if (value instanceof Constant){
+            Integer constant = intValue(value);
+            return constant != null && constant >= 0;
+        }
+        Instruction definition = this.definitions.get(value);
+        if (this.lengthOf(value) != null)
+            return true;
+        if (definition instanceof Phi){
+            if (!visiting.add(value)) return true;
+            for (Value incoming : definition.getOperands()){
+                if (!this.isNonNegative(incoming, visiting)) return false;
+            }
+            return true;
+        }
+        if (definition instanceof BinaryOperator && ((BinaryOperator) definition).getOpcode().equals("add")){
+            Value lhs = definition.getOperand(0), rhs = definition.getOperand(1);
+            if (lhs instanceof Constant){
+                Value swap = lhs;
+                lhs = rhs;
+                rhs = swap;
+            }
+            if (!(rhs instanceof Constant) || !this.isNonNegative(lhs, visiting)) return false;
+            Integer increment = intValue(rhs);
+            //x + 1 cannot overflow when x is known to be less than some int
+            return increment != null && (increment == 0 || (increment == 1 && this.boundedIncrements.contains(definition)));
+        }
+        return this.boundedDefinitions.contains(value);
+    }
+
+    //null for a literal outside the int range, which proves nothing
+    static Integer intValue(Value constant){
+        try {
+            return Integer.parseInt(constant.getName());
+        }
+        catch(NumberFormatException ex){
+            return null;
+        }
+    }
+
+    //Drops loads and arithmetic whose result is no longer used, such as the removed checks
+    static void removeDeadInstructions(Function function){
+        boolean changed = true;
+        while (changed){
+            Map<Value, Integer> uses = new IdentityHashMap<Value, Integer>();
+            for (BasicBlock block : function.getBlocks()){
+                for (Instruction instruction : block.getInstructions()){
+                    for (Value operand : instruction.getOperands()){
+                        uses.merge(operand, 1, Integer::sum);
+                    }
+                }
+            }
+            changed = false;
+            for (BasicBlock block : function.getBlocks()){
+                changed |= block.getInstructions().removeIf(instruction ->
+                        ((instruction instanceof Load && !((Load) instruction).isVolatile()) || instruction instanceof ICmp
+                            || instruction instanceof BinaryOperator || instruction instanceof GetElementPtr
+                            || instruction instanceof Cast)
+                        && !uses.containsKey(instruction.getResult()));
+            }
+        }
+    }
+
+    //Appends a block to its only predecessor when that predecessor jumps straight to it
+    static void mergeStraightLineBlocks(Function function){
+        Map<BasicBlock, Integer> predecessorCounts = new HashMap<BasicBlock, Integer>();
+        for (BasicBlock block : function.getBlocks()){
+            for (BasicBlock successor : block.getSuccessors()){
+                predecessorCounts.merge(successor, 1, Integer::sum);
+            }
+        }
+
+        Set<BasicBlock> merged = new HashSet<BasicBlock>();
+        for (BasicBlock block : function.getBlocks()){
+            if (merged.contains(block)) continue;
+            while (true){
+                Instruction terminator = block.getTerminator();
+                if (!(terminator instanceof Branch) || ((Branch) terminator).isConditional()) break;
+                BasicBlock successor = ((Branch) terminator).getTargets().get(0);
+                if (successor == block || successor == function.getEntryBlock()
+                        || predecessorCounts.get(successor) != 1
+                        || successor.getInstructions().get(0) instanceof Phi)
+                    break;
+
+                block.getInstructions().remove(terminator);
+                for (Instruction instruction : successor.getInstructions()){
+                    block.add(instruction);
+                }
+                for (BasicBlock next : block.getSuccessors()){
+                    for (Instruction instruction : next.getInstructions()){
+                        if (!(instruction instanceof Phi)) break;
+                        ((Phi) instruction).incomingBlocks.replaceAll(from -> from == successor ? block : from);
+                    }
+                }
+                merged.add(successor);
+            }
+        }
+        function.getBlocks().removeAll(merged);
+    }
+}
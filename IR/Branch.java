@@ -0,0 +1,22 @@
+package IR;
+import java.util.List;
+
+public class Branch extends Instruction {
+    List<BasicBlock> targets;
+
+    public Branch(BasicBlock target){
+        super(null);
+        this.targets = List.of(target);
+    }
+
+    public Branch(Value condition, BasicBlock ifTrue, BasicBlock ifFalse){
+        super(null, condition);
+        this.targets = List.of(ifTrue, ifFalse);
+    }
+
+    public boolean isConditional() { return !this.operands.isEmpty(); }
+    public Value getCondition() { return this.operands.get(0); }
+    public List<BasicBlock> getTargets() { return this.targets; }
+
+    public boolean isTerminator() { return true; }
+}
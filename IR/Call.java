@@ -0,0 +1,17 @@
+package IR;
+import java.util.List;
+
+public class Call extends Instruction {
+    String returnType;
+
+    //result is null for void calls
+    public Call(Register result, String returnType, Value callee, List<Value> arguments){
+        super(result, callee);
+        this.returnType = returnType;
+        this.operands.addAll(arguments);
+    }
+
+    public String getReturnType() { return this.returnType; }
+    public Value getCallee() { return this.operands.get(0); }
+    public List<Value> getArguments() { return this.operands.subList(1, this.operands.size()); }
+}
@@ -0,0 +1,14 @@
+package IR;
+
+//bitcast, zext, trunc
+public class Cast extends Instruction {
+    String opcode;
+
+    public Cast(Register result, String opcode, Value value){
+        super(result, value);
+        this.opcode = opcode;
+    }
+
+    public String getOpcode() { return this.opcode; }
+    public Value getValue() { return this.operands.get(0); }
+}
@@ -0,0 +1,13 @@
+package IR;
+
+//Printed as "; text", has no effect on the generated code
+public class Comment extends Instruction {
+    String text;
+
+    public Comment(String text){
+        super(null);
+        this.text = text;
+    }
+
+    public String getText() { return this.text; }
+}
@@ -0,0 +1,15 @@
+package IR;
+
+public class Constant extends Value {
+    String literal;
+
+    public Constant(String type, String literal){
+        super(type);
+        this.literal = literal;
+    }
+
+    public static Constant i32(int value) { return new Constant("i32", Integer.toString(value)); }
+    public static Constant i1(boolean value) { return new Constant("i1", value ? "1" : "0"); }
+
+    public String getName() { return this.literal; }
+}
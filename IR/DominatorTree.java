@@ -0,0 +1,140 @@
+package IR;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+//Dominators of the reachable blocks of a function (Cooper, Harvey & Kennedy)
+public class DominatorTree {
+    List<BasicBlock> reversePostOrder;
+    Map<BasicBlock, Integer> order;
+    Map<BasicBlock, List<BasicBlock>> predecessors;
+    Map<BasicBlock, BasicBlock> immediateDominators;
+    Map<BasicBlock, List<BasicBlock>> children;
+    Map<BasicBlock, Set<BasicBlock>> frontiers;
+
+    public DominatorTree(Function function){
+        this.reversePostOrder = new ArrayList<BasicBlock>();
+        this.postOrder(function.getEntryBlock());
+        Collections.reverse(this.reversePostOrder);
+
+        this.order = new HashMap<BasicBlock, Integer>();
+        this.predecessors = new HashMap<BasicBlock, List<BasicBlock>>();
+        for (BasicBlock block : this.reversePostOrder){
+            this.order.put(block, this.order.size());
+            this.predecessors.put(block, new ArrayList<BasicBlock>());
+        }
+        for (BasicBlock block : this.reversePostOrder){
+            for (BasicBlock successor : block.getSuccessors()){
+                this.predecessors.get(successor).add(block);
+            }
+        }
+
+        this.computeImmediateDominators(function.getEntryBlock());
+        this.computeFrontiers();
+    }
+
+    //Depth first with its own stack, every bounds check adds blocks to the longest path
+    void postOrder(BasicBlock entry){
+        Set<BasicBlock> visited = new HashSet<BasicBlock>();
+        Deque<BasicBlock> path = new ArrayDeque<BasicBlock>();
+        Deque<Iterator<BasicBlock>> successors = new ArrayDeque<Iterator<BasicBlock>>();
+        visited.add(entry);
+        path.push(entry);
+        successors.push(entry.getSuccessors().iterator());
+        while (!path.isEmpty()){
+            if (successors.peek().hasNext()){
+                BasicBlock successor = successors.peek().next();
+                if (visited.add(successor)){
+                    path.push(successor);
+                    successors.push(successor.getSuccessors().iterator());
+                }
+            }
+            else{
+                this.reversePostOrder.add(path.pop());
+                successors.pop();
+            }
+        }
+    }
+
+    void computeImmediateDominators(BasicBlock entry){
+        this.immediateDominators = new HashMap<BasicBlock, BasicBlock>();
+        this.immediateDominators.put(entry, entry);
+        boolean changed = true;
+        while (changed){
+            changed = false;
+            for (BasicBlock block : this.reversePostOrder){
+                if (block == entry) continue;
+                BasicBlock newDominator = null;
+                for (BasicBlock predecessor : this.predecessors.get(block)){
+                    if (!this.immediateDominators.containsKey(predecessor)) continue;
+                    newDominator = newDominator == null ? predecessor : this.intersect(predecessor, newDominator);
+                }
+                if (this.immediateDominators.get(block) != newDominator){
+                    this.immediateDominators.put(block, newDominator);
+                    changed = true;
+                }
+            }
+        }
+
+        this.children = new HashMap<BasicBlock, List<BasicBlock>>();
+        for (BasicBlock block : this.reversePostOrder){
+            this.children.put(block, new ArrayList<BasicBlock>());
+        }
+        for (BasicBlock block : this.reversePostOrder){
+            if (block != entry)
+                this.children.get(this.immediateDominators.get(block)).add(block);
+        }
+    }
+
+    BasicBlock intersect(BasicBlock block1, BasicBlock block2){
+        while (block1 != block2){
+            while (this.order.get(block1) > this.order.get(block2))
+                block1 = this.immediateDominators.get(block1);
+            while (this.order.get(block2) > this.order.get(block1))
+                block2 = this.immediateDominators.get(block2);
+        }
+        return block1;
+    }
+
+    void computeFrontiers(){
+        this.frontiers = new HashMap<BasicBlock, Set<BasicBlock>>();
+        for (BasicBlock block : this.reversePostOrder){
+            this.frontiers.put(block, new LinkedHashSet<BasicBlock>());
+        }
+        for (BasicBlock block : this.reversePostOrder){
+            List<BasicBlock> blockPredecessors = this.predecessors.get(block);
+            if (blockPredecessors.size() < 2) continue;
+            for (BasicBlock predecessor : blockPredecessors){
+                BasicBlock runner = predecessor;
+                while (runner != this.immediateDominators.get(block)){
+                    this.frontiers.get(runner).add(block);
+                    runner = this.immediateDominators.get(runner);
+                }
+            }
+        }
+    }
+
+    public List<BasicBlock> getReversePostOrder() { return this.reversePostOrder; }
+    public boolean isReachable(BasicBlock block) { return this.order.containsKey(block); }
+    public List<BasicBlock> getPredecessors(BasicBlock block) { return this.predecessors.get(block); }
+    public BasicBlock getImmediateDominator(BasicBlock block) { return this.immediateDominators.get(block); }
+    public List<BasicBlock> getChildren(BasicBlock block) { return this.children.get(block); }
+    public Set<BasicBlock> getFrontier(BasicBlock block) { return this.frontiers.get(block); }
+
+    public boolean dominates(BasicBlock dominator, BasicBlock block){
+        while (true){
+            if (block == dominator) return true;
+            BasicBlock parent = this.immediateDominators.get(block);
+            if (parent == block || parent == null) return false;
+            block = parent;
+        }
+    }
+}
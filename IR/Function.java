@@ -0,0 +1,48 @@
+package IR;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class Function {
+    String name;
+    String returnType;
+    List<Register> parameters;
+    List<BasicBlock> blocks;
+
+    //Registers and labels are numbered per function
+    int registerCount;
+    Map<String, Integer> labelCounts;
+
+    public Function(String name, String returnType, List<Register> parameters){
+        this.name = name;
+        this.returnType = returnType;
+        this.parameters = parameters;
+        this.blocks = new ArrayList<BasicBlock>();
+        this.registerCount = 0;
+        this.labelCounts = new HashMap<String, Integer>();
+        //The '.' keeps the label apart from the allocas of locals, which are named like their identifier
+        this.addBlock(new BasicBlock("entry.0"));
+    }
+
+    public String getName() { return this.name; }
+    public String getReturnType() { return this.returnType; }
+    public List<Register> getParameters() { return this.parameters; }
+    public List<BasicBlock> getBlocks() { return this.blocks; }
+    public BasicBlock getEntryBlock() { return this.blocks.get(0); }
+
+    public Register newRegister(String type){
+        return new Register("_" + this.registerCount++, type);
+    }
+
+    public BasicBlock newBlock(String prefix){
+        int count = this.labelCounts.getOrDefault(prefix, 0);
+        this.labelCounts.put(prefix, count + 1);
+        return new BasicBlock(prefix + count);
+    }
+
+    public void addBlock(BasicBlock block){
+        block.parent = this;
+        this.blocks.add(block);
+    }
+}
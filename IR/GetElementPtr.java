@@ -0,0 +1,16 @@
+package IR;
+
+public class GetElementPtr extends Instruction {
+    String elementType;
+
+    public GetElementPtr(Register result, String elementType, Value pointer, Value... indices){
+        super(result, pointer);
+        this.elementType = elementType;
+        for (Value index : indices){
+            this.operands.add(index);
+        }
+    }
+
+    public String getElementType() { return this.elementType; }
+    public Value getPointer() { return this.operands.get(0); }
+}
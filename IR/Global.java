@@ -0,0 +1,12 @@
+package IR;
+
+public class Global extends Value {
+    String name;
+
+    public Global(String name, String type){
+        super(type);
+        this.name = name;
+    }
+
+    public String getName() { return "@" + this.name; }
+}
@@ -0,0 +1,13 @@
+package IR;
+
+//slt, ult
+public class ICmp extends Instruction {
+    String predicate;
+
+    public ICmp(Register result, String predicate, Value lhs, Value rhs){
+        super(result, lhs, rhs);
+        this.predicate = predicate;
+    }
+
+    public String getPredicate() { return this.predicate; }
+}
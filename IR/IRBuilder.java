@@ -0,0 +1,114 @@
+package IR;
+import java.util.List;
+
+//Appends instructions at the end of the current block of the current function
+public class IRBuilder {
+    Function function;
+    BasicBlock block;
+
+    public void setFunction(Function function){
+        this.function = function;
+        this.block = function.getEntryBlock();
+    }
+
+    public Function getFunction() { return this.function; }
+    public BasicBlock getInsertBlock() { return this.block; }
+
+    public BasicBlock newBlock(String prefix){
+        return this.function.newBlock(prefix);
+    }
+
+    //Blocks are laid out in the order code is first emitted into them
+    public void setInsertPoint(BasicBlock block){
+        if (block.parent == null)
+            this.function.addBlock(block);
+        this.block = block;
+    }
+
+    static String pointee(String pointerType){
+        return pointerType.substring(0, pointerType.length() - 1);
+    }
+
+    <T extends Instruction> T insert(T instruction){
+        this.block.add(instruction);
+        return instruction;
+    }
+
+    public Register alloca(String type, String name){
+        Register result = new Register(name, type + "*");
+        this.insert(new Alloca(result, type));
+        return result;
+    }
+
+    public Register load(Value pointer){
+        return this.load(pointer, false);
+    }
+
+    public Register load(Value pointer, boolean isVolatile){
+        Register result = this.function.newRegister(pointee(pointer.getType()));
+        this.insert(new Load(result, pointer, isVolatile));
+        return result;
+    }
+
+    public void store(Value value, Value pointer){
+        this.insert(new Store(value, pointer));
+    }
+
+    public Register binary(String opcode, Value lhs, Value rhs){
+        Register result = this.function.newRegister(lhs.getType());
+        this.insert(new BinaryOperator(result, opcode, lhs, rhs));
+        return result;
+    }
+
+    public Register icmp(String predicate, Value lhs, Value rhs){
+        Register result = this.function.newRegister("i1");
+        this.insert(new ICmp(result, predicate, lhs, rhs));
+        return result;
+    }
+
+    public Register getElementPtr(String elementType, Value pointer, Value... indices){
+        //Only single-level indexing of pointers or of [N x T] globals is generated
+        String resultType = elementType.startsWith("[") && indices.length == 2
+                            ? elementType.substring(elementType.indexOf(" x ") + 3, elementType.length() - 1) + "*"
+                            : elementType + "*";
+        Register result = this.function.newRegister(resultType);
+        this.insert(new GetElementPtr(result, elementType, pointer, indices));
+        return result;
+    }
+
+    public Register cast(String opcode, Value value, String type){
+        Register result = this.function.newRegister(type);
+        this.insert(new Cast(result, opcode, value));
+        return result;
+    }
+
+    public Register bitcast(Value value, String type){
+        return this.cast("bitcast", value, type);
+    }
+
+    public Register call(String returnType, Value callee, List<Value> arguments){
+        Register result = returnType.equals("void") ? null : this.function.newRegister(returnType);
+        this.insert(new Call(result, returnType, callee, arguments));
+        return result;
+    }
+
+    public Phi phi(String type){
+        return this.insert(new Phi(this.function.newRegister(type)));
+    }
+
+    public void br(BasicBlock target){
+        this.insert(new Branch(target));
+    }
+
+    public void condBr(Value condition, BasicBlock ifTrue, BasicBlock ifFalse){
+        this.insert(new Branch(condition, ifTrue, ifFalse));
+    }
+
+    public void ret(Value value){
+        this.insert(new Return(value));
+    }
+
+    public void comment(String text){
+        this.insert(new Comment(text));
+    }
+}
@@ -0,0 +1,149 @@
+package IR;
+import java.io.PrintWriter;
+import java.util.List;
+
+//Serializes a Module to textual LLVM IR
+public class IRPrinter {
+    static final String RUNTIME = "declare i8* @calloc(i32, i32)\n"
+                                + "declare i32 @printf(i8*, ...)\n"
+                                + "declare void @exit(i32)\n\n"
+
+                                + "@_cint = constant [4 x i8] c\"%d\\0a\\00\"\n"
+                                + "@_cOOB = constant [15 x i8] c\"Out of bounds\\0a\\00\"\n"
+                                + "define void @print_int(i32 %i) {\n"
+                                + "     %_str = bitcast [4 x i8]* @_cint to i8*\n"
+                                + "     call i32 (i8*, ...) @printf(i8* %_str, i32 %i)\n"
+                                + "     ret void\n"
+                                + "}\n\n"
+
+                                + "define void @throw_oob() {\n"
+                                + "     %_str = bitcast [15 x i8]* @_cOOB to i8*\n"
+                                + "     call i32 (i8*, ...) @printf(i8* %_str)\n"
+                                + "     call void @exit(i32 1)\n"
+                                + "     ret void\n"
+                                + "}\n";
+
+    PrintWriter writer;
+
+    public IRPrinter(PrintWriter writer){
+        this.writer = writer;
+    }
+
+    //Everything before the functions: the vtables and the runtime
+    public void printHeader(Module module){
+        for (VTable vtable : module.getVTables()){
+            this.printVTable(vtable);
+        }
+        this.writer.println();
+        this.writer.println(RUNTIME);
+    }
+
+    void printVTable(VTable vtable){
+        this.writer.print(vtable.getGlobal().getName() + " = global " + vtable.getArrayType() + " [");
+        List<Global> methods = vtable.getMethods();
+        for (int i = 0; i < methods.size(); i++){
+            if (i > 0) this.writer.print(", ");
+            Global method = methods.get(i);
+            this.writer.print("i8* bitcast (" + method + " to i8*)");
+        }
+        this.writer.println("]");
+    }
+
+    public void printFunction(Function function){
+        this.writer.print("define " + function.getReturnType() + " @" + function.getName() + "(");
+        List<Register> parameters = function.getParameters();
+        for (int i = 0; i < parameters.size(); i++){
+            if (i > 0) this.writer.print(", ");
+            this.writer.print(parameters.get(i));
+        }
+        this.writer.println(") {");
+
+        for (BasicBlock block : function.getBlocks()){
+            //The entry block is labeled too, phi nodes may refer to it
+            if (block == function.getEntryBlock())
+                this.writer.println(block.getLabel() + ":");
+            else
+                this.writer.println("\n" + block.getLabel() + ":");
+            for (Instruction instruction : block.getInstructions()){
+                this.writer.println("\t" + this.format(instruction));
+            }
+        }
+        this.writer.println("}\n");
+    }
+
+    String format(Instruction instruction){
+        String assignment = instruction.getResult() == null ? "" : instruction.getResult().getName() + " = ";
+        List<Value> operands = instruction.getOperands();
+
+        if (instruction instanceof Alloca)
+            return assignment + "alloca " + ((Alloca) instruction).getAllocatedType();
+
+        if (instruction instanceof Load)
+            return assignment + "load " + (((Load) instruction).isVolatile() ? "volatile " : "")
+                    + instruction.getResult().getType() + ", " + operands.get(0);
+
+        if (instruction instanceof Store)
+            return "store " + operands.get(0) + ", " + operands.get(1);
+
+        if (instruction instanceof BinaryOperator)
+            return assignment + ((BinaryOperator) instruction).getOpcode() + " " + operands.get(0)
+                    + ", " + operands.get(1).getName();
+
+        if (instruction instanceof ICmp)
+            return assignment + "icmp " + ((ICmp) instruction).getPredicate() + " " + operands.get(0)
+                    + ", " + operands.get(1).getName();
+
+        if (instruction instanceof GetElementPtr){
+            StringBuilder text = new StringBuilder(assignment + "getelementptr "
+                                    + ((GetElementPtr) instruction).getElementType());
+            for (Value operand : operands){
+                text.append(", ").append(operand);
+            }
+            return text.toString();
+        }
+
+        if (instruction instanceof Cast)
+            return assignment + ((Cast) instruction).getOpcode() + " " + operands.get(0) + " to "
+                    + instruction.getResult().getType();
+
+        if (instruction instanceof Call){
+            Call call = (Call) instruction;
+            StringBuilder text = new StringBuilder(assignment + "call " + call.getReturnType() + " "
+                                    + call.getCallee().getName() + "(");
+            List<Value> arguments = call.getArguments();
+            for (int i = 0; i < arguments.size(); i++){
+                if (i > 0) text.append(", ");
+                text.append(arguments.get(i));
+            }
+            return text.append(")").toString();
+        }
+
+        if (instruction instanceof Phi){
+            List<BasicBlock> blocks = ((Phi) instruction).getIncomingBlocks();
+            StringBuilder text = new StringBuilder(assignment + "phi " + instruction.getResult().getType() + " ");
+            for (int i = 0; i < operands.size(); i++){
+                if (i > 0) text.append(", ");
+                text.append("[ ").append(operands.get(i).getName()).append(", %")
+                    .append(blocks.get(i).getLabel()).append(" ]");
+            }
+            return text.toString();
+        }
+
+        if (instruction instanceof Branch){
+            Branch branch = (Branch) instruction;
+            List<BasicBlock> targets = branch.getTargets();
+            if (!branch.isConditional())
+                return "br label %" + targets.get(0).getLabel();
+            return "br " + branch.getCondition() + ", label %" + targets.get(0).getLabel()
+                    + ", label %" + targets.get(1).getLabel();
+        }
+
+        if (instruction instanceof Return)
+            return "ret " + operands.get(0);
+
+        if (instruction instanceof Comment)
+            return "; " + ((Comment) instruction).getText();
+
+        throw new IllegalStateException("Unknown instruction " + instruction.getClass().getSimpleName());
+    }
+}
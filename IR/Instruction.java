@@ -0,0 +1,31 @@
+package IR;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public abstract class Instruction {
+    Register result;
+    List<Value> operands;
+    BasicBlock parent;
+
+    Instruction(Register result, Value... operands){
+        this.result = result;
+        this.operands = new ArrayList<Value>(List.of(operands));
+    }
+
+    public Register getResult() { return this.result; }
+    public List<Value> getOperands() { return this.operands; }
+    public Value getOperand(int index) { return this.operands.get(index); }
+    public BasicBlock getParent() { return this.parent; }
+
+    public boolean isTerminator() { return false; }
+
+    //Used by passes that substitute values, e.g. a promoted load by the stored value
+    public void replaceOperands(Map<Value, Value> replacements){
+        for (int i = 0; i < this.operands.size(); i++){
+            Value replacement = replacements.get(this.operands.get(i));
+            if (replacement != null)
+                this.operands.set(i, replacement);
+        }
+    }
+}
@@ -0,0 +1,670 @@
+package IR;
+import java.io.PrintStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Runs a module in process, as the binary clang makes of its .ll file would, with the
+ * runtime of IRPrinter.RUNTIME: print_int prints its argument on a line, throw_oob
+ * prints "Out of bounds" and ends the program with exit code 1, and calloc returns
+ * zeroed memory.
+ *
+ * Every function is compiled when it is added to a register bytecode: an int array of
+ * opcodes, each followed by its operands. Every IR value, constants included, has a
+ * register of the frame, and the registers of the constants hold their value before
+ * the first instruction runs. Phis become copies on the edges into their block.
+ *
+ * Values are ints: an i1 is 0 or 1, an i8 is 0 to 255 and a pointer is an address in
+ * memory, a byte array in which pointers take 8 bytes with the address in the first 4,
+ * so objects, arrays and vtables have the layout of the .ll file. The first NULL_PAGE
+ * bytes are never handed out and reading or writing them is a segmentation fault, then
+ * come the allocas of the running functions, the vtables and the heap, which is never
+ * freed, as calloc'ed memory is not in the compiled program.
+ */
+public class Interpreter {
+    static final int NULL_PAGE = 4096;
+    static final int STACK_SIZE = 1 << 20;
+    static final int CALL_SIZE = 16;    //stack taken by a call besides its allocas, the return address and frame pointer of a native call
+
+    //dst is a register, a, b, src, value and pointer registers read, imm a number in the code
+    static final int MOVE = 0;          //dst src
+    static final int ADD = 1;           //dst a b, up to ASHR
+    static final int SUB = 2;
+    static final int MUL = 3;
+    static final int AND = 4;
+    static final int OR = 5;
+    static final int XOR = 6;
+    static final int SHL = 7;
+    static final int LSHR = 8;
+    static final int ASHR = 9;
+    static final int MASK = 10;         //dst src imm, dst = src & imm
+    static final int EQ = 11;           //dst a b, up to UGE
+    static final int NE = 12;
+    static final int SLT = 13;
+    static final int SLE = 14;
+    static final int SGT = 15;
+    static final int SGE = 16;
+    static final int ULT = 17;
+    static final int ULE = 18;
+    static final int UGT = 19;
+    static final int UGE = 20;
+    static final int LOAD32 = 21;       //dst pointer
+    static final int LOAD8 = 22;
+    static final int STORE32 = 23;      //value pointer
+    static final int STORE8 = 24;
+    static final int OFFSET = 25;       //dst pointer imm, dst = pointer + imm
+    static final int INDEX = 26;        //dst pointer index imm, dst = pointer + index * imm
+    static final int ALLOCA = 27;       //dst imm, the alloca at offset imm of the frame
+    static final int JUMP = 28;         //target
+    static final int BRANCH = 29;       //condition target target
+    static final int COPIES = 30;       //count (dst src)*, all sources read before any dst is written
+    static final int CALL = 31;         //dst function count argument*, dst -1 for void calls
+    static final int CALL_POINTER = 32; //dst pointer count argument*
+    static final int RETURN = 33;       //value
+    static final int CALLOC = 34;       //dst count size
+    static final int PRINT_INT = 35;    //value
+    static final int THROW_OOB = 36;
+
+    static final VarHandle INT = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    //A compiled function
+    static class Code {
+        String name;
+        int[] code;
+        int[] registers;    //the registers on entry, with the values of the constants
+        int frameSize;      //bytes of its allocas
+    }
+
+    //A call in progress
+    static class Frame {
+        Code code;
+        int[] registers;
+        int pc;             //of the instruction after the call
+        int framePointer;
+        int result;         //register of the caller for the returned value, -1 for none
+    }
+
+    PrintStream out;
+    StringBuilder output;
+
+    Map<String, Integer> functionIds;   //name -> index in functions, a function pointer is its index + 1
+    List<String> functionNames;
+    Code[] functions;
+    Map<String, Integer> globals;       //vtable name -> address
+
+    byte[] memory;
+    int heapPointer;
+
+    public Interpreter(Module module, PrintStream out){
+        this.out = out;
+        this.output = new StringBuilder();
+        this.functionIds = new HashMap<String, Integer>();
+        this.functionNames = new ArrayList<String>();
+        this.functions = new Code[16];
+        this.globals = new HashMap<String, Integer>();
+        this.memory = new byte[NULL_PAGE + STACK_SIZE + STACK_SIZE];
+        this.heapPointer = NULL_PAGE + STACK_SIZE;
+        for (VTable vtable : module.getVTables()){
+            List<Global> methods = vtable.getMethods();
+            int address = this.allocate(8L * methods.size());
+            this.globals.put(vtable.getGlobal().name, address);
+            for (int i = 0; i < methods.size(); i++){
+                INT.set(this.memory, address + 8 * i, this.functionId(methods.get(i).name) + 1);
+            }
+        }
+        for (Function function : module.getFunctions()){
+            this.addFunction(function);
+        }
+    }
+
+    int functionId(String name){
+        Integer id = this.functionIds.get(name);
+        if (id == null){
+            id = this.functionNames.size();
+            this.functionIds.put(name, id);
+            this.functionNames.add(name);
+            if (id == this.functions.length)
+                this.functions = Arrays.copyOf(this.functions, 2 * id);
+        }
+        return id;
+    }
+
+    //Zeroed memory aligned to 8 bytes on the heap
+    int allocate(long size){
+        long start = (this.heapPointer + 7) & ~7L;
+        long end = start + Math.max(size, 0);
+        if (end > Integer.MAX_VALUE - 8)
+            throw new OutOfMemoryError();
+        if (end > this.memory.length)
+            this.memory = Arrays.copyOf(this.memory, (int) Math.min(Math.max(end, 2L * this.memory.length), Integer.MAX_VALUE - 8));
+        this.heapPointer = (int) end;
+        return (int) start;
+    }
+
+    public void addFunction(Function function){
+        Code code = new FunctionCompiler(function).compile();
+        this.functions[this.functionId(function.getName())] = code;
+    }
+
+    static int sizeOf(String type){
+        if (type.endsWith("*")) return 8;
+        if (type.startsWith("[")){
+            int x = type.indexOf(" x ");
+            return Integer.parseInt(type.substring(1, x)) * sizeOf(elementOf(type));
+        }
+        return type.equals("i32") ? 4 : 1;
+    }
+
+    //"[N x T]" -> "T"
+    static String elementOf(String arrayType){
+        return arrayType.substring(arrayType.indexOf(" x ") + 3, arrayType.length() - 1);
+    }
+
+    //The bits a value of the type keeps, -1 for all of them
+    static int maskOf(String type){
+        if (type.equals("i1")) return 1;
+        if (type.equals("i8")) return 0xFF;
+        return -1;
+    }
+
+    static boolean hasPhis(BasicBlock block){
+        List<Instruction> instructions = block.getInstructions();
+        return !instructions.isEmpty() && instructions.get(0) instanceof Phi;
+    }
+
+    class FunctionCompiler {
+        Function function;
+        int[] code;
+        int size;
+        Map<Value, Integer> registers;
+        Map<String, Integer> constants;     //"type literal" -> register
+        List<Integer> constantValues;       //register, value pairs
+        int registerCount;
+        int frameSize;
+        Map<BasicBlock, Integer> blockStarts;
+        List<Integer> jumps;                //positions of the targets to fill in
+        List<BasicBlock> jumpTargets;
+        List<Integer> edges;                //positions of the targets of branches along an edge with copies
+        List<BasicBlock[]> edgeBlocks;      //{from, to} of each of them
+
+        FunctionCompiler(Function function){
+            this.function = function;
+            this.code = new int[64];
+            this.registers = new IdentityHashMap<Value, Integer>();
+            this.constants = new HashMap<String, Integer>();
+            this.constantValues = new ArrayList<Integer>();
+            this.blockStarts = new IdentityHashMap<BasicBlock, Integer>();
+            this.jumps = new ArrayList<Integer>();
+            this.jumpTargets = new ArrayList<BasicBlock>();
+            this.edges = new ArrayList<Integer>();
+            this.edgeBlocks = new ArrayList<BasicBlock[]>();
+        }
+
+        Code compile(){
+            for (Register parameter : this.function.getParameters()){
+                this.registers.put(parameter, this.registerCount++);
+            }
+            for (BasicBlock block : this.function.getBlocks()){
+                this.blockStarts.put(block, this.size);
+                for (Instruction instruction : block.getInstructions()){
+                    this.compile(instruction);
+                }
+            }
+            for (int i = 0; i < this.edges.size(); i++){
+                BasicBlock[] edge = this.edgeBlocks.get(i);
+                this.code[this.edges.get(i)] = this.size;
+                this.copies(edge[0], edge[1]);
+                this.jump(edge[1]);
+            }
+            for (int i = 0; i < this.jumps.size(); i++){
+                this.code[this.jumps.get(i)] = this.blockStarts.get(this.jumpTargets.get(i));
+            }
+
+            Code code = new Code();
+            code.name = this.function.getName();
+            code.code = Arrays.copyOf(this.code, this.size);
+            code.registers = new int[this.registerCount];
+            for (int i = 0; i < this.constantValues.size(); i += 2){
+                code.registers[this.constantValues.get(i)] = this.constantValues.get(i + 1);
+            }
+            code.frameSize = this.frameSize;
+            return code;
+        }
+
+        void emit(int... values){
+            if (this.size + values.length > this.code.length)
+                this.code = Arrays.copyOf(this.code, Math.max(2 * this.code.length, this.size + values.length));
+            for (int value : values){
+                this.code[this.size++] = value;
+            }
+        }
+
+        int register(Value value){
+            Integer register = this.registers.get(value);
+            if (register != null) return register;
+            if (value instanceof Register){
+                register = this.registerCount++;
+                this.registers.put(value, register);
+                return register;
+            }
+            String key = value.toString();
+            register = this.constants.get(key);
+            if (register == null){
+                register = this.registerCount++;
+                this.constants.put(key, register);
+                this.constantValues.add(register);
+                this.constantValues.add(this.valueOf(value));
+            }
+            return register;
+        }
+
+        int valueOf(Value value){
+            if (value instanceof Global){
+                String name = ((Global) value).name;
+                Integer address = Interpreter.this.globals.get(name);
+                return address != null ? address : Interpreter.this.functionId(name) + 1;
+            }
+            String literal = value.getName();
+            if (literal.equals("null") || literal.equals("false")) return 0;
+            if (literal.equals("true")) return 1;
+            return (int) Long.parseLong(literal) & maskOf(value.getType());
+        }
+
+        void jump(BasicBlock target){
+            this.emit(JUMP, 0);
+            this.jumps.add(this.size - 1);
+            this.jumpTargets.add(target);
+        }
+
+        //The parallel copies of the phis of to for the edge from from
+        void copies(BasicBlock from, BasicBlock to){
+            List<Integer> pairs = new ArrayList<Integer>();
+            for (Instruction instruction : to.getInstructions()){
+                if (!(instruction instanceof Phi)) continue;
+                Phi phi = (Phi) instruction;
+                int incoming = phi.getIncomingBlocks().indexOf(from);
+                if (incoming < 0) continue;
+                pairs.add(this.register(phi.getResult()));
+                pairs.add(this.register(phi.getOperand(incoming)));
+            }
+            if (pairs.size() == 2)
+                this.emit(MOVE, pairs.get(0), pairs.get(1));
+            else if (!pairs.isEmpty()){
+                this.emit(COPIES, pairs.size() / 2);
+                for (int register : pairs){
+                    this.emit(register);
+                }
+            }
+        }
+
+        //The target of a conditional branch: the block, or copies for its phis that jump to it
+        void branchTarget(BasicBlock from, BasicBlock to){
+            this.emit(0);
+            if (hasPhis(to)){
+                this.edges.add(this.size - 1);
+                this.edgeBlocks.add(new BasicBlock[]{from, to});
+            }
+            else{
+                this.jumps.add(this.size - 1);
+                this.jumpTargets.add(to);
+            }
+        }
+
+        void compile(Instruction instruction){
+            if (instruction instanceof Comment || instruction instanceof Phi)
+                return;
+
+            if (instruction instanceof Alloca){
+                int size = sizeOf(((Alloca) instruction).getAllocatedType());
+                int alignment = Math.min(size, 8);
+                this.frameSize = (this.frameSize + alignment - 1) / alignment * alignment;
+                this.emit(ALLOCA, this.register(instruction.getResult()), this.frameSize);
+                this.frameSize += size;
+                return;
+            }
+
+            if (instruction instanceof Load){
+                String type = instruction.getResult().getType();
+                this.emit(sizeOf(type) == 1 ? LOAD8 : LOAD32, this.register(instruction.getResult()),
+                            this.register(((Load) instruction).getPointer()));
+                return;
+            }
+
+            if (instruction instanceof Store){
+                Store store = (Store) instruction;
+                this.emit(sizeOf(store.getValue().getType()) == 1 ? STORE8 : STORE32,
+                            this.register(store.getValue()), this.register(store.getPointer()));
+                return;
+            }
+
+            if (instruction instanceof BinaryOperator){
+                int result = this.register(instruction.getResult());
+                String opcode = ((BinaryOperator) instruction).getOpcode();
+                int operation;
+                switch(opcode){
+                    case "add": operation = ADD; break;
+                    case "sub": operation = SUB; break;
+                    case "mul": operation = MUL; break;
+                    case "and": operation = AND; break;
+                    case "or": operation = OR; break;
+                    case "xor": operation = XOR; break;
+                    case "shl": operation = SHL; break;
+                    case "lshr": operation = LSHR; break;
+                    case "ashr": operation = ASHR; break;
+                    default: throw new IllegalStateException("Unknown operator " + opcode);
+                }
+                this.emit(operation, result, this.register(instruction.getOperand(0)), this.register(instruction.getOperand(1)));
+                //and, or, xor and lshr of values in range stay in range
+                int mask = maskOf(instruction.getResult().getType());
+                if (mask != -1 && (operation == ADD || operation == SUB || operation == MUL || operation == SHL))
+                    this.emit(MASK, result, result, mask);
+                return;
+            }
+
+            if (instruction instanceof ICmp){
+                String predicate = ((ICmp) instruction).getPredicate();
+                int comparison;
+                switch(predicate){
+                    case "eq": comparison = EQ; break;
+                    case "ne": comparison = NE; break;
+                    case "slt": comparison = SLT; break;
+                    case "sle": comparison = SLE; break;
+                    case "sgt": comparison = SGT; break;
+                    case "sge": comparison = SGE; break;
+                    case "ult": comparison = ULT; break;
+                    case "ule": comparison = ULE; break;
+                    case "ugt": comparison = UGT; break;
+                    case "uge": comparison = UGE; break;
+                    default: throw new IllegalStateException("Unknown predicate " + predicate);
+                }
+                this.emit(comparison, this.register(instruction.getResult()),
+                            this.register(instruction.getOperand(0)), this.register(instruction.getOperand(1)));
+                return;
+            }
+
+            if (instruction instanceof GetElementPtr){
+                GetElementPtr gep = (GetElementPtr) instruction;
+                int result = this.register(gep.getResult());
+                int pointer = this.register(gep.getPointer());
+                String type = gep.getElementType();
+                int offset = 0;
+                for (int i = 1; i < gep.getOperands().size(); i++){
+                    if (i > 1) type = elementOf(type);
+                    Value index = gep.getOperand(i);
+                    if (index instanceof Constant)
+                        offset += this.valueOf(index) * sizeOf(type);
+                    else{
+                        this.emit(INDEX, result, pointer, this.register(index), sizeOf(type));
+                        pointer = result;
+                    }
+                }
+                if (offset != 0 || pointer != result)
+                    this.emit(OFFSET, result, pointer, offset);
+                return;
+            }
+
+            if (instruction instanceof Cast){
+                Cast cast = (Cast) instruction;
+                int result = this.register(cast.getResult());
+                int value = this.register(cast.getValue());
+                switch(cast.getOpcode()){
+                    case "bitcast":
+                    case "zext":
+                        this.emit(MOVE, result, value);
+                        return;
+                    case "trunc":
+                        this.emit(MASK, result, value, maskOf(cast.getResult().getType()));
+                        return;
+                    default:
+                        throw new IllegalStateException("Unknown cast " + cast.getOpcode());
+                }
+            }
+
+            if (instruction instanceof Call){
+                Call call = (Call) instruction;
+                int result = call.getResult() == null ? -1 : this.register(call.getResult());
+                List<Value> arguments = call.getArguments();
+                Value callee = call.getCallee();
+                if (callee instanceof Global){
+                    String name = ((Global) callee).name;
+                    switch(name){
+                        case "calloc":
+                            this.emit(CALLOC, result, this.register(arguments.get(0)), this.register(arguments.get(1)));
+                            return;
+                        case "print_int":
+                            this.emit(PRINT_INT, this.register(arguments.get(0)));
+                            return;
+                        case "throw_oob":
+                            this.emit(THROW_OOB);
+                            return;
+                    }
+                    this.emit(CALL, result, Interpreter.this.functionId(name), arguments.size());
+                }
+                else
+                    this.emit(CALL_POINTER, result, this.register(callee), arguments.size());
+                for (Value argument : arguments){
+                    this.emit(this.register(argument));
+                }
+                return;
+            }
+
+            if (instruction instanceof Branch){
+                Branch branch = (Branch) instruction;
+                BasicBlock from = branch.getParent();
+                List<BasicBlock> targets = branch.getTargets();
+                if (!branch.isConditional()){
+                    this.copies(from, targets.get(0));
+                    this.jump(targets.get(0));
+                    return;
+                }
+                this.emit(BRANCH, this.register(branch.getCondition()));
+                this.branchTarget(from, targets.get(0));
+                this.branchTarget(from, targets.get(1));
+                return;
+            }
+
+            if (instruction instanceof Return){
+                this.emit(RETURN, this.register(((Return) instruction).getValue()));
+                return;
+            }
+
+            throw new IllegalStateException("Unknown instruction " + instruction.getClass().getSimpleName());
+        }
+    }
+
+    Code function(int id) throws Exception {
+        Code code = id >= 0 && id < this.functionNames.size() ? this.functions[id] : null;
+        if (code == null)
+            throw new Exception(id >= 0 && id < this.functionNames.size() ? "Undefined function " + this.functionNames.get(id)
+                                                                           : "Segmentation fault");
+        return code;
+    }
+
+    /*
+     * Runs main and returns its exit code. The output is printed as the program runs,
+     * and up to the fault when a null pointer or a call too deep stops it, which the
+     * exception thrown names.
+     */
+    public int run() throws Exception {
+        Integer main = this.functionIds.get("main");
+        if (main == null)
+            throw new Exception("Undefined function main");
+        Frame[] frames = new Frame[64];
+        int depth = 0;
+        int[] scratch = new int[16];
+        int stackPointer = NULL_PAGE;
+
+        Code function = this.function(main);
+        int[] code = function.code;
+        int[] r = function.registers.clone();
+        int framePointer = stackPointer;
+        stackPointer += function.frameSize;
+        int pc = 0;
+        byte[] memory = this.memory;
+        try{
+            while (true){
+                switch(code[pc]){
+                    case MOVE: r[code[pc + 1]] = r[code[pc + 2]]; pc += 3; break;
+                    case ADD: r[code[pc + 1]] = r[code[pc + 2]] + r[code[pc + 3]]; pc += 4; break;
+                    case SUB: r[code[pc + 1]] = r[code[pc + 2]] - r[code[pc + 3]]; pc += 4; break;
+                    case MUL: r[code[pc + 1]] = r[code[pc + 2]] * r[code[pc + 3]]; pc += 4; break;
+                    case AND: r[code[pc + 1]] = r[code[pc + 2]] & r[code[pc + 3]]; pc += 4; break;
+                    case OR: r[code[pc + 1]] = r[code[pc + 2]] | r[code[pc + 3]]; pc += 4; break;
+                    case XOR: r[code[pc + 1]] = r[code[pc + 2]] ^ r[code[pc + 3]]; pc += 4; break;
+                    case SHL: r[code[pc + 1]] = r[code[pc + 2]] << r[code[pc + 3]]; pc += 4; break;
+                    case LSHR: r[code[pc + 1]] = r[code[pc + 2]] >>> r[code[pc + 3]]; pc += 4; break;
+                    case ASHR: r[code[pc + 1]] = r[code[pc + 2]] >> r[code[pc + 3]]; pc += 4; break;
+                    case MASK: r[code[pc + 1]] = r[code[pc + 2]] & code[pc + 3]; pc += 4; break;
+                    case EQ: r[code[pc + 1]] = r[code[pc + 2]] == r[code[pc + 3]] ? 1 : 0; pc += 4; break;
+                    case NE: r[code[pc + 1]] = r[code[pc + 2]] != r[code[pc + 3]] ? 1 : 0; pc += 4; break;
+                    case SLT: r[code[pc + 1]] = r[code[pc + 2]] < r[code[pc + 3]] ? 1 : 0; pc += 4; break;
+                    case SLE: r[code[pc + 1]] = r[code[pc + 2]] <= r[code[pc + 3]] ? 1 : 0; pc += 4; break;
+                    case SGT: r[code[pc + 1]] = r[code[pc + 2]] > r[code[pc + 3]] ? 1 : 0; pc += 4; break;
+                    case SGE: r[code[pc + 1]] = r[code[pc + 2]] >= r[code[pc + 3]] ? 1 : 0; pc += 4; break;
+                    case ULT: r[code[pc + 1]] = Integer.compareUnsigned(r[code[pc + 2]], r[code[pc + 3]]) < 0 ? 1 : 0; pc += 4; break;
+                    case ULE: r[code[pc + 1]] = Integer.compareUnsigned(r[code[pc + 2]], r[code[pc + 3]]) <= 0 ? 1 : 0; pc += 4; break;
+                    case UGT: r[code[pc + 1]] = Integer.compareUnsigned(r[code[pc + 2]], r[code[pc + 3]]) > 0 ? 1 : 0; pc += 4; break;
+                    case UGE: r[code[pc + 1]] = Integer.compareUnsigned(r[code[pc + 2]], r[code[pc + 3]]) >= 0 ? 1 : 0; pc += 4; break;
+
+                    case LOAD32: {
+                        int pointer = r[code[pc + 2]];
+                        if (pointer < NULL_PAGE) throw new Exception("Segmentation fault");
+                        r[code[pc + 1]] = (int) INT.get(memory, pointer);
+                        pc += 3;
+                        break;
+                    }
+                    case LOAD8: {
+                        int pointer = r[code[pc + 2]];
+                        if (pointer < NULL_PAGE) throw new Exception("Segmentation fault");
+                        r[code[pc + 1]] = memory[pointer] & 0xFF;
+                        pc += 3;
+                        break;
+                    }
+                    case STORE32: {
+                        int pointer = r[code[pc + 2]];
+                        if (pointer < NULL_PAGE) throw new Exception("Segmentation fault");
+                        INT.set(memory, pointer, r[code[pc + 1]]);
+                        pc += 3;
+                        break;
+                    }
+                    case STORE8: {
+                        int pointer = r[code[pc + 2]];
+                        if (pointer < NULL_PAGE) throw new Exception("Segmentation fault");
+                        memory[pointer] = (byte) r[code[pc + 1]];
+                        pc += 3;
+                        break;
+                    }
+                    case OFFSET: r[code[pc + 1]] = r[code[pc + 2]] + code[pc + 3]; pc += 4; break;
+                    case INDEX: r[code[pc + 1]] = r[code[pc + 2]] + r[code[pc + 3]] * code[pc + 4]; pc += 5; break;
+                    case ALLOCA: r[code[pc + 1]] = framePointer + code[pc + 2]; pc += 3; break;
+
+                    case JUMP: pc = code[pc + 1]; break;
+                    case BRANCH: pc = r[code[pc + 1]] != 0 ? code[pc + 2] : code[pc + 3]; break;
+                    case COPIES: {
+                        int count = code[pc + 1];
+                        if (count > scratch.length)
+                            scratch = new int[count];
+                        for (int i = 0; i < count; i++){
+                            scratch[i] = r[code[pc + 3 + 2 * i]];
+                        }
+                        for (int i = 0; i < count; i++){
+                            r[code[pc + 2 + 2 * i]] = scratch[i];
+                        }
+                        pc += 2 + 2 * count;
+                        break;
+                    }
+
+                    case CALL:
+                    case CALL_POINTER: {
+                        Code callee = this.function(code[pc] == CALL ? code[pc + 2] : r[code[pc + 2]] - 1);
+                        int count = code[pc + 3];
+                        int[] registers = callee.registers.clone();
+                        for (int i = 0; i < count; i++){
+                            registers[i] = r[code[pc + 4 + i]];
+                        }
+                        if (depth == frames.length)
+                            frames = Arrays.copyOf(frames, 2 * depth);
+                        if (frames[depth] == null)
+                            frames[depth] = new Frame();
+                        Frame frame = frames[depth++];
+                        frame.code = function;
+                        frame.registers = r;
+                        frame.pc = pc + 4 + count;
+                        frame.framePointer = framePointer;
+                        frame.result = code[pc + 1];
+
+                        framePointer = stackPointer + CALL_SIZE;
+                        stackPointer = framePointer + callee.frameSize;
+                        if (stackPointer > NULL_PAGE + STACK_SIZE)
+                            throw new Exception("Stack overflow");
+                        Arrays.fill(memory, framePointer, stackPointer, (byte) 0);
+                        function = callee;
+                        code = callee.code;
+                        r = registers;
+                        pc = 0;
+                        break;
+                    }
+                    case RETURN: {
+                        int value = r[code[pc + 1]];
+                        if (depth == 0)
+                            return value;
+                        Frame frame = frames[--depth];
+                        stackPointer = framePointer - CALL_SIZE;
+                        function = frame.code;
+                        code = function.code;
+                        r = frame.registers;
+                        pc = frame.pc;
+                        framePointer = frame.framePointer;
+                        if (frame.result >= 0)
+                            r[frame.result] = value;
+                        frame.code = null;
+                        frame.registers = null;
+                        break;
+                    }
+
+                    case CALLOC: {
+                        long size = (long) r[code[pc + 2]] * r[code[pc + 3]];
+                        r[code[pc + 1]] = this.allocate(size);
+                        memory = this.memory;
+                        pc += 4;
+                        break;
+                    }
+                    case PRINT_INT:
+                        this.output.append(r[code[pc + 1]]).append('\n');
+                        if (this.output.length() >= 8192)
+                            this.flush();
+                        pc += 2;
+                        break;
+                    case THROW_OOB:
+                        this.output.append("Out of bounds\n");
+                        return 1;
+
+                    default:
+                        throw new IllegalStateException("Unknown opcode " + code[pc] + " in " + function.name);
+                }
+            }
+        }
+        catch(ArrayIndexOutOfBoundsException ex){
+            //An address past the end of the memory
+            throw new Exception("Segmentation fault");
+        }
+        catch(OutOfMemoryError ex){
+            throw new Exception("Out of memory");
+        }
+        finally{
+            this.flush();
+        }
+    }
+
+    void flush(){
+        this.out.print(this.output);
+        this.output.setLength(0);
+    }
+}
@@ -0,0 +1,17 @@
+package IR;
+
+public class Load extends Instruction {
+    boolean isVolatile;     //kept even if the result is unused, e.g. for the fault of a null pointer
+
+    public Load(Register result, Value pointer){
+        this(result, pointer, false);
+    }
+
+    public Load(Register result, Value pointer, boolean isVolatile){
+        super(result, pointer);
+        this.isVolatile = isVolatile;
+    }
+
+    public Value getPointer() { return this.operands.get(0); }
+    public boolean isVolatile() { return this.isVolatile; }
+}
@@ -0,0 +1,251 @@
+package IR;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/*
+ * Promotes allocas that are only loaded and stored into SSA registers, inserting
+ * phi nodes at the iterated dominance frontier of their stores (Cytron et al.).
+ * Variables read before any store get the zero value of their type, like calloc'ed
+ * memory.
+ */
+public class Mem2Reg {
+    Function function;
+    DominatorTree dominatorTree;
+    Set<Register> promoted;
+    Map<Phi, Register> phiVariables;
+    Map<Register, Deque<Value>> currentValues;
+    Map<Value, Value> replacements;
+    Set<Instruction> removed;
+
+    public void run(Function function){
+        this.function = function;
+        removeUnreachableBlocks(function);
+        this.promoted = this.findPromotableAllocas();
+        if (this.promoted.isEmpty()) return;
+
+        this.dominatorTree = new DominatorTree(function);
+        this.phiVariables = new IdentityHashMap<Phi, Register>();
+        this.currentValues = new HashMap<Register, Deque<Value>>();
+        this.replacements = new IdentityHashMap<Value, Value>();
+        this.removed = new HashSet<Instruction>();
+
+        for (Register variable : this.promoted){
+            this.insertPhis(variable);
+            Deque<Value> stack = new ArrayDeque<Value>();
+            stack.push(zero(IRBuilder.pointee(variable.getType())));
+            this.currentValues.put(variable, stack);
+        }
+        this.rename(function.getEntryBlock());
+
+        for (BasicBlock block : function.getBlocks()){
+            block.getInstructions().removeIf(instruction -> this.removed.contains(instruction));
+            for (Instruction instruction : block.getInstructions()){
+                instruction.replaceOperands(this.replacements);
+            }
+        }
+        removeTrivialPhis(function);
+    }
+
+    static Constant zero(String type){
+        return new Constant(type, type.endsWith("*") ? "null" : "0");
+    }
+
+    static void removeUnreachableBlocks(Function function){
+        DominatorTree dominatorTree = new DominatorTree(function);
+        if (dominatorTree.getReversePostOrder().size() == function.getBlocks().size()) return;
+        function.getBlocks().removeIf(block -> !dominatorTree.isReachable(block));
+        for (BasicBlock block : function.getBlocks()){
+            for (Instruction instruction : block.getInstructions()){
+                if (!(instruction instanceof Phi)) continue;
+                Phi phi = (Phi) instruction;
+                for (int i = phi.incomingBlocks.size() - 1; i >= 0; i--){
+                    if (!dominatorTree.isReachable(phi.incomingBlocks.get(i))){
+                        phi.incomingBlocks.remove(i);
+                        phi.operands.remove(i);
+                    }
+                }
+            }
+        }
+    }
+
+    //Allocas whose address is only used as the pointer of loads and stores
+    Set<Register> findPromotableAllocas(){
+        Set<Register> allocas = new LinkedHashSet<Register>();
+        for (BasicBlock block : this.function.getBlocks()){
+            for (Instruction instruction : block.getInstructions()){
+                if (instruction instanceof Alloca)
+                    allocas.add(instruction.getResult());
+            }
+        }
+        for (BasicBlock block : this.function.getBlocks()){
+            for (Instruction instruction : block.getInstructions()){
+                List<Value> operands = instruction.getOperands();
+                for (int i = 0; i < operands.size(); i++){
+                    boolean isAddress = (instruction instanceof Load && i == 0)
+                                        || (instruction instanceof Store && i == 1);
+                    if (!isAddress)
+                        allocas.remove(operands.get(i));
+                }
+            }
+        }
+        return allocas;
+    }
+
+    //Phis are only placed where the variable is live, so dead loop-carried values do not get one
+    void insertPhis(Register variable){
+        Set<BasicBlock> definitions = new LinkedHashSet<BasicBlock>();
+        Set<BasicBlock> upwardExposedUses = new LinkedHashSet<BasicBlock>();
+        for (BasicBlock block : this.function.getBlocks()){
+            for (Instruction instruction : block.getInstructions()){
+                if (instruction instanceof Store && instruction.getOperand(1) == variable)
+                    definitions.add(block);
+                else if (instruction instanceof Load && instruction.getOperand(0) == variable
+                            && !definitions.contains(block))
+                    upwardExposedUses.add(block);
+            }
+        }
+
+        Set<BasicBlock> liveIn = new HashSet<BasicBlock>(upwardExposedUses);
+        Deque<BasicBlock> worklist = new ArrayDeque<BasicBlock>(upwardExposedUses);
+        while (!worklist.isEmpty()){
+            BasicBlock block = worklist.pop();
+            for (BasicBlock predecessor : this.dominatorTree.getPredecessors(block)){
+                if (!definitions.contains(predecessor) && liveIn.add(predecessor))
+                    worklist.push(predecessor);
+            }
+        }
+
+        Set<BasicBlock> hasPhi = new HashSet<BasicBlock>();
+        worklist = new ArrayDeque<BasicBlock>(definitions);
+        while (!worklist.isEmpty()){
+            BasicBlock block = worklist.pop();
+            for (BasicBlock frontier : this.dominatorTree.getFrontier(block)){
+                if (!liveIn.contains(frontier) || !hasPhi.add(frontier)) continue;
+                Phi phi = new Phi(this.function.newRegister(IRBuilder.pointee(variable.getType())));
+                phi.parent = frontier;
+                frontier.getInstructions().add(0, phi);
+                this.phiVariables.put(phi, variable);
+                if (!definitions.contains(frontier))
+                    worklist.push(frontier);
+            }
+        }
+    }
+
+    //Walks the dominator tree with its own stack, it is as deep as the longest chain of blocks
+    void rename(BasicBlock entry){
+        Deque<Iterator<BasicBlock>> children = new ArrayDeque<Iterator<BasicBlock>>();
+        Deque<List<Register>> pushed = new ArrayDeque<List<Register>>();
+        pushed.push(this.renameBlock(entry));
+        children.push(this.dominatorTree.getChildren(entry).iterator());
+        while (!children.isEmpty()){
+            if (children.peek().hasNext()){
+                BasicBlock child = children.peek().next();
+                pushed.push(this.renameBlock(child));
+                children.push(this.dominatorTree.getChildren(child).iterator());
+            }
+            else{
+                children.pop();
+                for (Register variable : pushed.pop()){
+                    this.currentValues.get(variable).pop();
+                }
+            }
+        }
+    }
+
+    //Renames the uses in the block and the phi operands it supplies, returns the variables it pushed a value for
+    List<Register> renameBlock(BasicBlock block){
+        List<Register> pushed = new ArrayList<Register>();
+        for (Instruction instruction : block.getInstructions()){
+            instruction.replaceOperands(this.replacements);
+            Register variable = this.phiVariables.get(instruction);
+            if (variable != null){
+                this.currentValues.get(variable).push(instruction.getResult());
+                pushed.add(variable);
+            }
+            else if (instruction instanceof Load && this.promoted.contains(instruction.getOperand(0))){
+                this.replacements.put(instruction.getResult(), this.currentValues.get(instruction.getOperand(0)).peek());
+                this.removed.add(instruction);
+            }
+            else if (instruction instanceof Store && this.promoted.contains(instruction.getOperand(1))){
+                Register stored = (Register) instruction.getOperand(1);
+                this.currentValues.get(stored).push(instruction.getOperand(0));
+                pushed.add(stored);
+                this.removed.add(instruction);
+            }
+            else if (instruction instanceof Alloca && this.promoted.contains(instruction.getResult())){
+                this.removed.add(instruction);
+            }
+        }
+
+        for (BasicBlock successor : block.getSuccessors()){
+            for (Instruction instruction : successor.getInstructions()){
+                if (!(instruction instanceof Phi)) break;
+                Register variable = this.phiVariables.get(instruction);
+                if (variable != null)
+                    ((Phi) instruction).addIncoming(this.currentValues.get(variable).peek(), block);
+            }
+        }
+
+        return pushed;
+    }
+
+    //Removes phis that merge a single value, or whose result is never used
+    static void removeTrivialPhis(Function function){
+        while (true){
+            Map<Value, Integer> uses = new IdentityHashMap<Value, Integer>();
+            for (BasicBlock block : function.getBlocks()){
+                for (Instruction instruction : block.getInstructions()){
+                    for (Value operand : instruction.getOperands()){
+                        if (operand != instruction.getResult())
+                            uses.merge(operand, 1, Integer::sum);
+                    }
+                }
+            }
+
+            Map<Value, Value> replacements = new IdentityHashMap<Value, Value>();
+            for (BasicBlock block : function.getBlocks()){
+                for (Instruction instruction : block.getInstructions()){
+                    if (!(instruction instanceof Phi)) break;
+                    Value unique = null;
+                    boolean trivial = true;
+                    for (Value operand : instruction.getOperands()){
+                        if (operand == instruction.getResult() || operand == unique) continue;
+                        if (unique != null) trivial = false;
+                        unique = operand;
+                    }
+                    if (!uses.containsKey(instruction.getResult()))
+                        replacements.put(instruction.getResult(), instruction.getResult());
+                    else if (trivial && unique != null)
+                        replacements.put(instruction.getResult(), unique);
+                }
+            }
+            if (replacements.isEmpty()) break;
+
+            //A trivial phi may merge another trivial phi
+            for (Map.Entry<Value, Value> entry : replacements.entrySet()){
+                Value value = entry.getValue();
+                for (int hops = 0; hops < replacements.size() && replacements.containsKey(value)
+                                    && replacements.get(value) != value; hops++)
+                    value = replacements.get(value);
+                entry.setValue(value);
+            }
+
+            for (BasicBlock block : function.getBlocks()){
+                block.getInstructions().removeIf(instruction ->
+                        instruction instanceof Phi && replacements.containsKey(instruction.getResult()));
+                for (Instruction instruction : block.getInstructions()){
+                    instruction.replaceOperands(replacements);
+                }
+            }
+        }
+    }
+}
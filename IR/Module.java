@@ -0,0 +1,30 @@
+package IR;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+public class Module {
+    List<VTable> vtables;
+    List<Function> functions;
+    Consumer<Function> functionConsumer;    //null to keep the functions
+
+    public Module(){
+        this.vtables = new ArrayList<VTable>();
+        this.functions = new ArrayList<Function>();
+    }
+
+    public List<VTable> getVTables() { return this.vtables; }
+    public List<Function> getFunctions() { return this.functions; }
+
+    public void addVTable(VTable vtable) { this.vtables.add(vtable); }
+    //Hands every function added from now on to consumer instead of keeping it, so the
+    //module can be written while it is generated with one function in memory at a time
+    public void streamFunctions(Consumer<Function> consumer) { this.functionConsumer = consumer; }
+
+    public void addFunction(Function function){
+        if (this.functionConsumer != null)
+            this.functionConsumer.accept(function);
+        else
+            this.functions.add(function);
+    }
+}
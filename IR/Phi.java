@@ -0,0 +1,19 @@
+package IR;
+import java.util.ArrayList;
+import java.util.List;
+
+public class Phi extends Instruction {
+    List<BasicBlock> incomingBlocks;
+
+    public Phi(Register result){
+        super(result);
+        this.incomingBlocks = new ArrayList<BasicBlock>();
+    }
+
+    public void addIncoming(Value value, BasicBlock block){
+        this.operands.add(value);
+        this.incomingBlocks.add(block);
+    }
+
+    public List<BasicBlock> getIncomingBlocks() { return this.incomingBlocks; }
+}
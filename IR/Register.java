@@ -0,0 +1,12 @@
+package IR;
+
+public class Register extends Value {
+    String name;
+
+    public Register(String name, String type){
+        super(type);
+        this.name = name;
+    }
+
+    public String getName() { return "%" + this.name; }
+}
@@ -0,0 +1,11 @@
+package IR;
+
+public class Return extends Instruction {
+    public Return(Value value){
+        super(null, value);
+    }
+
+    public Value getValue() { return this.operands.get(0); }
+
+    public boolean isTerminator() { return true; }
+}
@@ -0,0 +1,10 @@
+package IR;
+
+public class Store extends Instruction {
+    public Store(Value value, Value pointer){
+        super(null, value, pointer);
+    }
+
+    public Value getValue() { return this.operands.get(0); }
+    public Value getPointer() { return this.operands.get(1); }
+}
@@ -0,0 +1,17 @@
+package IR;
+import java.util.List;
+
+//Global array of method pointers, one per method slot of the class
+public class VTable {
+    Global global;
+    List<Global> methods;
+
+    public VTable(String className, List<Global> methods){
+        this.global = new Global("." + className + "_vtable", "[" + methods.size() + " x i8*]*");
+        this.methods = methods;
+    }
+
+    public Global getGlobal() { return this.global; }
+    public List<Global> getMethods() { return this.methods; }
+    public String getArrayType() { return "[" + this.methods.size() + " x i8*]"; }
+}
@@ -0,0 +1,16 @@
+package IR;
+
+public abstract class Value {
+    String type;
+
+    Value(String type){
+        this.type = type;
+    }
+
+    public String getType() { return this.type; }
+
+    //How the value is written as an operand, e.g. "%_3", "@print_int" or "5"
+    public abstract String getName();
+
+    public String toString() { return this.type + " " + this.getName(); }
+}
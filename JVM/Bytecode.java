@@ -0,0 +1,269 @@
+package JVM;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+ * The code of one method of a ClassFile. Instructions are appended with the methods
+ * below, which add their constants to the pool of the class and keep the depth of the
+ * operand stack, so max_stack and max_locals come out of the code itself.
+ *
+ * Branches go to Labels. A forward branch is patched when its label is marked, and the
+ * depth of the stack at a label is that at the branches to it, so the code after a goto
+ * continues from the depth its label was jumped to with.
+ */
+public class Bytecode {
+    public static final int ACONST_NULL = 1;
+    public static final int ICONST_0 = 3;
+    public static final int ICONST_1 = 4;
+    public static final int BIPUSH = 16;
+    public static final int SIPUSH = 17;
+    public static final int LDC = 18;
+    public static final int LDC_W = 19;
+    public static final int ILOAD = 21;
+    public static final int ALOAD = 25;
+    public static final int IALOAD = 46;
+    public static final int BALOAD = 51;
+    public static final int ISTORE = 54;
+    public static final int ASTORE = 58;
+    public static final int IASTORE = 79;
+    public static final int BASTORE = 84;
+    public static final int POP = 87;
+    public static final int DUP = 89;
+    public static final int DUP2 = 92;
+    public static final int IADD = 96;
+    public static final int ISUB = 100;
+    public static final int IMUL = 104;
+    public static final int IXOR = 130;
+    public static final int IFEQ = 153;
+    public static final int IFNE = 154;
+    public static final int IF_ICMPLT = 161;
+    public static final int IF_ICMPGE = 162;
+    public static final int GOTO = 167;
+    public static final int IRETURN = 172;
+    public static final int ARETURN = 176;
+    public static final int RETURN = 177;
+    public static final int GETSTATIC = 178;
+    public static final int PUTSTATIC = 179;
+    public static final int GETFIELD = 180;
+    public static final int PUTFIELD = 181;
+    public static final int INVOKEVIRTUAL = 182;
+    public static final int INVOKESPECIAL = 183;
+    public static final int INVOKESTATIC = 184;
+    public static final int NEW = 187;
+    public static final int NEWARRAY = 188;
+    public static final int ARRAYLENGTH = 190;
+    public static final int WIDE = 196;
+
+    //Element types of newarray
+    public static final int T_BOOLEAN = 4;
+    public static final int T_INT = 10;
+
+    public static class Label {
+        int position = -1;
+        int stack = -1;
+        List<Integer> branches = new ArrayList<Integer>();  //positions of the branches to patch when marked
+    }
+
+    ClassFile classFile;
+    byte[] code = new byte[64];
+    int size;
+    int stack;
+    int maxStack;
+    int locals;
+    int maxLocals;
+    boolean branchTooFar;
+    List<int[]> handlers = new ArrayList<int[]>();  //start, end, handler, catch type
+
+    //parameters is the number of local slots taken by the arguments, this included
+    public Bytecode(ClassFile classFile, int parameters){
+        this.classFile = classFile;
+        this.locals = parameters;
+        this.maxLocals = parameters;
+    }
+
+    //A local slot after those of the arguments and the locals allocated before
+    public int newLocal(){
+        int slot = this.locals++;
+        this.maxLocals = Math.max(this.maxLocals, this.locals);
+        return slot;
+    }
+
+    void emit(int value){
+        if (this.size == this.code.length)
+            this.code = Arrays.copyOf(this.code, this.size * 2);
+        this.code[this.size++] = (byte) value;
+    }
+
+    void emitShort(int value){
+        this.emit(value >> 8);
+        this.emit(value);
+    }
+
+    void push(int change){
+        this.stack += change;
+        this.maxStack = Math.max(this.maxStack, this.stack);
+    }
+
+    public void setStack(int depth){
+        this.stack = depth;
+        this.maxStack = Math.max(this.maxStack, depth);
+    }
+
+    //Instructions without operands
+    public void op(int opcode){
+        this.emit(opcode);
+        switch(opcode){
+            case ACONST_NULL: case ICONST_0: case ICONST_1: case DUP:
+                this.push(1); break;
+            case DUP2:
+                this.push(2); break;
+            case IALOAD: case BALOAD: case POP: case IADD: case ISUB: case IMUL: case IXOR:
+            case IRETURN: case ARETURN:
+                this.push(-1); break;
+            case IASTORE: case BASTORE:
+                this.push(-3); break;
+            case ARRAYLENGTH: case RETURN:
+                break;
+            default:
+                throw new IllegalArgumentException("Opcode " + opcode + " has operands");
+        }
+    }
+
+    public void pushInt(int value){
+        if (value >= -1 && value <= 5){
+            this.emit(ICONST_0 + value);
+        }
+        else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE){
+            this.emit(BIPUSH);
+            this.emit(value);
+        }
+        else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE){
+            this.emit(SIPUSH);
+            this.emitShort(value);
+        }
+        else {
+            this.constant(this.classFile.integer(value));
+            return;
+        }
+        this.push(1);
+    }
+
+    public void pushString(String value){
+        this.constant(this.classFile.string(value));
+    }
+
+    void constant(int index){
+        if (index <= 255){
+            this.emit(LDC);
+            this.emit(index);
+        }
+        else {
+            this.emit(LDC_W);
+            this.emitShort(index);
+        }
+        this.push(1);
+    }
+
+    //iload, aload, istore or astore of a slot
+    public void local(int opcode, int slot){
+        if (slot > 255){
+            this.emit(WIDE);
+            this.emit(opcode);
+            this.emitShort(slot);
+        }
+        else if (slot <= 3){
+            int shortForm = opcode < ISTORE ? 26 + (opcode - ILOAD) * 4 : 59 + (opcode - ISTORE) * 4;    //e.g. iload_0
+            this.emit(shortForm + slot);
+        }
+        else {
+            this.emit(opcode);
+            this.emit(slot);
+        }
+        this.push(opcode < ISTORE ? 1 : -1);
+        this.maxLocals = Math.max(this.maxLocals, slot + 1);
+    }
+
+    //getstatic, putstatic, getfield or putfield; no field holds a long or a double
+    public void field(int opcode, String owner, String name, String descriptor){
+        this.emit(opcode);
+        this.emitShort(this.classFile.fieldRef(owner, name, descriptor));
+        switch(opcode){
+            case GETSTATIC: this.push(1); break;
+            case PUTSTATIC: this.push(-1); break;
+            case GETFIELD: break;
+            case PUTFIELD: this.push(-2); break;
+        }
+    }
+
+    //invokevirtual, invokespecial or invokestatic; every argument takes one slot
+    public void invoke(int opcode, String owner, String name, String descriptor){
+        this.emit(opcode);
+        this.emitShort(this.classFile.methodRef(owner, name, descriptor));
+        int arguments = 0;
+        int i = 1;
+        while (descriptor.charAt(i) != ')'){
+            while (descriptor.charAt(i) == '[')
+                i++;
+            if (descriptor.charAt(i) == 'L')
+                i = descriptor.indexOf(';', i);
+            i++;
+            arguments++;
+        }
+        if (opcode != INVOKESTATIC)
+            arguments++;
+        this.push(-arguments + (descriptor.endsWith(")V") ? 0 : 1));
+    }
+
+    public void newObject(String className){
+        this.emit(NEW);
+        this.emitShort(this.classFile.classRef(className));
+        this.push(1);
+    }
+
+    public void newArray(int elementType){
+        this.emit(NEWARRAY);
+        this.emit(elementType);
+    }
+
+    public Label newLabel(){
+        return new Label();
+    }
+
+    public void jump(int opcode, Label target){
+        switch(opcode){
+            case IFEQ: case IFNE: this.push(-1); break;
+            case IF_ICMPLT: case IF_ICMPGE: this.push(-2); break;
+        }
+        int position = this.size;
+        this.emit(opcode);
+        this.emitShort(0);
+        if (target.position >= 0)
+            this.patch(position, target.position);
+        else
+            target.branches.add(position);
+        target.stack = this.stack;
+    }
+
+    public void mark(Label label){
+        label.position = this.size;
+        for (int branch : label.branches){
+            this.patch(branch, label.position);
+        }
+        if (label.stack >= 0)
+            this.stack = label.stack;
+    }
+
+    void patch(int branch, int target){
+        int offset = target - branch;
+        if (offset < Short.MIN_VALUE || offset > Short.MAX_VALUE)
+            this.branchTooFar = true;
+        this.code[branch + 1] = (byte) (offset >> 8);
+        this.code[branch + 2] = (byte) offset;
+    }
+
+    //An exception of exceptionClass thrown from start up to end goes to handler, with the stack holding it alone
+    public void addHandler(Label start, Label end, Label handler, String exceptionClass){
+        this.handlers.add(new int[]{ start.position, end.position, handler.position, this.classFile.classRef(exceptionClass) });
+    }
+}
@@ -0,0 +1,189 @@
+package JVM;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+ * A class file (chapter 4 of the JVM specification) built in memory: the constant pool,
+ * the fields and the methods with their Code attribute, written out by toByteArray.
+ *
+ * The version is 49, that of Java 5, whose methods are verified by type inference, so
+ * the Code attributes need no StackMapTable and Bytecode has only to count the depth of
+ * the operand stack.
+ */
+public class ClassFile {
+    static final int MAGIC = 0xCAFEBABE;
+    static final int MAJOR_VERSION = 49;
+
+    public static final int ACC_PUBLIC = 0x0001;
+    public static final int ACC_STATIC = 0x0008;
+    public static final int ACC_SUPER = 0x0020;
+
+    static final int CONSTANT_UTF8 = 1;
+    static final int CONSTANT_INTEGER = 3;
+    static final int CONSTANT_CLASS = 7;
+    static final int CONSTANT_STRING = 8;
+    static final int CONSTANT_FIELDREF = 9;
+    static final int CONSTANT_METHODREF = 10;
+    static final int CONSTANT_NAME_AND_TYPE = 12;
+
+    String name;
+    int thisClass;
+    int superClass;
+
+    ByteArrayOutputStream constantPool;
+    DataOutputStream constants;
+    Map<String, Integer> constantIndices;   //e.g. "7 Fac" -> index, so every constant is added once
+    int constantCount = 1;
+
+    ByteArrayOutputStream fields;
+    int fieldCount;
+    ByteArrayOutputStream methods;
+    int methodCount;
+
+    //name and superName are internal names, e.g. "java/lang/Object"
+    public ClassFile(String name, String superName){
+        this.name = name;
+        this.constantPool = new ByteArrayOutputStream();
+        this.constants = new DataOutputStream(this.constantPool);
+        this.constantIndices = new HashMap<String, Integer>();
+        this.fields = new ByteArrayOutputStream();
+        this.methods = new ByteArrayOutputStream();
+        this.thisClass = this.classRef(name);
+        this.superClass = this.classRef(superName);
+    }
+
+    public String getName() { return this.name; }
+
+    //The index of the constant with the key, added by write if it is new
+    int constant(String key, ConstantWriter write){
+        Integer index = this.constantIndices.get(key);
+        if (index == null){
+            try{
+                write.write(this.constants);
+            }
+            catch(IOException ex){
+                throw new IllegalStateException(ex);    //not thrown by a ByteArrayOutputStream
+            }
+            index = this.constantCount++;
+            this.constantIndices.put(key, index);
+        }
+        return index;
+    }
+
+    interface ConstantWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    //writeUTF writes the modified UTF-8 of the class file format
+    public int utf8(String value){
+        return this.constant(CONSTANT_UTF8 + " " + value, out -> { out.writeByte(CONSTANT_UTF8); out.writeUTF(value); });
+    }
+
+    public int integer(int value){
+        return this.constant(CONSTANT_INTEGER + " " + value, out -> { out.writeByte(CONSTANT_INTEGER); out.writeInt(value); });
+    }
+
+    public int classRef(String name){
+        int nameIndex = this.utf8(name);
+        return this.constant(CONSTANT_CLASS + " " + name, out -> { out.writeByte(CONSTANT_CLASS); out.writeShort(nameIndex); });
+    }
+
+    public int string(String value){
+        int valueIndex = this.utf8(value);
+        return this.constant(CONSTANT_STRING + " " + value, out -> { out.writeByte(CONSTANT_STRING); out.writeShort(valueIndex); });
+    }
+
+    int nameAndType(String name, String descriptor){
+        int nameIndex = this.utf8(name);
+        int descriptorIndex = this.utf8(descriptor);
+        return this.constant(CONSTANT_NAME_AND_TYPE + " " + name + " " + descriptor, out -> {
+            out.writeByte(CONSTANT_NAME_AND_TYPE);
+            out.writeShort(nameIndex);
+            out.writeShort(descriptorIndex);
+        });
+    }
+
+    int memberRef(int tag, String owner, String name, String descriptor){
+        int classIndex = this.classRef(owner);
+        int nameAndTypeIndex = this.nameAndType(name, descriptor);
+        return this.constant(tag + " " + owner + "." + name + " " + descriptor, out -> {
+            out.writeByte(tag);
+            out.writeShort(classIndex);
+            out.writeShort(nameAndTypeIndex);
+        });
+    }
+
+    public int fieldRef(String owner, String name, String descriptor){
+        return this.memberRef(CONSTANT_FIELDREF, owner, name, descriptor);
+    }
+
+    public int methodRef(String owner, String name, String descriptor){
+        return this.memberRef(CONSTANT_METHODREF, owner, name, descriptor);
+    }
+
+    public void addField(int access, String name, String descriptor){
+        DataOutputStream out = new DataOutputStream(this.fields);
+        try{
+            out.writeShort(access);
+            out.writeShort(this.utf8(name));
+            out.writeShort(this.utf8(descriptor));
+            out.writeShort(0);  //attributes
+        }
+        catch(IOException ex){
+            throw new IllegalStateException(ex);
+        }
+        this.fieldCount++;
+    }
+
+    public void addMethod(int access, String name, String descriptor, Bytecode code) throws Exception {
+        if (code.size > 65535 || code.branchTooFar)
+            throw new Exception("Method " + this.name + "." + name + " is too large for the JVM");
+        DataOutputStream out = new DataOutputStream(this.methods);
+        out.writeShort(access);
+        out.writeShort(this.utf8(name));
+        out.writeShort(this.utf8(descriptor));
+        out.writeShort(1);  //attributes: Code
+        out.writeShort(this.utf8("Code"));
+        out.writeInt(12 + code.size + 8 * code.handlers.size());
+        out.writeShort(code.maxStack);
+        out.writeShort(code.maxLocals);
+        out.writeInt(code.size);
+        out.write(code.code, 0, code.size);
+        out.writeShort(code.handlers.size());
+        for (int[] handler : code.handlers){
+            for (int value : handler){
+                out.writeShort(value);
+            }
+        }
+        out.writeShort(0);  //attributes of the Code attribute
+        this.methodCount++;
+    }
+
+    public byte[] toByteArray(){
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        try{
+            out.writeInt(MAGIC);
+            out.writeShort(0);
+            out.writeShort(MAJOR_VERSION);
+            out.writeShort(this.constantCount);
+            this.constantPool.writeTo(out);
+            out.writeShort(ACC_PUBLIC | ACC_SUPER);
+            out.writeShort(this.thisClass);
+            out.writeShort(this.superClass);
+            out.writeShort(0);  //interfaces
+            out.writeShort(this.fieldCount);
+            this.fields.writeTo(out);
+            out.writeShort(this.methodCount);
+            this.methods.writeTo(out);
+            out.writeShort(0);  //attributes
+        }
+        catch(IOException ex){
+            throw new IllegalStateException(ex);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,84 @@
+package JVM;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/*
+ * The classes of a program compiled by JVMGeneratingVisitor. They are either written out
+ * for the java command or loaded in this JVM by a class loader of their own, so a
+ * program runs, and its hot methods are compiled by the JIT, next to the compiler.
+ */
+public class Program {
+    static final long STACK_SIZE = 8 << 20;
+
+    String mainClass;
+    Map<String, byte[]> classes;    //class name -> class file, in declaration order
+
+    public Program(String mainClass, Map<String, byte[]> classes){
+        this.mainClass = mainClass;
+        this.classes = classes;
+    }
+
+    public String getMainClass() { return this.mainClass; }
+    public Map<String, byte[]> getClasses() { return this.classes; }
+
+    //Writes every class to <name>.class in directory, e.g. for java -cp directory <main class>
+    public void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (Map.Entry<String, byte[]> entry : this.classes.entrySet()){
+            Files.write(directory.resolve(entry.getKey() + ".class"), entry.getValue());
+        }
+    }
+
+    /*
+     * Runs the main class with its output printed to out and returns the exit code, 1
+     * when an array index was out of bounds. A call on null and a recursion too deep for
+     * the stack stop the program as they would its native binary. The program runs on a
+     * thread of its own with the usual 8 MB of a native stack, as the threads of the
+     * compiler may have less.
+     */
+    public int run(PrintStream out) throws Exception {
+        Class<?> main = new Loader().loadClass(this.mainClass);
+        main.getField("out").set(null, out);
+        FutureTask<Object> task = new FutureTask<Object>(() -> main.getMethod("run").invoke(null));
+        Thread thread = new Thread(null, task, this.mainClass, STACK_SIZE);
+        thread.start();
+        try{
+            return (Integer) task.get();
+        }
+        catch(ExecutionException ex){
+            Throwable error = ex.getCause() instanceof InvocationTargetException ? ex.getCause().getCause() : ex.getCause();
+            if (error instanceof NullPointerException)
+                throw new Exception("Segmentation fault");
+            if (error instanceof StackOverflowError)
+                throw new Exception("Stack overflow");
+            throw new Exception(error.toString());
+        }
+    }
+
+    //Defines the classes of the program before asking its parent, as a program may name a class like one of the compiler (e.g. Main)
+    class Loader extends ClassLoader {
+        Loader(){
+            super(Program.class.getClassLoader());
+        }
+
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            byte[] bytes = Program.this.classes.get(name);
+            if (bytes == null)
+                return super.loadClass(name, resolve);
+            synchronized(this.getClassLoadingLock(name)){
+                Class<?> loaded = this.findLoadedClass(name);
+                if (loaded == null)
+                    loaded = this.defineClass(name, bytes, 0, bytes.length);
+                if (resolve)
+                    this.resolveClass(loaded);
+                return loaded;
+            }
+        }
+    }
+}
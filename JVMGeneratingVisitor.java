@@ -0,0 +1,523 @@
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import AST.Tree;
+import AST.TreeVisitor;
+import JVM.Bytecode;
+import JVM.Bytecode.Label;
+import JVM.ClassFile;
+import JVM.Program;
+import SymbolTables.ClassSymbolTable;
+import SymbolTables.FieldSymbol;
+import SymbolTables.GlobalSymbolTable;
+import SymbolTables.MethodSymbolTable;
+import SymbolTables.Type;
+
+/*
+ * Compiles the program to JVM classes instead of an IR.Module, one class per MiniJava
+ * class with its fields and methods, from the symbol table of a type checked program.
+ * Every expression visit leaves its value on the operand stack and returns its type.
+ *
+ * Objects, arrays and calls are those of the JVM, so the offsets of the symbol table
+ * only give the order of the fields. The main class gets a static run method with the
+ * body of main, which prints "Out of bounds" and returns 1 on an array index out of
+ * bounds or a negative array size, as throw_oob does; main exits with what run returns.
+ */
+public class JVMGeneratingVisitor extends TreeVisitor<Type>{
+    GlobalSymbolTable symbolTable;
+    ClassSymbolTable curClassSymbolTable;
+    MethodSymbolTable curMethodSymbolTable;
+    Map<String, byte[]> classes;
+    ClassFile classFile;
+    Bytecode code;
+    Map<String, Integer> localSlots;    //varName -> local slot of the current method, arguments included
+    Map<String, Type> localTypes;
+
+    static final String PRINT_STREAM = "Ljava/io/PrintStream;";
+
+    JVMGeneratingVisitor(Tree tree, GlobalSymbolTable globalSymbolTable){
+        super(tree);
+        this.symbolTable = globalSymbolTable;
+        this.classes = new LinkedHashMap<String, byte[]>();
+    }
+
+    //The classes of the program, after visit(tree.getRoot())
+    public Program getProgram() { return new Program(this.symbolTable.mainClass, this.classes); }
+
+    static String descriptor(Type type){
+        if (type == Type.INT) return "I";
+        if (type == Type.BOOLEAN) return "Z";
+        if (type == Type.INT_ARRAY) return "[I";
+        if (type == Type.BOOLEAN_ARRAY) return "[Z";
+        if (type == Type.STRING_ARRAY) return "[Ljava/lang/String;";
+        return "L" + type.getName() + ";";
+    }
+
+    //e.g. "(I[Z)LTree;"
+    static String descriptor(MethodSymbolTable methodSymbolTable){
+        String descriptor = "(";
+        for (Type argumentType : methodSymbolTable.getArgumentSymbolTable().values()){
+            descriptor += descriptor(argumentType);
+        }
+        return descriptor + ")" + descriptor(methodSymbolTable.getReturnType());
+    }
+
+    static boolean isReference(Type type){
+        return type != Type.INT && type != Type.BOOLEAN;
+    }
+
+    void beginMethod(int parameters){
+        this.code = new Bytecode(this.classFile, parameters);
+        this.localSlots = new HashMap<String, Integer>();
+        this.localTypes = new HashMap<String, Type>();
+    }
+
+    void addLocal(String identifier, Type type, int slot){
+        this.localSlots.put(identifier, slot);
+        this.localTypes.put(identifier, type);
+    }
+
+    //A constructor calling the one of the parent, the fields start as 0, false or null
+    void addConstructor(String parentName) throws Exception{
+        this.beginMethod(1);
+        this.code.local(Bytecode.ALOAD, 0);
+        this.code.invoke(Bytecode.INVOKESPECIAL, parentName, "<init>", "()V");
+        this.code.op(Bytecode.RETURN);
+        this.classFile.addMethod(ClassFile.ACC_PUBLIC, "<init>", "()V", this.code);
+    }
+
+    void endClass(){
+        this.classes.put(this.classFile.getName(), this.classFile.toByteArray());
+    }
+
+    /**
+    * name -> the class
+    * children -> FORMAL_PARAMETER (the arguments), VAR_DECLARATION*, statement*
+    */
+    public Type visitMainClass(int n) throws Exception {
+        String className = this.tree.getName(n);
+        this.curClassSymbolTable = this.symbolTable.getClassSymbolTable(className);
+        this.curMethodSymbolTable = this.curClassSymbolTable.getMethodSymbolTable("main");
+        this.classFile = new ClassFile(className, "java/lang/Object");
+        this.addConstructor("java/lang/Object");
+
+        //Printed to by the program, System.out unless Program.run sets it
+        this.classFile.addField(ClassFile.ACC_PUBLIC | ClassFile.ACC_STATIC, "out", PRINT_STREAM);
+        this.beginMethod(0);
+        this.code.field(Bytecode.GETSTATIC, "java/lang/System", "out", PRINT_STREAM);
+        this.code.field(Bytecode.PUTSTATIC, className, "out", PRINT_STREAM);
+        this.code.op(Bytecode.RETURN);
+        this.classFile.addMethod(ClassFile.ACC_STATIC, "<clinit>", "()V", this.code);
+
+        this.beginMethod(0);
+        Label start = this.code.newLabel();
+        Label end = this.code.newLabel();
+        Label outOfBounds = this.code.newLabel();
+        this.code.mark(start);
+        this.visitChildren(n, 1, this.tree.getChildCount(n));
+        this.code.pushInt(0);
+        this.code.op(Bytecode.IRETURN);
+        this.code.mark(end);
+
+        this.code.mark(outOfBounds);
+        this.code.setStack(1);
+        this.code.op(Bytecode.POP);
+        this.code.field(Bytecode.GETSTATIC, className, "out", PRINT_STREAM);
+        this.code.pushString("Out of bounds");
+        this.code.invoke(Bytecode.INVOKEVIRTUAL, "java/io/PrintStream", "println", "(Ljava/lang/String;)V");
+        this.code.pushInt(1);
+        this.code.op(Bytecode.IRETURN);
+        this.code.addHandler(start, end, outOfBounds, "java/lang/ArrayIndexOutOfBoundsException");
+        this.code.addHandler(start, end, outOfBounds, "java/lang/NegativeArraySizeException");
+        this.classFile.addMethod(ClassFile.ACC_PUBLIC | ClassFile.ACC_STATIC, "run", "()I", this.code);
+
+        //if ((code = run()) != 0) System.exit(code);
+        this.beginMethod(1);
+        Label exit = this.code.newLabel();
+        this.code.invoke(Bytecode.INVOKESTATIC, className, "run", "()I");
+        this.code.op(Bytecode.DUP);
+        this.code.jump(Bytecode.IFNE, exit);
+        this.code.op(Bytecode.RETURN);
+        this.code.mark(exit);
+        this.code.invoke(Bytecode.INVOKESTATIC, "java/lang/System", "exit", "(I)V");
+        this.code.op(Bytecode.RETURN);
+        this.classFile.addMethod(ClassFile.ACC_PUBLIC | ClassFile.ACC_STATIC, "main", "([Ljava/lang/String;)V", this.code);
+
+        this.endClass();
+        return null;
+    }
+
+    /**
+    * name -> the class
+    * children -> VAR_DECLARATION*, METHOD_DECLARATION*
+    */
+    public Type visitClassDeclaration(int n) throws Exception {
+        this.beginClass(n);
+        this.visitChildren(n, this.tree.skipChildren(n, Tree.VAR_DECLARATION, 0), this.tree.getChildCount(n));
+        this.endClass();
+        return null;
+    }
+
+    /**
+    * name -> the class
+    * children -> TYPE (the parent class), VAR_DECLARATION*, METHOD_DECLARATION*
+    */
+    public Type visitClassExtendsDeclaration(int n) throws Exception {
+        this.beginClass(n);
+        this.visitChildren(n, this.tree.skipChildren(n, Tree.VAR_DECLARATION, 1), this.tree.getChildCount(n));
+        this.endClass();
+        return null;
+    }
+
+    //The class with its fields, declared in the order of their offsets, and its constructor
+    void beginClass(int n) throws Exception{
+        this.curClassSymbolTable = this.symbolTable.getClassSymbolTable(this.tree.getName(n));
+        String parentName = this.curClassSymbolTable.getParentName();
+        if (parentName == null)
+            parentName = "java/lang/Object";
+        this.classFile = new ClassFile(this.curClassSymbolTable.getClassName(), parentName);
+
+        Map<String, Type> fieldsTable = this.curClassSymbolTable.getFieldsTable();
+        List<String> fields = new ArrayList<String>(fieldsTable.keySet());
+        fields.sort((field1, field2) -> this.curClassSymbolTable.getFieldOffset(field1) - this.curClassSymbolTable.getFieldOffset(field2));
+        for (String field : fields){
+            this.classFile.addField(ClassFile.ACC_PUBLIC, field, descriptor(fieldsTable.get(field)));
+        }
+        this.addConstructor(parentName);
+    }
+
+    /**
+    * name -> the method
+    * children -> TYPE (the return type), FORMAL_PARAMETER*, VAR_DECLARATION*, statement*, return expression
+    */
+    public Type visitMethodDeclaration(int n) throws Exception {
+        String methodName = this.tree.getName(n);
+        this.curMethodSymbolTable = this.curClassSymbolTable.getMethodSymbolTable(methodName);
+        Map<String, Type> argumentSymbolTable = this.curMethodSymbolTable.getArgumentSymbolTable();
+
+        //this is slot 0, the arguments follow in order
+        this.beginMethod(1 + argumentSymbolTable.size());
+        int slot = 1;
+        for (String argument : argumentSymbolTable.keySet()){
+            this.addLocal(argument, argumentSymbolTable.get(argument), slot++);
+        }
+
+        int returnExpression = this.tree.getChildCount(n) - 1;
+        this.visitChildren(n, this.tree.skipChildren(n, Tree.FORMAL_PARAMETER, 1), returnExpression);
+        Type type = this.visit(this.tree.getChild(n, returnExpression));
+        this.code.op(isReference(type) ? Bytecode.ARETURN : Bytecode.IRETURN);
+        this.classFile.addMethod(ClassFile.ACC_PUBLIC, methodName, descriptor(this.curMethodSymbolTable), this.code);
+        return null;
+    }
+
+    /**
+    * name -> the variable
+    * children -> TYPE
+    */
+    public Type visitVarDeclaration(int n) throws Exception {
+        String identifier = this.tree.getName(n);
+        Type type = this.curMethodSymbolTable.getIdentifierType(identifier, this.curClassSymbolTable, this.symbolTable);
+        int slot = this.code.newLocal();
+        this.addLocal(identifier, type, slot);
+
+        //The verifier rejects reading a local before it is stored to, MiniJava reads 0, false or null
+        if (isReference(type)){
+            this.code.op(Bytecode.ACONST_NULL);
+            this.code.local(Bytecode.ASTORE, slot);
+        }
+        else {
+            this.code.pushInt(0);
+            this.code.local(Bytecode.ISTORE, slot);
+        }
+        return null;
+    }
+
+    /**
+    * children -> IDENTIFIER, expression
+    */
+    public Type visitAssignmentStatement(int n) throws Exception {
+        String identifier = this.tree.getName(this.tree.getChild(n, 0));
+        if (this.localSlots.containsKey(identifier)){
+            this.visit(this.tree.getChild(n, 1));
+            this.code.local(isReference(this.localTypes.get(identifier)) ? Bytecode.ASTORE : Bytecode.ISTORE, this.localSlots.get(identifier));
+            return null;
+        }
+
+        FieldSymbol field = this.curClassSymbolTable.getField(identifier);
+        this.code.local(Bytecode.ALOAD, 0);
+        this.visit(this.tree.getChild(n, 1));
+        this.code.field(Bytecode.PUTFIELD, field.getOwner().getClassName(), identifier, descriptor(field.getType()));
+        return null;
+    }
+
+    /**
+    * children -> ARRAY_LOOKUP (of the IDENTIFIER and the index), expression
+    */
+    public Type visitArrayAssignmentStatement(int n) throws Exception {
+        int element = this.tree.getChild(n, 0);
+        Type arrayType = this.visit(this.tree.getChild(element, 0));
+        this.visit(this.tree.getChild(element, 1));
+        this.visit(this.tree.getChild(n, 1));
+        this.code.op(arrayType == Type.BOOLEAN_ARRAY ? Bytecode.BASTORE : Bytecode.IASTORE);
+        return null;
+    }
+
+    /**
+    * children -> condition, statement, statement
+    */
+    public Type visitIfStatement(int n) throws Exception {
+        Label elseLabel = this.code.newLabel();
+        Label endLabel = this.code.newLabel();
+        this.branchIfFalse(this.tree.getChild(n, 0), elseLabel);
+        this.visit(this.tree.getChild(n, 1));
+        this.code.jump(Bytecode.GOTO, endLabel);
+        this.code.mark(elseLabel);
+        this.visit(this.tree.getChild(n, 2));
+        this.code.mark(endLabel);
+        return null;
+    }
+
+    /**
+    * children -> condition, statement
+    */
+    public Type visitWhileStatement(int n) throws Exception {
+        Label conditionLabel = this.code.newLabel();
+        Label endLabel = this.code.newLabel();
+        this.code.mark(conditionLabel);
+        this.branchIfFalse(this.tree.getChild(n, 0), endLabel);
+        this.visit(this.tree.getChild(n, 1));
+        this.code.jump(Bytecode.GOTO, conditionLabel);
+        this.code.mark(endLabel);
+        return null;
+    }
+
+    /**
+    * children -> expression
+    */
+    public Type visitPrintStatement(int n) throws Exception {
+        this.code.field(Bytecode.GETSTATIC, this.symbolTable.mainClass, "out", PRINT_STREAM);
+        this.visit(this.tree.getChild(n, 0));
+        this.code.invoke(Bytecode.INVOKEVIRTUAL, "java/io/PrintStream", "println", "(I)V");
+        return null;
+    }
+
+    //Conditions of if and while jump on the comparisons themselves instead of on a pushed boolean
+    void branchIfFalse(int n, Label target) throws Exception{
+        switch(this.tree.getKind(n)){
+            case Tree.COMPARE_EXPRESSION:
+                this.visit(this.tree.getChild(n, 0));
+                this.visit(this.tree.getChild(n, 1));
+                this.code.jump(Bytecode.IF_ICMPGE, target);
+                break;
+            case Tree.AND_EXPRESSION:
+                this.branchIfFalse(this.tree.getChild(n, 0), target);
+                this.branchIfFalse(this.tree.getChild(n, 1), target);
+                break;
+            case Tree.NOT_EXPRESSION:
+                this.branchIfTrue(this.tree.getChild(n, 0), target);
+                break;
+            default:
+                this.visit(n);
+                this.code.jump(Bytecode.IFEQ, target);
+        }
+    }
+
+    void branchIfTrue(int n, Label target) throws Exception{
+        switch(this.tree.getKind(n)){
+            case Tree.COMPARE_EXPRESSION:
+                this.visit(this.tree.getChild(n, 0));
+                this.visit(this.tree.getChild(n, 1));
+                this.code.jump(Bytecode.IF_ICMPLT, target);
+                break;
+            case Tree.AND_EXPRESSION:
+                Label skip = this.code.newLabel();
+                this.branchIfFalse(this.tree.getChild(n, 0), skip);
+                this.branchIfTrue(this.tree.getChild(n, 1), target);
+                this.code.mark(skip);
+                break;
+            case Tree.NOT_EXPRESSION:
+                this.branchIfFalse(this.tree.getChild(n, 0), target);
+                break;
+            default:
+                this.visit(n);
+                this.code.jump(Bytecode.IFNE, target);
+        }
+    }
+
+    //Pushes 1 or 0 for a condition
+    Type condition(int n) throws Exception{
+        Label falseLabel = this.code.newLabel();
+        Label endLabel = this.code.newLabel();
+        this.branchIfFalse(n, falseLabel);
+        this.code.pushInt(1);
+        this.code.jump(Bytecode.GOTO, endLabel);
+        this.code.mark(falseLabel);
+        this.code.pushInt(0);
+        this.code.mark(endLabel);
+        return Type.BOOLEAN;
+    }
+
+    /**
+    * children -> left, right
+    */
+    public Type visitAndExpression(int n) throws Exception {
+        return this.condition(n);
+    }
+
+    /**
+    * children -> left, right
+    */
+    public Type visitCompareExpression(int n) throws Exception {
+        return this.condition(n);
+    }
+
+    Type arithmetic(int n, int opcode) throws Exception{
+        this.visit(this.tree.getChild(n, 0));
+        this.visit(this.tree.getChild(n, 1));
+        this.code.op(opcode);
+        return Type.INT;
+    }
+
+    /**
+    * children -> left, right
+    */
+    public Type visitPlusExpression(int n) throws Exception {
+        return this.arithmetic(n, Bytecode.IADD);
+    }
+
+    /**
+    * children -> left, right
+    */
+    public Type visitMinusExpression(int n) throws Exception {
+        return this.arithmetic(n, Bytecode.ISUB);
+    }
+
+    /**
+    * children -> left, right
+    */
+    public Type visitTimesExpression(int n) throws Exception {
+        return this.arithmetic(n, Bytecode.IMUL);
+    }
+
+    /**
+    * children -> array, index
+    */
+    public Type visitArrayLookup(int n) throws Exception {
+        Type arrayType = this.visit(this.tree.getChild(n, 0));
+        this.visit(this.tree.getChild(n, 1));
+        this.code.op(arrayType == Type.BOOLEAN_ARRAY ? Bytecode.BALOAD : Bytecode.IALOAD);
+        return arrayType.getElementType();
+    }
+
+    /**
+    * children -> array
+    */
+    public Type visitArrayLength(int n) throws Exception {
+        this.visit(this.tree.getChild(n, 0));
+        this.code.op(Bytecode.ARRAYLENGTH);
+        return Type.INT;
+    }
+
+    /**
+    * name -> the method
+    * children -> object, arguments*
+    */
+    public Type visitMessageSend(int n) throws Exception {
+        ClassSymbolTable receiverClass = this.visit(this.tree.getChild(n, 0)).getClassSymbolTable();
+        MethodSymbolTable methodSymbolTable = receiverClass.getMethodSymbolTable(this.tree.getName(n), this.symbolTable);
+        this.visitChildren(n, 1, this.tree.getChildCount(n));
+        this.code.invoke(Bytecode.INVOKEVIRTUAL, receiverClass.getClassName(), methodSymbolTable.getMethodName(), descriptor(methodSymbolTable));
+        return methodSymbolTable.getReturnType();
+    }
+
+    /**
+    * name -> the digits
+    */
+    public Type visitIntegerLiteral(int n) throws Exception {
+        this.code.pushInt((int) Long.parseLong(this.tree.getName(n)));
+        return Type.INT;
+    }
+
+    public Type visitTrueLiteral(int n) throws Exception {
+        this.code.pushInt(1);
+        return Type.BOOLEAN;
+    }
+
+    public Type visitFalseLiteral(int n) throws Exception {
+        this.code.pushInt(0);
+        return Type.BOOLEAN;
+    }
+
+    /**
+    * name -> the variable
+    */
+    public Type visitIdentifier(int n) throws Exception {
+        String identifier = this.tree.getName(n);
+        if (this.localSlots.containsKey(identifier)){
+            Type type = this.localTypes.get(identifier);
+            this.code.local(isReference(type) ? Bytecode.ALOAD : Bytecode.ILOAD, this.localSlots.get(identifier));
+            return type;
+        }
+
+        FieldSymbol field = this.curClassSymbolTable.getField(identifier);
+        //A class name used as a value has its class type, as in TypeCheckVisitor, but no object
+        if (field == null){
+            this.code.op(Bytecode.ACONST_NULL);
+            return this.symbolTable.getClassType(identifier);
+        }
+        this.code.local(Bytecode.ALOAD, 0);
+        this.code.field(Bytecode.GETFIELD, field.getOwner().getClassName(), identifier, descriptor(field.getType()));
+        return field.getType();
+    }
+
+    public Type visitThisExpression(int n) throws Exception {
+        //run() is static, 'this' in main has the type of the main class but no object
+        if (this.curClassSymbolTable.getClassName().equals(this.symbolTable.mainClass))
+            this.code.op(Bytecode.ACONST_NULL);
+        else
+            this.code.local(Bytecode.ALOAD, 0);
+        return this.curClassSymbolTable.getType();
+    }
+
+    /**
+    * children -> size
+    */
+    public Type visitBooleanArrayAllocation(int n) throws Exception {
+        this.visit(this.tree.getChild(n, 0));
+        this.code.newArray(Bytecode.T_BOOLEAN);
+        return Type.BOOLEAN_ARRAY;
+    }
+
+    /**
+    * children -> size
+    */
+    public Type visitIntegerArrayAllocation(int n) throws Exception {
+        this.visit(this.tree.getChild(n, 0));
+        this.code.newArray(Bytecode.T_INT);
+        return Type.INT_ARRAY;
+    }
+
+    /**
+    * name -> the class
+    */
+    public Type visitAllocationExpression(int n) throws Exception {
+        String className = this.tree.getName(n);
+        this.code.newObject(className);
+        this.code.op(Bytecode.DUP);
+        this.code.invoke(Bytecode.INVOKESPECIAL, className, "<init>", "()V");
+        return this.symbolTable.getClassType(className);
+    }
+
+    /**
+    * children -> expression
+    */
+    public Type visitNotExpression(int n) throws Exception {
+        this.visit(this.tree.getChild(n, 0));
+        this.code.pushInt(1);
+        this.code.op(Bytecode.IXOR);
+        return Type.BOOLEAN;
+    }
+}
@@ -1,1105 +1,733 @@
-import java.io.PrintWriter;
-import java.util.LinkedHashMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
-
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import AST.Tree;
+import AST.TreeVisitor;
+import IR.*;
+import IR.Module;
 import SymbolTables.ClassSymbolTable;
+import SymbolTables.FieldSymbol;
 import SymbolTables.GlobalSymbolTable;
 import SymbolTables.MethodSymbolTable;
-import syntaxtree.*;
-import syntaxtree.NodeListOptional;
-import visitor.*;
-
-public class LLVMGeneratingVisitor extends GJDepthFirst<String, Void>{
+import SymbolTables.Type;
+import SymbolTables.VTableLayout;
+
+/*
+ * Builds an IR.Module for the program. Every expression visit returns the IR value
+ * holding its result; the module is serialized afterwards by IR.IRPrinter.
+ *
+ * With checkTypes it also does the work of TypeCheckVisitor, so the method bodies are
+ * walked once: the type of every value is recorded and passed to the checks of the
+ * type checker before the value is used.
+ *
+ * generateInParallel builds every function with a visitor of its own. Registers and
+ * labels are numbered per IR.Function, so the functions do not depend on each other and
+ * only need to be added to the module in declaration order.
+ */
+public class LLVMGeneratingVisitor extends TreeVisitor<Value>{
     GlobalSymbolTable symbolTable;
     ClassSymbolTable curClassSymbolTable;
     MethodSymbolTable curMethodSymbolTable;
-    Map<String, String> methodCallerType;
-    PrintWriter writer;
-
-    int registerCount = 0;
-    int ifCount = 0;
-    int oobCount = 0;
-    int loopCount = 0;
-    int arrCount = 0;
-    int andCount = 0;
-
-    boolean isInMethod, keepJavaType, checkForFields, returnArguments = false;
-    
-    LLVMGeneratingVisitor(GlobalSymbolTable globalSymbolTable, PrintWriter llvmWriter) throws Exception{
+    Module module;
+    IRBuilder builder;
+
+    Register thisRegister;
+    Map<String, Register> localVariables;   //varName -> alloca of the current function
+    Map<Value, Type> valueTypes;            //MiniJava type of object and array values, of every value when checking types
+    boolean devirtualize;                   //call methods no subclass overrides directly
+    String booleanArrayLayout;              //"word", "byte" or "bit" per boolean[] element
+    TypeCheckVisitor typeChecker;           //null unless checking types
+
+    static final Global CALLOC = new Global("calloc", "i8* (i32, i32)*");
+    static final Global PRINT_INT = new Global("print_int", "void (i32)*");
+    static final Global THROW_OOB = new Global("throw_oob", "void ()*");
+
+    LLVMGeneratingVisitor(Tree tree, GlobalSymbolTable globalSymbolTable) throws Exception{
+        this(tree, globalSymbolTable, false, "word", false);
+    }
+
+    LLVMGeneratingVisitor(Tree tree, GlobalSymbolTable globalSymbolTable, boolean devirtualize, String booleanArrayLayout, boolean checkTypes) throws Exception{
+        super(tree);
         this.symbolTable = globalSymbolTable;
-        this.writer = llvmWriter;
-        this.methodCallerType = new LinkedHashMap<String, String>();
+        if (checkTypes)
+            this.typeChecker = new TypeCheckVisitor(tree, globalSymbolTable);
+        this.devirtualize = devirtualize;
+        this.booleanArrayLayout = booleanArrayLayout;
+        this.module = new Module();
+        this.builder = new IRBuilder();
+        this.valueTypes = new IdentityHashMap<Value, Type>();
+
+        this.defineVTables();
+    }
+
+    //A visitor for single functions, with the settings of generator and a module of its own
+    LLVMGeneratingVisitor(LLVMGeneratingVisitor generator){
+        super(generator.tree);
+        this.symbolTable = generator.symbolTable;
+        if (generator.typeChecker != null)
+            this.typeChecker = new TypeCheckVisitor(generator.tree, generator.symbolTable);
+        this.devirtualize = generator.devirtualize;
+        this.booleanArrayLayout = generator.booleanArrayLayout;
+        this.module = new Module();
+        this.builder = new IRBuilder();
+        this.valueTypes = new IdentityHashMap<Value, Type>();
+    }
+
+    public Module getModule() { return this.module; }
+
+    /*
+     * Does what visit(tree.getRoot()) does, with the main function and every method
+     * generated as separate tasks on the pool. The functions are added to the module in
+     * declaration order and the error thrown is the first one in source order, so the
+     * result is the same as the one of the single walk.
+     */
+    void generateInParallel(ForkJoinPool pool) throws Exception {
+        //Fill the lazily built parts of the symbol table before the tasks read it
+        if (this.devirtualize)
+            this.symbolTable.findOverriddenMethods();
+        if (this.typeChecker != null)
+            this.symbolTable.numberHierarchy();
+
+        int root = this.tree.getRoot();
+        List<LLVMGeneratingVisitor> workers = new ArrayList<LLVMGeneratingVisitor>();
+        List<Callable<Exception>> tasks = new ArrayList<Callable<Exception>>();
+        tasks.add(this.functionTask(this.tree.getChild(root, 0), null, workers));
+        for (int i = 1; i < this.tree.getChildCount(root); i++){
+            int declaration = this.tree.getChild(root, i);
+            ClassSymbolTable classSymbolTable = this.symbolTable.getClassSymbolTable(this.tree.getName(declaration));
+            if (this.typeChecker != null){
+                tasks.add(() -> {
+                    try{
+                        this.checkDeclaredTypes(classSymbolTable.getFieldsTable().values());
+                        return null;
+                    }
+                    catch(Exception ex){
+                        return ex;
+                    }
+                });
+            }
+            int fields = this.tree.getKind(declaration) == Tree.CLASS_EXTENDS_DECLARATION ? 1 : 0;
+            for (int j = this.tree.skipChildren(declaration, Tree.VAR_DECLARATION, fields); j < this.tree.getChildCount(declaration); j++){
+                tasks.add(this.functionTask(this.tree.getChild(declaration, j), classSymbolTable, workers));
+            }
+        }
 
-        this.defineVTable();
-        this.defineHelperMethods();
+        for (Future<Exception> result : pool.invokeAll(tasks)){
+            Exception error = result.get();
+            if (error != null)
+                throw error;
+        }
+        for (LLVMGeneratingVisitor worker : workers){
+            for (Function function : worker.getModule().getFunctions()){
+                this.module.addFunction(function);
+            }
+        }
     }
 
-    void emit(String data) { this.writer.print(data); }
-    String newTemp() { return "%_" + registerCount++; }
-    String newIfLabel() { return "if" + ifCount++; }
-    String newOobLabel() { return "oob" + oobCount++; }
-    String newLoopLabel() { return "loop" + loopCount++; }
-    String newArrAllocLabel() { return "arr_alloc" + arrCount++; }
-    String newAndLabel() { return "andclause" + andCount++; }
-    void resetRegisters() { this.registerCount = 0; }
-
-    String getExprType(String expr) {
-        if (expr.split(" ").length == 3)
-            return expr.split(" ")[1];
-        else
-            return expr.split(" ")[0];
+    //Returns the error instead of throwing it, the pool would rethrow a copy of it
+    Callable<Exception> functionTask(int node, ClassSymbolTable classSymbolTable, List<LLVMGeneratingVisitor> workers){
+        LLVMGeneratingVisitor worker = new LLVMGeneratingVisitor(this);
+        worker.curClassSymbolTable = classSymbolTable;
+        workers.add(worker);
+        return () -> {
+            try{
+                worker.visit(node);
+                return null;
+            }
+            catch(Exception ex){
+                return ex;
+            }
+        };
     }
-    
-    String getExprValue(String expr) { 
-        if (expr.split(" ").length == 3)
-            return expr.split(" ")[2]; 
-        else
-            return expr.split(" ")[1]; 
+
+    String JavaToLLVM(Type type){
+        if (type == Type.BOOLEAN) return "i1";
+        if (type == Type.INT) return "i32";
+        if (type == Type.BOOLEAN_ARRAY) return this.booleanArrayLayout.equals("word") ? "i32*" : "i8*";
+        if (type == Type.INT_ARRAY) return "i32*";
+        return "i8*";
     }
 
-    String JavaToLLVM(String type){
-        if (type.startsWith("i32")
-            | type.startsWith("i8")
-            | type.startsWith("i1"))
-            return type;
-        switch(type){
-            case "boolean": return "i1";
-            case "int": return "i32";
-            case "boolean[]": return "i32*";
-            case "int[]": return "i32*";
-            default: return "i8*";
+    //e.g. "i32 (i8*,i32)"
+    String functionType(MethodSymbolTable methodSymbolTable){
+        String type = JavaToLLVM(methodSymbolTable.getReturnType()) + " (i8*";
+        for (Type argumentType : methodSymbolTable.getArgumentSymbolTable().values()){
+            type += "," + JavaToLLVM(argumentType);
         }
+        return type + ")";
+    }
+
+    Value typed(Value value, Type javaType){
+        if (this.typeChecker != null || (javaType != Type.INT && javaType != Type.BOOLEAN))
+            this.valueTypes.put(value, javaType);
+        return value;
+    }
+
+    Type typeOf(Value value){
+        return this.valueTypes.get(value);
     }
 
-    String varToReg(String variable, String type){
-        String reg = variable;
-        if(!reg.matches("\\d+") && !reg.startsWith("%_") && !reg.equals("%this")){
-            reg = newTemp();
-            emit("\t" + reg + " = load " + type + ", " + type + "* " + variable + "\n");
-            this.methodCallerType.put(reg, type);
+    void checkDeclaredTypes(Iterable<Type> types) throws Exception{
+        if (this.typeChecker == null) return;
+        for (Type type : types){
+            this.typeChecker.checkDeclaredType(type);
         }
-        return reg;
     }
 
-    public void defineVTable() throws Exception{
-        String buffer = "";
-        Set<String> classes = this.symbolTable.classesSymbolTable.keySet();
-        for (String className : classes){
-            if (className.equals(this.symbolTable.mainClass)){
-                buffer += "@." + className + "_vtable = global [0 x i8*] []\n";
-                continue;
-            }
-            ClassSymbolTable classSymbolTable = this.symbolTable.getClassSymbolTable(className);
-            Map<String, MethodSymbolTable> methodSymbolTables = classSymbolTable.getAllMethodsTable(this.symbolTable);
-            Set<String> methods = methodSymbolTables.keySet();
-            buffer += "@." + className + "_vtable = global [" + methods.size() + " x i8*] [";
-            int methodIndex = 0;
-            for (String methodName : methods){
-                MethodSymbolTable methodSymbolTable = methodSymbolTables.get(methodName);
-                String returnType = methodSymbolTable.getReturnType();
-                buffer += "i8* bitcast (" + JavaToLLVM(returnType) + " (i8*";
-                
-                Map<String,String> argumentSymbolTable = methodSymbolTable.getArgumentSymbolTable();
-                Set<String> arguments = argumentSymbolTable.keySet();
-                for (String argument : arguments){
-                    buffer += "," + JavaToLLVM(argumentSymbolTable.get(argument));
+    void defineVTables() throws Exception{
+        for (String className : this.symbolTable.classesSymbolTable.keySet()){
+            List<Global> methods = new ArrayList<Global>();
+            if (!className.equals(this.symbolTable.mainClass)){
+                ClassSymbolTable classSymbolTable = this.symbolTable.getClassSymbolTable(className);
+                for (MethodSymbolTable methodSymbolTable : classSymbolTable.getVTableLayout(this.symbolTable).getMethods()){
+                    String name = methodSymbolTable.getClassName() + "." + methodSymbolTable.getMethodName();
+                    methods.add(new Global(name, functionType(methodSymbolTable) + "*"));
                 }
-                buffer += ")* @" + methodSymbolTable.getClassName() + "." + methodName + " to i8*)";
-                if (++methodIndex < methods.size()) buffer += ", ";
             }
-            buffer += "]\n";
+            this.module.addVTable(new VTable(className, methods));
         }
-        buffer += "\n";
-        emit(buffer);
     }
 
-    void defineHelperMethods(){
-        String helperMethods = "declare i8* @calloc(i32, i32)\n"
-                            + "declare i32 @printf(i8*, ...)\n"
-                            + "declare void @exit(i32)\n\n"
-
-                            + "@_cint = constant [4 x i8] c\"%d\\0a\\00\"\n"
-                            + "@_cOOB = constant [15 x i8] c\"Out of bounds\\0a\\00\"\n"
-                            + "define void @print_int(i32 %i) {\n"
-                            + "     %_str = bitcast [4 x i8]* @_cint to i8*\n"
-                            + "     call i32 (i8*, ...) @printf(i8* %_str, i32 %i)\n"
-                            + "     ret void\n"
-                            + "}\n\n"
-
-                            + "define void @throw_oob() {\n"
-                            + "     %_str = bitcast [15 x i8]* @_cOOB to i8*\n"
-                            + "     call i32 (i8*, ...) @printf(i8* %_str)\n"
-                            + "     call void @exit(i32 1)\n"
-                            + "     ret void\n"
-                            + "}\n";
-
-        this.writer.println(helperMethods);
+    void beginFunction(String name, String returnType, List<Register> parameters){
+        this.builder.setFunction(new Function(name, returnType, parameters));
+        this.localVariables = new HashMap<String, Register>();
+        this.valueTypes.clear();    //values do not outlive their function
     }
 
-    /**
-    * f0 -> "class"
-    * f1 -> Identifier()
-    * f2 -> "{"
-    * f3 -> "public"
-    * f4 -> "static"
-    * f5 -> "void"
-    * f6 -> "main"
-    * f7 -> "("
-    * f8 -> "String"
-    * f9 -> "["
-    * f10 -> "]"
-    * f11 -> Identifier()
-    * f12 -> ")"
-    * f13 -> "{"
-    * f14 -> ( VarDeclaration() )*
-    * f15 -> ( Statement() )*
-    * f16 -> "}"
-    * f17 -> "}"
-    */
-   public String visit(MainClass n, Void argu) throws Exception {
-    n.f0.accept(this, argu);
-    n.f1.accept(this, argu);
-    n.f2.accept(this, argu);
-    n.f3.accept(this, argu);
-    n.f4.accept(this, argu);
-    n.f5.accept(this, argu);
-    n.f6.accept(this, argu);
-    n.f7.accept(this, argu);
-    emit("\ndefine i32 @main() {\n");
-    n.f8.accept(this, argu);
-    n.f9.accept(this, argu);
-    n.f10.accept(this, argu);
-    n.f11.accept(this, argu);
-    n.f12.accept(this, argu);
-    n.f13.accept(this, argu);
-    this.isInMethod = true;
-    n.f14.accept(this, argu);
-    n.f15.accept(this, argu);
-    this.isInMethod = false;
-    emit("\n\tret i32 0\n");
-    n.f16.accept(this, argu);
-    emit("}\n\n");
-    n.f17.accept(this, argu);
-    return null;
- }
-
- /**
-    * f0 -> "class"
-    * f1 -> Identifier()
-    * f2 -> "{"
-    * f3 -> ( VarDeclaration() )*
-    * f4 -> ( MethodDeclaration() )*
-    * f5 -> "}"
-    */
-    public String visit(ClassDeclaration n, Void argu) throws Exception {
-        n.f0.accept(this, argu);
-        String className = n.f1.accept(this, argu);
-        n.f2.accept(this, argu);
-        this.curClassSymbolTable = symbolTable.getClassSymbolTable(className);
-        n.f3.accept(this, argu);
-        n.f4.accept(this, argu);
-        n.f5.accept(this, argu);
-        return null;
-     }
-  
-     /**
-      * f0 -> "class"
-      * f1 -> Identifier()
-      * f2 -> "extends"
-      * f3 -> Identifier()
-      * f4 -> "{"
-      * f5 -> ( VarDeclaration() )*
-      * f6 -> ( MethodDeclaration() )*
-      * f7 -> "}"
-      */
-     public String visit(ClassExtendsDeclaration n, Void argu) throws Exception {
-        n.f0.accept(this, argu);
-        String className = n.f1.accept(this, argu);
-        n.f2.accept(this, argu);
-        n.f3.accept(this, argu);
-        n.f4.accept(this, argu);
-        this.curClassSymbolTable = symbolTable.getClassSymbolTable(className);
-        n.f5.accept(this, argu);
-        n.f6.accept(this, argu);
-        n.f7.accept(this, argu);
-        return null;
-     }
-
- /**
-    * f0 -> "public"
-    * f1 -> Type()
-    * f2 -> Identifier()
-    * f3 -> "("
-    * f4 -> ( FormalParameterList() )?
-    * f5 -> ")"
-    * f6 -> "{"
-    * f7 -> ( VarDeclaration() )*
-    * f8 -> ( Statement() )*
-    * f9 -> "return"
-    * f10 -> Expression()
-    * f11 -> ";"
-    * f12 -> "}"
-    */
-    public String visit(MethodDeclaration n, Void argu) throws Exception {
-        this.resetRegisters();
-        n.f0.accept(this, argu);
-        String returnType = JavaToLLVM(n.f1.accept(this, argu));
-        String methodName = n.f2.accept(this, argu);
-        this.curMethodSymbolTable = curClassSymbolTable.getMethodSymbolTable(methodName);
-        n.f3.accept(this, argu);
-        emit("define " + returnType + " @" + curClassSymbolTable.getClassName() + "." + methodName + "(i8* %this");
-        n.f4.accept(this, argu);
-        emit(") {\n");
-
-        //Store arguments in temp variables
-        Map<String,String> argumentSymbolTable = curMethodSymbolTable.getArgumentSymbolTable();
-        Set<String> arguments = argumentSymbolTable.keySet();
-        for (String argument : arguments){
-            String type = JavaToLLVM(argumentSymbolTable.get(argument));
-            emit("\t%" + argument + " = alloca " + type + "\n");
-            emit("\tstore " + type + " %." + argument + ", " + type + "* %" + argument + "\n");
-        }
+    //Address of a local variable, argument or field of 'this'
+    Value variablePointer(String identifier){
+        if (this.localVariables.containsKey(identifier))
+            return this.localVariables.get(identifier);
 
-        n.f5.accept(this, argu);
-        n.f6.accept(this, argu);
-        this.isInMethod = true;
-        this.returnArguments = true;
-        n.f7.accept(this, argu);
-        n.f8.accept(this, argu);
-        n.f9.accept(this, argu);
-        this.checkForFields = true;
-        String expr = n.f10.accept(this, argu);
-        this.checkForFields = false;
-        emit("\n\tret " + JavaToLLVM(getExprType(expr)) + " " + getExprValue(expr) + " ");
-        n.f11.accept(this, argu);
-        n.f12.accept(this, argu);
-        this.isInMethod = false;
-        this.returnArguments = false;
-        emit("\n}\n\n");
-        return null;
-     }
-
-        /**
-        * f0 -> Type()
-        * f1 -> Identifier()
-        */
-    public String visit(FormalParameter n, Void argu) throws Exception {
-        String type = n.f0.accept(this, argu);
-        String llvmType = JavaToLLVM(type);
-        String identifier = n.f1.accept(this, argu);
-        emit(", " + llvmType + " %." + identifier);
-        this.methodCallerType.put("%" + identifier, type);
-        return null;
+        FieldSymbol field = this.curClassSymbolTable.getField(identifier);
+        Register fieldAddress = this.builder.getElementPtr("i8", this.thisRegister, Constant.i32(8 + field.getOffset()));
+        return this.builder.bitcast(fieldAddress, JavaToLLVM(field.getType()) + "*");
     }
 
-    /**
-    * f0 -> Type()
-    * f1 -> Identifier()
-    * f2 -> ";"
-    */
-    public String visit(VarDeclaration n, Void argu) throws Exception {
-        String type = n.f0.accept(this, argu);
-        String identifier = n.f1.accept(this, argu);
-        n.f2.accept(this, argu);
-        if (isInMethod){
-            String llvmType = JavaToLLVM(type);
-            emit("\t%" + identifier + " = alloca " + llvmType + "\n\n");
-        }
-        this.methodCallerType.put("%" + identifier, type);
-        return null;
+    //A local variable, argument or field, not a class name
+    boolean isVariable(String identifier){
+        return this.localVariables.containsKey(identifier) || this.curClassSymbolTable.getField(identifier) != null;
     }
 
-    /**
-    * f0 -> PrimaryExpression()
-    * f1 -> "."
-    * f2 -> Identifier()
-    * f3 -> "("
-    * f4 -> ( ExpressionList() )?
-    * f5 -> ")"
-    */
-    public String visit(MessageSend n, Void argu) throws Exception {
-        if (curClassSymbolTable != null) this.checkForFields = true;
-        String expr = n.f0.accept(this, argu);
-        this.checkForFields = false;
-
-        String objectReg = getExprValue(expr);
-        String objectType = this.methodCallerType.get(objectReg);
-        if (objectType == null || expr.split(" ").length == 3){
-            objectType = getExprType(expr).replace("%", "");
-        }
-        if (expr.equals("i8* %this")){
-            objectType = curClassSymbolTable.getClassName();
-        }
+    Type identifierType(String identifier) throws Exception{
+        if (this.curMethodSymbolTable.hasLocalVariable(identifier))
+            return this.curMethodSymbolTable.getIdentifierType(identifier, this.curClassSymbolTable, this.symbolTable);
+        if (this.curClassSymbolTable.getField(identifier) == null)
+            return this.symbolTable.getClassType(identifier);
+        return this.curClassSymbolTable.getField(identifier).getType();
+    }
 
-        if (this.curClassSymbolTable == null){  //If in main class
-            objectReg = varToReg(objectReg, JavaToLLVM(objectType));
-        }
+    //The type of a variable after the checks of TypeCheckVisitor, null unless checking types
+    Type checkedIdentifierType(String identifier) throws Exception{
+        if (this.typeChecker == null) return null;
+        return this.typeChecker.checkIdentifier(identifier, this.curClassSymbolTable, this.curMethodSymbolTable);
+    }
 
-        n.f1.accept(this, argu);
-        String methodName = n.f2.accept(this, argu);
-        
-        //Search parent classes in case method does not exist
-        ClassSymbolTable tempClassSymbolTable = symbolTable.getClassSymbolTable(objectType);
-        while (!tempClassSymbolTable.hasMethod(methodName)){
-            String tempParentClassName = tempClassSymbolTable.getParentName();
-            tempClassSymbolTable = symbolTable.getClassSymbolTable(tempParentClassName);
-        }
-        MethodSymbolTable methodSymbolTable = tempClassSymbolTable.getMethodSymbolTable(methodName);
-        int methodOffset = methodSymbolTable.getOffset()/8;
-        String methodReturnType = methodSymbolTable.getReturnType();
-        String llvmReturnType = JavaToLLVM(methodReturnType);
-        emit("\n\t; " + objectType + "." + methodName + ": " + methodOffset  + "\n");
-        String reg2 = newTemp();
-        String reg3 = newTemp();
-        String reg4 = newTemp();
-        String reg5 = newTemp();
-        emit("\t" + reg2 + " = bitcast i8* " + objectReg + " to i8***\n");
-        emit("\t" + reg3 + " = load i8**, i8*** " + reg2 + "\n");
-        emit("\t" + reg4 + " = getelementptr i8*, i8** " + reg3 + ", i32 " + methodOffset + "\n");
-        emit("\t" + reg5 + " = load i8*, i8** " + reg4 + "\n");
-        
-        String reg6 = newTemp();
-        emit("\t" + reg6 + " = bitcast i8* " + reg5 + " to " + llvmReturnType + " (i8*"); //Continue with argument types
-        Map<String,String> argumentSymbolTable = methodSymbolTable.getArgumentSymbolTable();
-        Set<String> arguments = argumentSymbolTable.keySet();
-        for (String argument : arguments){
-            String type = JavaToLLVM(argumentSymbolTable.get(argument));
-            emit(", " + type);
-        }
-        emit(")*\n");
-        
-        String reg7 = newTemp();
-        
-        
-        n.f3.accept(this, argu);
-        this.checkForFields = true;
-        String argList = n.f4.accept(this, argu);
-        this.checkForFields = false;
-        n.f5.accept(this, argu);
-        emit("\t" + reg7 + " = call " + llvmReturnType + " " + reg6 + "(i8* " + objectReg); //Continue with call parameters
-        if (argList != null)
-            emit (", " + argList);
-        emit(")\n");
-        this.methodCallerType.put(reg7, methodReturnType);
-        return methodReturnType + " " + reg7;
+    void checkOperands(Value expr1, Value expr2, Type operandType, String operator) throws Exception{
+        if (this.typeChecker != null)
+            this.typeChecker.checkOperands(this.typeOf(expr1), this.typeOf(expr2), operandType, operator);
     }
 
-    /**
-    * f0 -> IntegerLiteral()
-    *       | TrueLiteral()
-    *       | FalseLiteral()
-    *       | Identifier()
-    *       | ThisExpression()
-    *       | ArrayAllocationExpression()
-    *       | AllocationExpression()
-    *       | BracketExpression()
-    */
-    public String visit(PrimaryExpression n, Void argu) throws Exception {
-        if (this.curClassSymbolTable != null) this.checkForFields = true;
-        String expr = n.f0.accept(this, argu);
-        this.checkForFields = false;
-        if (expr.equals("%this"))
-            return "i8* %this";
-        if (expr.equals("true"))
-            return "i1 1";
-        if (expr.equals("false"))
-            return "i1 0";
-
-        if (expr.matches("-?\\d+"))
-            return "i32 " + expr;
-
-        if (expr.startsWith("i32")
-            || expr.startsWith("i1")
-            || expr.startsWith("i8*"))
-            return expr;
-        
-        if (getExprType(expr).equals("int"))
-            return "i32 " + getExprValue(expr);
-        if (getExprType(expr).equals("boolean"))
-            return "i1 " + getExprValue(expr);
-        if (getExprType(expr).equals("int[]"))
-            return "i32* " + getExprValue(expr);
-        if (getExprType(expr).equals("boolean[]"))
-            return "i1* " + getExprValue(expr);
-
-        return "i8* %" + expr;
+    //The element type of the array
+    Type checkArrayIndex(Value array, Value index) throws Exception{
+        if (this.typeChecker != null)
+            return this.typeChecker.checkArrayIndex(this.typeOf(array), this.typeOf(index));
+        return this.typeOf(array).getElementType();
     }
 
-    /**
-    * f0 -> AndExpression()
-    *       | CompareExpression()
-    *       | PlusExpression()
-    *       | MinusExpression()
-    *       | TimesExpression()
-    *       | ArrayLookup()
-    *       | ArrayLength()
-    *       | MessageSend()
-    *       | Clause()
-    */
-    public String visit(Expression n, Void argu) throws Exception {
-        String expr = n.f0.accept(this, argu);
-        return expr;
+    //Every array starts with its i32 length, packed boolean arrays are i8* to their first byte
+    Register arrayLength(Value array){
+        if (array.getType().equals("i8*"))
+            array = this.builder.bitcast(array, "i32*");
+        return this.builder.load(array);
     }
 
-    /**
-    * f0 -> ","
-    * f1 -> Expression()
-    */
-    public String visit(ExpressionTerm n, Void argu) throws Exception {
-        n.f0.accept(this, argu);
-        String expr = n.f1.accept(this, argu);
-        return ", " + JavaToLLVM(getExprType(expr)) + " " + getExprValue(expr);
+    boolean isPacked(Value array){
+        return this.valueTypes.get(array) == Type.BOOLEAN_ARRAY && !this.booleanArrayLayout.equals("word");
     }
 
-    /**
-    * f0 -> Expression()
-    * f1 -> ExpressionTail()
-    */
-    public String visit(ExpressionList n, Void argu) throws Exception {
-        String expr1 = n.f0.accept(this, argu);
-        expr1 = getExprType(expr1) + " " + varToReg(getExprValue(expr1), getExprType(expr1));
-        String expr2 = n.f1.accept(this, argu);
-        expr1 = JavaToLLVM(getExprType(expr1)) + " " + getExprValue(expr1);
-        String ret = expr1 + expr2;
-        ret = ret.replace(", null", "");
-        ret = ret.replace("null", "");
-        return ret;
+    //Branches to throw_oob unless 0 <= index < length, then continues in a new block
+    void boundsCheck(Value array, Value index){
+        Register length = this.arrayLength(array);
+        Register inBounds = this.builder.icmp("ult", index, length);
+        BasicBlock error = this.builder.newBlock("oob");
+        BasicBlock ok = this.builder.newBlock("oob");
+        this.builder.condBr(inBounds, ok, error);
+
+        this.builder.setInsertPoint(error);
+        this.builder.call("void", THROW_OOB, List.of());
+        this.builder.br(ok);
+
+        this.builder.setInsertPoint(ok);
     }
 
-    /**
-    * f0 -> ( ExpressionTerm() )*
-    */
-    public String visit(ExpressionTail n, Void argu) throws Exception {
-        NodeListOptional nodeList = n.f0;
-        String ret = "";
-        for (int i=0; i<nodeList.size(); i++){
-            String expr = nodeList.elementAt(i).accept(this, argu);
-            expr = getExprType(expr) + " " + varToReg(getExprValue(expr), getExprType(expr));
-            ret += ", " + expr;
-        }
-        
-        return ret;
+    //Arrays keep their length in the first element
+    Value arrayElementPointer(Value array, Value index){
+        this.boundsCheck(array, index);
+        Register position = this.builder.binary("add", index, Constant.i32(1));
+        return this.builder.getElementPtr("i32", array, position);
     }
 
-    /**
-    * f0 -> "new"
-    * f1 -> "boolean"
-    * f2 -> "["
-    * f3 -> Expression()
-    * f4 -> "]"
-    */
-    public String visit(BooleanArrayAllocationExpression n, Void argu) throws Exception {
-        n.f0.accept(this, argu);
-        n.f1.accept(this, argu);
-        n.f2.accept(this, argu);
-        checkForFields = true;
-        String expr = n.f3.accept(this, argu);
-        checkForFields = false;
-        n.f4.accept(this, argu);
-
-        String reg1 = newTemp();
-        String labelError = newArrAllocLabel();
-        String labelSuccess = newArrAllocLabel();
-        emit("\t" + reg1 + " = icmp slt i32 " + getExprValue(expr) + ", 0\n");
-        emit("\tbr i1 " + reg1 + ", label %" + labelError + ", label %" + labelSuccess + "\n\n");
-
-        emit(labelError + ":\n");
-        emit("\tcall void @throw_oob()\n");
-        emit("\tbr label %" + labelSuccess + "\n\n");
-
-        emit(labelSuccess + ":\n");
-        String reg2 = newTemp();
-        emit("\t" + reg2 + " = add i32 " + getExprValue(expr) + ", 1\n");
-        String reg3 = newTemp();
-        emit("\t" + reg3 + " = call i8* @calloc(i32 4, i32 " + reg2 + ")\n");
-        String reg4 = newTemp();
-        emit("\t" + reg4 + " = bitcast i8* " + reg3 + " to i32*\n");
-        emit("\tstore i32 " + getExprValue(expr) + ", i32* " + reg4 + "\n");
-
-        return "i32* " + reg4;
+    //Packed boolean arrays keep their elements in the bytes after the length, one per byte or one per bit
+    Value packedElementPointer(Value array, Value index){
+        this.boundsCheck(array, index);
+        Value byteIndex = index;
+        if (this.booleanArrayLayout.equals("bit"))
+            byteIndex = this.builder.binary("lshr", index, Constant.i32(3));
+        Register position = this.builder.binary("add", byteIndex, Constant.i32(4));
+        return this.builder.getElementPtr("i8", array, position);
     }
 
-    /**
-     * f0 -> "new"
-    * f1 -> "int"
-    * f2 -> "["
-    * f3 -> Expression()
-    * f4 -> "]"
-    */
-    public String visit(IntegerArrayAllocationExpression n, Void argu) throws Exception {
-        n.f0.accept(this, argu);
-        n.f1.accept(this, argu);
-        n.f2.accept(this, argu);
-        checkForFields = true;
-        String expr = n.f3.accept(this, argu);
-        checkForFields = false;
-        n.f4.accept(this, argu);
-
-        String reg1 = newTemp();
-        String labelError = newArrAllocLabel();
-        String labelSuccess = newArrAllocLabel();
-        emit("\t" + reg1 + " = icmp slt i32 " + getExprValue(expr) + ", 0\n");
-        emit("\tbr i1 " + reg1 + ", label %" + labelError + ", label %" + labelSuccess + "\n\n");
-
-        emit(labelError + ":\n");
-        emit("\tcall void @throw_oob()\n");
-        emit("\tbr label %" + labelSuccess + "\n\n");
-
-        emit(labelSuccess + ":\n");
-        String reg2 = newTemp();
-        emit("\t" + reg2 + " = add i32 " + getExprValue(expr) + ", 1\n");
-        String reg3 = newTemp();
-        emit("\t" + reg3 + " = call i8* @calloc(i32 4, i32 " + reg2 + ")\n");
-        String reg4 = newTemp();
-        emit("\t" + reg4 + " = bitcast i8* " + reg3 + " to i32*\n");
-        emit("\tstore i32 " + getExprValue(expr) + ", i32* " + reg4 + "\n");
-
-        return "i32* " + reg4;
+    //The shift of an element within its byte in the bit layout
+    Register bitPosition(Value index){
+        Register bit = this.builder.binary("and", index, Constant.i32(7));
+        return this.builder.cast("trunc", bit, "i8");
     }
 
-    /**
-    * f0 -> "new"
-    * f1 -> Identifier()
-    * f2 -> "("
-    * f3 -> ")"
-    */
-    public String visit(AllocationExpression n, Void argu) throws Exception {
-        n.f0.accept(this, argu);
-        String className = n.f1.accept(this, argu);
-        n.f2.accept(this, argu);
-        n.f3.accept(this, argu);
-
-        String reg1 = newTemp();
-        String reg2 = newTemp();
-        String reg3 = newTemp();
-        
-        int classSize = symbolTable.getClassSymbolTable(className).getClassSize();
-        int numMethods = symbolTable.getClassSymbolTable(className).getNumMethods(symbolTable);
-        emit("\t" + reg1 + " = call i8* @calloc(i32 1, i32 " + classSize + ")\n");
-        emit("\t" + reg2 + " = bitcast i8* " + reg1 + " to i8***\n");
-        emit("\t" + reg3 + " = getelementptr [" + numMethods + " x i8*], [" + numMethods + " x i8*]* @." + className + "_vtable, i32 0, i32 0\n");
-        emit("\t" + "store i8** " + reg3 + ", i8*** " + reg2 + "\n");
-        this.methodCallerType.put(reg3, className);
-        return "i8* %" + className + " " + reg1;
+    Value packedLoad(Value array, Value index){
+        Value element = this.builder.load(this.packedElementPointer(array, index));
+        if (this.booleanArrayLayout.equals("bit"))
+            element = this.builder.binary("lshr", element, this.bitPosition(index));
+        return this.builder.cast("trunc", element, "i1");
+    }
+
+    void packedStore(Value array, Value index, Value value){
+        Value pointer = this.packedElementPointer(array, index);
+        Value element = this.builder.cast("zext", value, "i8");
+        if (this.booleanArrayLayout.equals("bit")){
+            Register bit = this.bitPosition(index);
+            Register mask = this.builder.binary("shl", new Constant("i8", "1"), bit);
+            Register keep = this.builder.binary("xor", mask, new Constant("i8", "-1"));
+            Register others = this.builder.binary("and", this.builder.load(pointer), keep);
+            element = this.builder.binary("or", others, this.builder.binary("shl", element, bit));
+        }
+        this.builder.store(element, pointer);
+    }
+
+    Value arrayAllocation(Value size, Type type){
+        Register negative = this.builder.icmp("slt", size, Constant.i32(0));
+        BasicBlock error = this.builder.newBlock("arr_alloc");
+        BasicBlock ok = this.builder.newBlock("arr_alloc");
+        this.builder.condBr(negative, error, ok);
+
+        this.builder.setInsertPoint(error);
+        this.builder.call("void", THROW_OOB, List.of());
+        this.builder.br(ok);
+
+        this.builder.setInsertPoint(ok);
+        if (type == Type.BOOLEAN_ARRAY && !this.booleanArrayLayout.equals("word")){
+            Value bytes = size;
+            if (this.booleanArrayLayout.equals("bit"))
+                bytes = this.builder.binary("add", this.builder.binary("lshr", size, Constant.i32(3)), Constant.i32(1));
+            Register memory = this.builder.call("i8*", CALLOC, List.of(Constant.i32(1), this.builder.binary("add", bytes, Constant.i32(4))));
+            this.builder.store(size, this.builder.bitcast(memory, "i32*"));
+            return memory;
+        }
+        Register length = this.builder.binary("add", size, Constant.i32(1));
+        Register memory = this.builder.call("i8*", CALLOC, List.of(Constant.i32(4), length));
+        Register array = this.builder.bitcast(memory, "i32*");
+        this.builder.store(size, array);
+        return array;
     }
 
     /**
-    * f0 -> "("
-    * f1 -> Expression()
-    * f2 -> ")"
-    */
-    public String visit(BracketExpression n, Void argu) throws Exception {
-        n.f0.accept(this, argu);
-        String expr = n.f1.accept(this, argu);
-        n.f2.accept(this, argu);
-        return expr;
+    * name -> the class
+    * children -> FORMAL_PARAMETER (the arguments), VAR_DECLARATION*, statement*
+    */
+    public Value visitMainClass(int n) throws Exception {
+        this.curClassSymbolTable = this.symbolTable.getClassSymbolTable(this.tree.getName(n));
+        this.curMethodSymbolTable = this.curClassSymbolTable.getMethodSymbolTable("main");
+        this.beginFunction("main", "i32", List.of());
+        this.thisRegister = null;
+        this.visitChildren(n, 1, this.tree.getChildCount(n));
+        this.builder.ret(Constant.i32(0));
+        this.module.addFunction(this.builder.getFunction());
+        return null;
     }
 
     /**
-    * f0 -> "!"
-    * f1 -> Clause()
+    * name -> the class
+    * children -> VAR_DECLARATION*, METHOD_DECLARATION*
     */
-    public String visit(NotExpression n, Void argu) throws Exception {
-        n.f0.accept(this, argu);
-        checkForFields = true;
-        String expr = n.f1.accept(this, argu);
-        checkForFields = false;
-        String value = getExprValue(expr);
-        String reg1 = newTemp();
-        emit("\t" + reg1 + " = xor i1 1, " + value + "\n");
-        return "i1 " + reg1;
+    public Value visitClassDeclaration(int n) throws Exception {
+        this.curClassSymbolTable = this.symbolTable.getClassSymbolTable(this.tree.getName(n));
+        this.checkDeclaredTypes(this.curClassSymbolTable.getFieldsTable().values());
+        this.visitChildren(n, this.tree.skipChildren(n, Tree.VAR_DECLARATION, 0), this.tree.getChildCount(n));
+        return null;
     }
 
     /**
-    * f0 -> Clause()
-    * f1 -> "&&"
-    * f2 -> Clause()
+    * name -> the class
+    * children -> TYPE (the parent class), VAR_DECLARATION*, METHOD_DECLARATION*
     */
-    public String visit(AndExpression n, Void argu) throws Exception {
-        String and1 = newAndLabel();
-        String and2 = newAndLabel();
-        String and3 = newAndLabel();
-        String and4 = newAndLabel();
-        String reg1 = newTemp();
-
-        this.checkForFields = true;
-        String expr1 = n.f0.accept(this, argu);
-        this.checkForFields = false;
-        n.f1.accept(this, argu);
-        emit("\tbr label %" + and1 + "\n");
-
-        emit("\n" + and1 + ":\n");
-        emit("\tbr i1 " + getExprValue(expr1) + ", label %" + and2 + ", label %" + and4 + "\n");
-
-        emit("\n" + and2 + ":\n");
-        this.checkForFields = true;
-        String expr2 = n.f2.accept(this, argu);
-        this.checkForFields = false;
-        
-        emit("\tbr label %" + and3 + "\n");
-
-        emit("\n" + and3 + ":\n");
-        emit("\tbr label %" + and4 + "\n");
-
-        emit("\n" + and4 + ":\n");
-        emit("\t" + reg1 + " = phi i1 [ 0, %" + and1 + " ], [ " + getExprValue(expr2) + ", %" + and3 + " ]\n");
-        
-        return "i1 " + reg1;
+    public Value visitClassExtendsDeclaration(int n) throws Exception {
+        this.curClassSymbolTable = this.symbolTable.getClassSymbolTable(this.tree.getName(n));
+        this.checkDeclaredTypes(this.curClassSymbolTable.getFieldsTable().values());
+        this.visitChildren(n, this.tree.skipChildren(n, Tree.VAR_DECLARATION, 1), this.tree.getChildCount(n));
+        return null;
     }
 
     /**
-     * f0 -> PrimaryExpression()
-    * f1 -> "<"
-    * f2 -> PrimaryExpression()
-    */
-    public String visit(CompareExpression n, Void argu) throws Exception {
-        this.checkForFields = true;
-        String expr1 = n.f0.accept(this, argu);
-        this.checkForFields = false;
-        String value1 = getExprValue(expr1);
-
-        n.f1.accept(this, argu);
-
-        this.checkForFields = true;
-        String expr2 = n.f2.accept(this, argu);
-        String value2 = getExprValue(expr2);
-        this.checkForFields = false;
-
-        String reg1 = newTemp();
-        emit("\t" + reg1 + " = icmp slt i32 " + value1 + ", " + value2 + "\n");
-        return "i1 " + reg1;
+    * name -> the method
+    * children -> TYPE (the return type), FORMAL_PARAMETER*, VAR_DECLARATION*, statement*, return expression
+    */
+    public Value visitMethodDeclaration(int n) throws Exception {
+        String methodName = this.tree.getName(n);
+        this.curMethodSymbolTable = this.curClassSymbolTable.getMethodSymbolTable(methodName);
+        this.checkDeclaredTypes(List.of(this.curMethodSymbolTable.getReturnType()));
+        this.checkDeclaredTypes(this.curMethodSymbolTable.getArgumentSymbolTable().values());
+
+        List<Register> parameters = new ArrayList<Register>();
+        this.thisRegister = new Register("this", "i8*");
+        parameters.add(this.thisRegister);
+        Map<String, Type> argumentSymbolTable = this.curMethodSymbolTable.getArgumentSymbolTable();
+        for (String argument : argumentSymbolTable.keySet()){
+            parameters.add(new Register("." + argument, JavaToLLVM(argumentSymbolTable.get(argument))));
+        }
+        this.beginFunction(this.curClassSymbolTable.getClassName() + "." + methodName,
+                            JavaToLLVM(this.curMethodSymbolTable.getReturnType()), parameters);
+        this.typed(this.thisRegister, this.curClassSymbolTable.getType());
+
+        //Store arguments in stack variables
+        int parameterIndex = 1;
+        for (String argument : argumentSymbolTable.keySet()){
+            Register parameter = parameters.get(parameterIndex++);
+            Register variable = this.builder.alloca(parameter.getType(), argument);
+            this.builder.store(parameter, variable);
+            this.localVariables.put(argument, variable);
+        }
+
+        int returnExpression = this.tree.getChildCount(n) - 1;
+        this.visitChildren(n, this.tree.skipChildren(n, Tree.FORMAL_PARAMETER, 1), returnExpression);
+        Value expr = this.visit(this.tree.getChild(n, returnExpression));
+        if (this.typeChecker != null)
+            this.typeChecker.checkReturn(this.typeOf(expr), this.curClassSymbolTable, this.curMethodSymbolTable);
+        this.builder.ret(expr);
+        this.module.addFunction(this.builder.getFunction());
+        return null;
     }
 
     /**
-    * f0 -> PrimaryExpression()
-    * f1 -> "+"
-    * f2 -> PrimaryExpression()
-    */
-    public String visit(PlusExpression n, Void argu) throws Exception {
-        this.checkForFields = true;
-        String expr1 = n.f0.accept(this, argu);
-        this.checkForFields = false;
-        String value1 = getExprValue(expr1);
-
-        n.f1.accept(this, argu);
-
-        this.checkForFields = true;
-        String expr2 = n.f2.accept(this, argu);
-        this.checkForFields = false;
-        String value2 = getExprValue(expr2);
-
-        String reg1 = newTemp();
-        emit("\t" + reg1 + " = add i32 " + value1 + ", " + value2 + "\n");
-        return "i32 " + reg1;
+    * name -> the variable
+    * children -> TYPE
+    */
+    public Value visitVarDeclaration(int n) throws Exception {
+        String identifier = this.tree.getName(n);
+        Type type = this.identifierType(identifier);
+        this.checkDeclaredTypes(List.of(type));
+        this.localVariables.put(identifier, this.builder.alloca(JavaToLLVM(type), identifier));
+        return null;
     }
 
     /**
-     * f0 -> PrimaryExpression()
-    * f1 -> "-"
-    * f2 -> PrimaryExpression()
-    */
-    public String visit(MinusExpression n, Void argu) throws Exception {
-        this.checkForFields = true;
-        String expr1 = n.f0.accept(this, argu);
-        this.checkForFields = false;
-        String value1 = getExprValue(expr1);
-        n.f1.accept(this, argu);
-
-        this.checkForFields = true;
-        String expr2 = n.f2.accept(this, argu);
-        this.checkForFields = false;
-        String value2 = getExprValue(expr2);
-
-        String reg1 = newTemp();
-        emit("\t" + reg1 + " = sub i32 " + value1 + ", " + value2 + "\n");
-        return "i32 " + reg1;
+    * children -> IDENTIFIER, expression
+    */
+    public Value visitAssignmentStatement(int n) throws Exception {
+        String identifier = this.tree.getName(this.tree.getChild(n, 0));
+        Type variableType = null;
+        if (this.typeChecker != null)
+            variableType = this.typeChecker.checkAssignedIdentifier(identifier, this.curClassSymbolTable, this.curMethodSymbolTable);
+        Value expr = this.visit(this.tree.getChild(n, 1));
+        if (this.typeChecker != null)
+            this.typeChecker.checkAssignment(variableType, this.typeOf(expr));
+        Value pointer = this.variablePointer(identifier);
+        this.builder.store(expr, pointer);
+        return null;
     }
 
     /**
-     * f0 -> PrimaryExpression()
-    * f1 -> "*"
-    * f2 -> PrimaryExpression()
-    */
-    public String visit(TimesExpression n, Void argu) throws Exception {
-        this.checkForFields = true;
-        String expr1 = n.f0.accept(this, argu);
-        String value1 = getExprValue(expr1);
-        this.checkForFields = false;
-
-        n.f1.accept(this, argu);
-
-        this.checkForFields = true;
-        String expr2 = n.f2.accept(this, argu);
-        this.checkForFields = false;
-
-        String value2 = getExprValue(expr2);
-        String reg1 = newTemp();
-        emit("\t" + reg1 + " = mul i32 " + value1 + ", " + value2 + "\n");
-        return "i32 " + reg1;
+    * children -> ARRAY_LOOKUP (of the IDENTIFIER and the index), expression
+    */
+    public Value visitArrayAssignmentStatement(int n) throws Exception {
+        int element = this.tree.getChild(n, 0);
+        Value array = this.visit(this.tree.getChild(element, 0));
+        Value index = this.visit(this.tree.getChild(element, 1));
+        Type elementType = this.checkArrayIndex(array, index);
+        Value expr = this.visit(this.tree.getChild(n, 1));
+        if (this.typeChecker != null)
+            this.typeChecker.checkAssignment(elementType, this.typeOf(expr));
+        if (this.isPacked(array)){
+            this.packedStore(array, index, expr);
+            return null;
+        }
+        if (expr.getType().equals("i1"))
+            expr = this.builder.cast("zext", expr, "i32");
+        this.builder.store(expr, this.arrayElementPointer(array, index));
+        return null;
     }
 
     /**
-    * f0 -> PrimaryExpression()
-    * f1 -> "["
-    * f2 -> PrimaryExpression()
-    * f3 -> "]"
-    */
-    public String visit(ArrayLookup n, Void argu) throws Exception {
-        this.checkForFields = true;
-        String arrayExpr = n.f0.accept(this, argu);
-        this.checkForFields = false;
-        String arrayReg = getExprValue(arrayExpr);
-        
-        n.f1.accept(this, argu);
-        this.checkForFields = true;
-        String indexExpr = n.f2.accept(this, argu);
-        this.checkForFields = false;
-        String indexReg = getExprValue(indexExpr);
-        n.f3.accept(this, argu);
-
-        String reg4 = newTemp();
-        String reg5 = newTemp();
-        String reg6 = newTemp();
-        String reg7 = newTemp();
-        String reg8 = newTemp();
-        String oob1 = newOobLabel();
-        String oob2 = newOobLabel();
-        String oob3 = newOobLabel();
-        
-        //int array
-        emit("\t" + reg4 + " = load i32, i32* " + arrayReg + "\n");
-        emit("\t" + reg5 + " = icmp ult i32 " + indexReg + ", " + reg4 + "\n");
-        emit("\tbr i1 " + reg5 + ", label %" + oob1 + ", label %" + oob2 + "\n");
-
-        emit("\n" + oob1 + ":\n");
-        emit("\t" + reg6 + " = add i32 " + indexReg + ", 1\n");
-        emit("\t" + reg7 + " = getelementptr i32, i32* " + arrayReg + ", i32 " + reg6 + "\n");
-        emit("\t" + reg8 + " = load i32, i32* " + reg7 + "\n");
-        emit("\tbr label %" + oob3 + "\n");
-
-        emit("\n" + oob2 + ":\n");
-        emit("\tcall void @throw_oob()\n");
-        emit("\tbr label %" + oob3 + "\n");
-
-        emit("\n" + oob3 + ":\n");
-        
-        return "i32 " + reg8;
+    * children -> condition, statement, statement
+    */
+    public Value visitIfStatement(int n) throws Exception {
+        Value condition = this.visit(this.tree.getChild(n, 0));
+        if (this.typeChecker != null)
+            this.typeChecker.checkCondition(this.typeOf(condition), "if");
+        BasicBlock thenBlock = this.builder.newBlock("if");
+        BasicBlock elseBlock = this.builder.newBlock("if");
+        BasicBlock endBlock = this.builder.newBlock("if");
+        this.builder.condBr(condition, thenBlock, elseBlock);
+
+        this.builder.setInsertPoint(thenBlock);
+        this.visit(this.tree.getChild(n, 1));
+        this.builder.br(endBlock);
+
+        this.builder.setInsertPoint(elseBlock);
+        this.visit(this.tree.getChild(n, 2));
+        this.builder.br(endBlock);
+
+        this.builder.setInsertPoint(endBlock);
+        return null;
     }
 
     /**
-    * f0 -> Identifier()
-    * f1 -> "["
-    * f2 -> Expression()
-    * f3 -> "]"
-    * f4 -> "="
-    * f5 -> Expression()
-    * f6 -> ";"
+    * children -> condition, statement
     */
-    public String visit(ArrayAssignmentStatement n, Void argu) throws Exception {
-        emit("\n");
-        String reg1 = newTemp();
-        String reg2 = newTemp();
-        String reg3 = newTemp();
-        String reg4 = newTemp();
-        String oob1 = newOobLabel();
-        String oob2 = newOobLabel();
-        String oob3 = newOobLabel();
-
-        this.checkForFields = true;
-        String identifier = n.f0.accept(this, argu);
-        this.checkForFields = false;
-        n.f1.accept(this, argu);
-        this.checkForFields = true;
-        String indexExpr = n.f2.accept(this, argu);
-        this.checkForFields = false;
-        n.f3.accept(this, argu);
-        n.f4.accept(this, argu);
-        String expr = n.f5.accept(this, argu);
-        n.f6.accept(this, argu);
-
-        emit("\t" + reg1 + " = load i32, i32 *" + getExprValue(identifier) + "\n");
-        emit("\t" + reg2 + " = icmp ult i32 " + getExprValue(indexExpr) + ", " + reg1 + "\n");
-        emit("\tbr i1 " + reg2 + ", label %" + oob1 + ", label %" + oob2);
-
-        emit("\n" + oob1 + ":\n");
-        emit("\t" + reg3 + " = add i32 " + getExprValue(indexExpr) + ", 1\n");
-        emit("\t" + reg4 + " = getelementptr i32, i32* " + getExprValue(identifier) + ", i32 " + reg3 + "\n");
-        emit("\tstore i32 " + getExprValue(expr) + ", i32* " + reg4 + "\n");
-        emit("\tbr label %" + oob3 + "\n");
-
-        emit("\n" + oob2 + ":\n");
-        emit("\tcall void @throw_oob()\n");
-        emit("\tbr label %" + oob3 + "\n");
-
-        emit("\n" + oob3 + ":\n");
+    public Value visitWhileStatement(int n) throws Exception {
+        BasicBlock conditionBlock = this.builder.newBlock("loop");
+        BasicBlock bodyBlock = this.builder.newBlock("loop");
+        BasicBlock endBlock = this.builder.newBlock("loop");
+        this.builder.br(conditionBlock);
+
+        this.builder.setInsertPoint(conditionBlock);
+        Value condition = this.visit(this.tree.getChild(n, 0));
+        if (this.typeChecker != null)
+            this.typeChecker.checkCondition(this.typeOf(condition), "while");
+        this.builder.condBr(condition, bodyBlock, endBlock);
 
+        this.builder.setInsertPoint(bodyBlock);
+        this.visit(this.tree.getChild(n, 1));
+        this.builder.br(conditionBlock);
+
+        this.builder.setInsertPoint(endBlock);
         return null;
     }
 
     /**
-    * f0 -> Identifier()
-    * f1 -> "="
-    * f2 -> Expression()
-    * f3 -> ";"
+    * children -> expression
     */
-    public String visit(AssignmentStatement n, Void argu) throws Exception {
-        String identifier = n.f0.accept(this, argu);
-        
-        String identifierType;
-        if (this.curClassSymbolTable == null){
-            identifierType = methodCallerType.get("%" + identifier);
-        }
-        else{
-            identifierType = curMethodSymbolTable.getIdentifierType(identifier, curClassSymbolTable, symbolTable); 
-        }
-        String identifierTypeLLVM = JavaToLLVM(identifierType);
-
-        if (this.curClassSymbolTable != null){
-            if (curMethodSymbolTable.hasLocalVariable(identifier)){
-                String varType = curMethodSymbolTable.getIdentifierType(identifier, curClassSymbolTable, symbolTable);
-                String varTypeLLVM = JavaToLLVM(varType);
-                String reg1 = newTemp();
-                this.methodCallerType.put(reg1, varType);
-                emit("\t" + reg1 + " = load " + varTypeLLVM + ", " + varTypeLLVM + "* %" + identifier + "\n");
-            }
-            else{
-                //Search class and parents for field
-                ClassSymbolTable tempClassSymbolTable = this.curClassSymbolTable;
-                while(true){
-                    if (tempClassSymbolTable.hasField(identifier)){
-                        int fieldOffset = tempClassSymbolTable.getFieldOffset(identifier) + 8;
-
-                        String reg1 = newTemp();
-                        String reg2 = newTemp();
-                        emit("\n\t" + reg1 + " = getelementptr i8, i8* %this, i32 " + fieldOffset + "\n");
-                        emit("\t" + reg2 + " = bitcast i8* " + reg1 + " to " + identifierTypeLLVM + "*\n");
-                        identifier = reg2.replace("%", "");
-                    }
-                
-                    String parentClassName = tempClassSymbolTable.getParentName();
-                    if (parentClassName == null) {
-                        break;
-                    }
-                    else{
-                        tempClassSymbolTable = this.symbolTable.getClassSymbolTable(parentClassName);
-                    }
-                }
-            }
-        }
-        
-        n.f1.accept(this, argu);
-        checkForFields = true;
-        String expr = n.f2.accept(this, argu);
-        expr = getExprType(expr) + " " + varToReg(getExprValue(expr), getExprType(expr));
-        checkForFields = false;
-        n.f3.accept(this, argu);
-        
-        emit("\tstore " + identifierTypeLLVM + " " + getExprValue(expr) + ", " + identifierTypeLLVM + "* %" + identifier + "\n");
-        this.methodCallerType.put("%" + identifier.replace("%", ""), identifierType);
-        
+    public Value visitPrintStatement(int n) throws Exception {
+        Value expr = this.visit(this.tree.getChild(n, 0));
+        if (this.typeChecker != null)
+            this.typeChecker.checkPrint(this.typeOf(expr));
+        this.builder.call("void", PRINT_INT, List.of(expr));
         return null;
     }
 
     /**
-    * f0 -> "System.out.println"
-    * f1 -> "("
-    * f2 -> Expression()
-    * f3 -> ")"
-    * f4 -> ";"
+    * children -> left, right
     */
-    public String visit(PrintStatement n, Void argu) throws Exception {
-        n.f0.accept(this, argu);
-        n.f1.accept(this, argu);
-        
-        String expr = n.f2.accept(this, argu);
-        String exprValue = getExprValue(expr);
-        exprValue = varToReg(exprValue, "i32");
-        
-        n.f3.accept(this, argu);
-        n.f4.accept(this, argu);
-        emit("\n\tcall void (i32) @print_int(i32 " + exprValue + ")\n");
-        return null;
+    public Value visitAndExpression(int n) throws Exception {
+        Value expr1 = this.visit(this.tree.getChild(n, 0));
+        BasicBlock lhsBlock = this.builder.getInsertBlock();
+        BasicBlock rhsBlock = this.builder.newBlock("andclause");
+        BasicBlock endBlock = this.builder.newBlock("andclause");
+        this.builder.condBr(expr1, rhsBlock, endBlock);
+
+        this.builder.setInsertPoint(rhsBlock);
+        Value expr2 = this.visit(this.tree.getChild(n, 1));
+        this.checkOperands(expr1, expr2, Type.BOOLEAN, "&&");
+        BasicBlock rhsEndBlock = this.builder.getInsertBlock();
+        this.builder.br(endBlock);
+
+        this.builder.setInsertPoint(endBlock);
+        Phi result = this.builder.phi("i1");
+        result.addIncoming(Constant.i1(false), lhsBlock);
+        result.addIncoming(expr2, rhsEndBlock);
+        return this.typed(result.getResult(), Type.BOOLEAN);
+    }
+
+    //The operands of an int operator, e.g. "add" for "+"
+    Value arithmetic(int n, String instruction, String operator) throws Exception {
+        Value expr1 = this.visit(this.tree.getChild(n, 0));
+        Value expr2 = this.visit(this.tree.getChild(n, 1));
+        this.checkOperands(expr1, expr2, Type.INT, operator);
+        return this.typed(this.builder.binary(instruction, expr1, expr2), Type.INT);
     }
 
-     public String visit(IntegerArrayType n, Void argu) throws Exception {
-        return "int[]";
+    public Value visitCompareExpression(int n) throws Exception {
+        Value expr1 = this.visit(this.tree.getChild(n, 0));
+        Value expr2 = this.visit(this.tree.getChild(n, 1));
+        this.checkOperands(expr1, expr2, Type.INT, "<");
+        return this.typed(this.builder.icmp("slt", expr1, expr2), Type.BOOLEAN);
     }
 
-    public String visit(BooleanArrayType n, Void argu) throws Exception {
-        return "boolean[]";
+    public Value visitPlusExpression(int n) throws Exception {
+        return this.arithmetic(n, "add", "+");
     }
 
-    public String visit(BooleanType n, Void argu) {
-        return "boolean";
+    public Value visitMinusExpression(int n) throws Exception {
+        return this.arithmetic(n, "sub", "-");
     }
 
-    public String visit(IntegerType n, Void argu) {
-        return "int";
+    public Value visitTimesExpression(int n) throws Exception {
+        return this.arithmetic(n, "mul", "*");
     }
 
     /**
-    * f0 -> <INTEGER_LITERAL>
+    * children -> array, index
     */
-    public String visit(IntegerLiteral n, Void argu) throws Exception {
-        return n.f0.toString();
+    public Value visitArrayLookup(int n) throws Exception {
+        Value array = this.visit(this.tree.getChild(n, 0));
+        Value index = this.visit(this.tree.getChild(n, 1));
+        Type elementType = this.checkArrayIndex(array, index);
+        if (this.isPacked(array))
+            return this.typed(this.packedLoad(array, index), elementType);
+        Register element = this.builder.load(this.arrayElementPointer(array, index));
+        if (this.valueTypes.get(array) == Type.BOOLEAN_ARRAY)
+            return this.typed(this.builder.cast("trunc", element, "i1"), elementType);
+        return this.typed(element, elementType);
     }
 
     /**
-    * f0 -> "true"
+    * children -> array
     */
-    public String visit(TrueLiteral n, Void argu) throws Exception {
-        return "true";
+    public Value visitArrayLength(int n) throws Exception {
+        Value array = this.visit(this.tree.getChild(n, 0));
+        if (this.typeChecker != null)
+            this.typeChecker.checkArrayLength(this.typeOf(array));
+        return this.typed(this.arrayLength(array), Type.INT);
     }
 
     /**
-     * f0 -> "false"
-    */
-    public String visit(FalseLiteral n, Void argu) throws Exception {
-        return "false";
+    * name -> the method
+    * children -> object, arguments*
+    */
+    public Value visitMessageSend(int n) throws Exception {
+        Value object = this.visit(this.tree.getChild(n, 0));
+        String methodName = this.tree.getName(n);
+        MethodSymbolTable checkedMethod = null;
+        if (this.typeChecker != null)
+            checkedMethod = this.typeChecker.checkMethod(this.typeOf(object), methodName);
+        ClassSymbolTable classSymbolTable = this.valueTypes.get(object).getClassSymbolTable();
+        String className = classSymbolTable.getClassName();
+        VTableLayout vtableLayout = classSymbolTable.getVTableLayout(this.symbolTable);
+        MethodSymbolTable methodSymbolTable = vtableLayout.getMethod(methodName);
+
+        List<Value> arguments = new ArrayList<Value>();
+        arguments.add(object);
+        for (int i = 1; i < this.tree.getChildCount(n); i++){
+            arguments.add(this.visit(this.tree.getChild(n, i)));
+        }
+        if (this.typeChecker != null){
+            List<Type> argumentTypes = new ArrayList<Type>();
+            for (Value argument : arguments.subList(1, arguments.size())){
+                argumentTypes.add(this.typeOf(argument));
+            }
+            this.typeChecker.checkArguments(this.typeOf(object), checkedMethod, argumentTypes);
+        }
+
+        Type returnType = methodSymbolTable.getReturnType();
+        if (this.devirtualize){
+            MethodSymbolTable target = this.symbolTable.getUniqueImplementation(className, methodName);
+            if (target != null){
+                //The vtable load of a virtual call is what stops a call on null, so the direct call keeps it
+                if (object != this.thisRegister)
+                    this.builder.load(this.builder.bitcast(object, "i8**"), true);
+                Global function = new Global(target.getClassName() + "." + methodName, functionType(target) + "*");
+                Register result = this.builder.call(JavaToLLVM(returnType), function, arguments);
+                return this.typed(result, returnType);
+            }
+        }
+
+        int methodOffset = vtableLayout.getSlot(methodName);
+        this.builder.comment(className + "." + methodName + ": " + methodOffset);
+        Register vtablePointer = this.builder.bitcast(object, "i8***");
+        Register vtable = this.builder.load(vtablePointer);
+        Register slot = this.builder.getElementPtr("i8*", vtable, Constant.i32(methodOffset));
+        Register method = this.builder.load(slot);
+        Register function = this.builder.bitcast(method, functionType(methodSymbolTable) + "*");
+        Register result = this.builder.call(JavaToLLVM(returnType), function, arguments);
+        return this.typed(result, returnType);
     }
 
     /**
-    * f0 -> "this"
+    * name -> the digits
     */
-    public String visit(ThisExpression n, Void argu) throws Exception {
-        return "%this";
+    public Value visitIntegerLiteral(int n) throws Exception {
+        return this.typed(new Constant("i32", this.tree.getName(n)), Type.INT);
+    }
+
+    public Value visitTrueLiteral(int n) throws Exception {
+        return this.typed(Constant.i1(true), Type.BOOLEAN);
+    }
+
+    public Value visitFalseLiteral(int n) throws Exception {
+        return this.typed(Constant.i1(false), Type.BOOLEAN);
     }
 
-     /**
-    * f0 -> <IDENTIFIER>
+    /**
+    * name -> the variable
     */
-    public String visit(Identifier n, Void argu) throws Exception {
-        String identifier = n.f0.toString();
-
-        if (checkForFields && this.curClassSymbolTable != null){
-            if (curMethodSymbolTable.hasLocalVariable(identifier)){
-                String varType = curMethodSymbolTable.getIdentifierType(identifier, curClassSymbolTable, symbolTable);
-                String varTypeLLVM = JavaToLLVM(varType);
-                String reg1 = newTemp();
-                this.methodCallerType.put(reg1, varType);
-                emit("\t" + reg1 + " = load " + varTypeLLVM + ", " + varTypeLLVM + "* %" + identifier + "\n");
-                return varType + " " + reg1;
-            }
-            else{ //check class and parents for field
-                ClassSymbolTable tempClassSymbolTable = this.curClassSymbolTable;
-                while(true){
-                    if (tempClassSymbolTable.hasField(identifier)){
-                        int fieldOffset = tempClassSymbolTable.getFieldOffset(identifier) + 8;
-                        String fieldType = tempClassSymbolTable.getFieldType(identifier);
-                        String fieldTypeLLVM = JavaToLLVM(fieldType);
-                        String reg1 = newTemp();
-                        String reg2 = newTemp();
-                        String reg3 = newTemp();
-                        emit("\t" + reg1 + " = getelementptr i8, i8* %this, i32 " + fieldOffset + "\n");
-                        emit("\t" + reg2 + " = bitcast i8* " + reg1 + " to " + fieldTypeLLVM + "*\n");
-                        emit("\t" + reg3 + " = load " + fieldTypeLLVM + ", " + fieldTypeLLVM + "* " + reg2 + "\n");
-                        this.methodCallerType.put(reg1, fieldType);
-                        return fieldType + " " + reg3;
-                    }
-                    String parentClassName = tempClassSymbolTable.getParentName();
-                    if (parentClassName == null){
-                        break;
-                    }
-                    else{
-                        tempClassSymbolTable = this.symbolTable.getClassSymbolTable(parentClassName);
-                    }
-                }
-            }
-        }
-        if (checkForFields && this.curClassSymbolTable == null){
-            if (this.methodCallerType.containsKey("%" + identifier)){
-                String varType = this.methodCallerType.get("%" + identifier);
-                String varTypeLLVM = JavaToLLVM(varType);
-                String reg = varToReg("%" + identifier, varTypeLLVM);
-                this.methodCallerType.put(reg, varType);
-                return varType + " " + reg;
-            }
-        }
+    public Value visitIdentifier(int n) throws Exception {
+        String identifier = this.tree.getName(n);
+        Type type = this.typeChecker != null ? this.checkedIdentifierType(identifier) : this.identifierType(identifier);
+        //A class name used as a value has its class type, as in TypeCheckVisitor, but no object
+        if (!this.isVariable(identifier))
+            return this.typed(new Constant("i8*", "null"), type);
+        Register value = this.builder.load(this.variablePointer(identifier));
+        return this.typed(value, type);
+    }
 
-        return identifier;
+    //The main function has no object, 'this' there has the type of the main class as in TypeCheckVisitor
+    public Value visitThisExpression(int n) throws Exception {
+        if (this.thisRegister == null)
+            return this.typed(new Constant("i8*", "null"), this.curClassSymbolTable.getType());
+        return this.thisRegister;
     }
 
     /**
-    * f0 -> "if"
-    * f1 -> "("
-    * f2 -> Expression()
-    * f3 -> ")"
-    * f4 -> Statement()
-    * f5 -> "else"
-    * f6 -> Statement()
+    * children -> size
     */
-    public String visit(IfStatement n, Void argu) throws Exception {
-        n.f0.accept(this, argu);
-        n.f1.accept(this, argu);
-        String if1 = newIfLabel();
-        String if2 = newIfLabel();
-        String if3 = newIfLabel();
-        this.checkForFields = true;
-        String expr = n.f2.accept(this, argu);
-        this.checkForFields = false;
-        n.f3.accept(this, argu);
-        emit("\n\tbr i1 " + getExprValue(expr) + ", label %" + if1 + ", label %" + if2 + "\n");
-        
-        emit("\n" + if1 + ":\n");
-        n.f4.accept(this, argu);
-        emit("\n\tbr label %" + if3 + "\n");
-        
-        emit("\n" + if2 + ":\n");
-        n.f5.accept(this, argu);
-        n.f6.accept(this, argu);
-        emit("\n\tbr label %" + if3 + "\n");
-
-        emit("\n" + if3 + ":\n");
-        return null;
+    public Value visitBooleanArrayAllocation(int n) throws Exception {
+        Value size = this.visit(this.tree.getChild(n, 0));
+        if (this.typeChecker != null)
+            this.typeChecker.checkArraySize(this.typeOf(size));
+        return this.typed(this.arrayAllocation(size, Type.BOOLEAN_ARRAY), Type.BOOLEAN_ARRAY);
     }
 
     /**
-    * f0 -> "while"
-    * f1 -> "("
-    * f2 -> Expression()
-    * f3 -> ")"
-    * f4 -> Statement()
+    * children -> size
     */
-    public String visit(WhileStatement n, Void argu) throws Exception {
-        n.f0.accept(this, argu);
-        n.f1.accept(this, argu);
-        
-        String loop1 = newLoopLabel();
-        String loop2 = newLoopLabel();
-        String loop3 = newLoopLabel();
-        emit("\n\tbr label %" + loop1 + "\n");
-
-        emit("\n" + loop1 + ":\n");
-        String expr = n.f2.accept(this, argu);
-        n.f3.accept(this, argu);
-
-        emit("\tbr i1 " + getExprValue(expr) + ", label %" + loop2 + ", label %" + loop3 + "\n");
-
-        emit("\n" + loop2 + ":\n");
-        n.f4.accept(this, argu);
-        emit("\n\tbr label %" + loop1 + "\n");
-        
-        emit("\n" + loop3 + ":\n");
-        return null;
+    public Value visitIntegerArrayAllocation(int n) throws Exception {
+        Value size = this.visit(this.tree.getChild(n, 0));
+        if (this.typeChecker != null)
+            this.typeChecker.checkArraySize(this.typeOf(size));
+        return this.typed(this.arrayAllocation(size, Type.INT_ARRAY), Type.INT_ARRAY);
     }
 
     /**
-    * f0 -> PrimaryExpression()
-    * f1 -> "."
-    * f2 -> "length"
+    * name -> the class
     */
-    public String visit(ArrayLength n, Void argu) throws Exception {
-        this.checkForFields = true;
-        String expr = n.f0.accept(this, argu);
-        this.checkForFields = false;
-        String reg1 = newTemp();
-        n.f1.accept(this, argu);
-        n.f2.accept(this, argu);
-        emit("\t" + reg1 + " = load i32, i32* " + getExprValue(expr));
-        return "i32 " + reg1 ;
+    public Value visitAllocationExpression(int n) throws Exception {
+        String className = this.tree.getName(n);
+        //An unknown class is an error wherever the object is used, as in TypeCheckVisitor
+        if (this.typeChecker != null && !this.symbolTable.hasClass(className))
+            return this.typed(new Constant("i8*", "null"), this.symbolTable.getClassType(className));
+        ClassSymbolTable classSymbolTable = this.symbolTable.getClassSymbolTable(className);
+        int classSize = classSymbolTable.getClassSize();
+        int numMethods = classSymbolTable.getNumMethods(this.symbolTable);
+
+        Register object = this.builder.call("i8*", CALLOC, List.of(Constant.i32(1), Constant.i32(classSize)));
+        Register vtablePointer = this.builder.bitcast(object, "i8***");
+        Global vtableGlobal = new Global("." + className + "_vtable", "[" + numMethods + " x i8*]*");
+        Register vtable = this.builder.getElementPtr("[" + numMethods + " x i8*]", vtableGlobal, Constant.i32(0), Constant.i32(0));
+        this.builder.store(vtable, vtablePointer);
+        return this.typed(object, classSymbolTable.getType());
     }
 
-    
-    
+    /**
+    * children -> expression
+    */
+    public Value visitNotExpression(int n) throws Exception {
+        Value expr = this.visit(this.tree.getChild(n, 0));
+        this.checkOperands(expr, expr, Type.BOOLEAN, "!");
+        return this.typed(this.builder.binary("xor", expr, Constant.i1(true)), Type.BOOLEAN);
+    }
 }
@@ -1,66 +1,348 @@
 import syntaxtree.*;
 import visitor.*;
 
+import java.io.ByteArrayOutputStream;
 import java.io.FileInputStream;
-import java.io.FileNotFoundException;
+import java.io.FileWriter;
 import java.io.IOException;
+import java.io.PrintStream;
 import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
+import AST.Lowering;
+import AST.Tree;
+import IR.BoundsCheckElimination;
+import IR.IRPrinter;
+import IR.Interpreter;
+import IR.Mem2Reg;
+import JVM.Program;
 import SymbolTables.GlobalSymbolTable;
 
 public class Main {
+    static int jobs = 1;
+    static BuildCache buildCache = null;
+    static boolean promoteAllocas = false;
+    static boolean eliminateBoundsChecks = false;
+    static boolean devirtualize = false;
+    static String booleanArrayLayout = "word";
+    static boolean alignFields = false;
+    static boolean singlePass = false;
+    static boolean parallelTypeCheck = false;
+    static boolean parallelCodeGen = false;
+    static boolean allErrors = false;
+    static boolean runPrograms = false;
+    static boolean jvmBackend = false;
+    static PrintWriter statsWriter = null;     //JSON lines of CompileStats, null without --stats
+
     public static void main(String[] args) throws Exception {
-        if(args.length < 1){
-            System.err.println("Usage: java Main <inputFile1> <inputFile2> ...");
+        List<String> inputFiles = new ArrayList<String>();
+        String serverSocket = null, clientSocket = null;
+        for(int i = 0; i < args.length; i++){
+            if (args[i].equals("--jobs") && i + 1 < args.length){
+                jobs = Integer.parseInt(args[++i]);
+                if (jobs <= 0) jobs = Runtime.getRuntime().availableProcessors();
+            }
+            else if (args[i].equals("--mem2reg"))
+                promoteAllocas = true;
+            else if (args[i].equals("--bce"))
+                eliminateBoundsChecks = promoteAllocas = true;
+            else if (args[i].equals("--devirtualize"))
+                devirtualize = true;
+            else if (args[i].equals("--boolean-arrays") && i + 1 < args.length
+                        && List.of("word", "byte", "bit").contains(args[i + 1]))
+                booleanArrayLayout = args[++i];
+            else if (args[i].equals("--align-fields"))
+                alignFields = true;
+            else if (args[i].equals("--single-pass"))
+                singlePass = true;
+            else if (args[i].equals("--parallel-typecheck"))
+                parallelTypeCheck = true;
+            else if (args[i].equals("--parallel-codegen"))
+                parallelCodeGen = true;
+            else if (args[i].equals("--all-errors"))
+                allErrors = true;
+            else if (args[i].equals("--run"))
+                runPrograms = true;
+            else if (args[i].equals("--jvm"))
+                jvmBackend = true;
+            else if (args[i].equals("--cache") && i + 1 < args.length)
+                buildCache = new BuildCache(args[++i]);
+            else if (args[i].equals("--stats") && i + 1 < args.length)
+                statsWriter = new PrintWriter(new FileWriter(args[++i], true));
+            else if (args[i].equals("--server") && i + 1 < args.length)
+                serverSocket = args[++i];
+            else if (args[i].equals("--client") && i + 1 < args.length)
+                clientSocket = args[++i];
+            else if (args[i].equals("--stop") && i + 1 < args.length){
+                CompileClient.stop(args[++i]);
+                return;
+            }
+            else
+                inputFiles.add(args[i]);
+        }
+
+        if (serverSocket != null){
+            new CompileServer(serverSocket).run();
+            return;
+        }
+
+        if(inputFiles.size() < 1){
+            System.err.println("Usage: java Main [--jobs N] [--cache <dir>] [--stats <file>] [--mem2reg] [--bce] [--devirtualize] [--boolean-arrays word|byte|bit] [--align-fields] [--single-pass] [--parallel-typecheck] [--parallel-codegen] [--all-errors] [--run] [--jvm] [--client <socket>] <inputFile1> <inputFile2> ...");
+            System.err.println("       java Main [--jobs N] [--cache <dir>] [--stats <file>] [--mem2reg] [--bce] [--devirtualize] [--boolean-arrays word|byte|bit] [--align-fields] [--single-pass] [--parallel-typecheck] [--parallel-codegen] [--all-errors] [--run] [--jvm] --server <socket>");
+            System.err.println("       java Main --stop <socket>");
             System.exit(1);
         }
 
-        FileInputStream fis = null;
+        if (clientSocket != null){
+            if (!new CompileClient(clientSocket).compile(inputFiles))
+                System.exit(1);
+            return;
+        }
+
         PrintWriter writer = new PrintWriter("test_results.txt");
-        for(int i = 0; i < args.length; i++){
-            try{
-                    fis = new FileInputStream(args[i]);
-                    MiniJavaParser parser = new MiniJavaParser(fis);
-                    Goal root = parser.Goal();
-                    System.err.println("Program parsed successfully.");
-
-                    GlobalSymbolTable globalSymbolTable = new GlobalSymbolTable();
-                    SymbolTableVisitor eval1 = new SymbolTableVisitor(globalSymbolTable);
-                    root.accept(eval1, null);
-
-                    TypeCheckVisitor eval2 = new TypeCheckVisitor(globalSymbolTable);
-                    root.accept(eval2, null);
-                    System.out.println("Type check success.");
-
-                    globalSymbolTable.calculateOffsets();
-                    PrintWriter llvmWriter = new PrintWriter(args[i].substring(0, args[i].length()-5) + ".ll");
-                    LLVMGeneratingVisitor codeGen = new LLVMGeneratingVisitor(globalSymbolTable, llvmWriter);
-                    root.accept(codeGen, null);
-                    llvmWriter.close();
-                    System.out.println("LLVM IR generation success.");
-                    writer.println("Success: " + args[i]);
+        if (jobs == 1){
+            for (String inputFile : inputFiles){
+                Boolean success = compile(inputFile, System.out, System.err);
+                if (success != null)
+                    writer.println((success ? "Success: " : "Failed: ") + inputFile);
+            }
+        }
+        else{
+            compileInParallel(inputFiles, writer);
+        }
+        writer.close();
+        if (statsWriter != null)
+            statsWriter.close();
+    }
+
+    //Compiles every file on a bounded pool, but prints the output of each file and its
+    //result line in argument order, as the sequential mode does
+    static void compileInParallel(List<String> inputFiles, PrintWriter writer) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(jobs, inputFiles.size()));
+        List<Future<CompileResult>> results = new ArrayList<Future<CompileResult>>();
+        for (String inputFile : inputFiles){
+            results.add(pool.submit(() -> compileBuffered(inputFile)));
+        }
+        pool.shutdown();
+
+        for (int i = 0; i < inputFiles.size(); i++){
+            CompileResult result = results.get(i).get();
+            System.err.print(result.err.toString());
+            System.out.print(result.out.toString());
+            if (result.success != null)
+                writer.println((result.success ? "Success: " : "Failed: ") + inputFiles.get(i));
+        }
+    }
+
+    //Options that change the generated code, part of the build cache key
+    static String codeGenerationOptions(){
+        return "mem2reg=" + promoteAllocas + ",bce=" + eliminateBoundsChecks + ",devirtualize=" + devirtualize
+                + ",boolean-arrays=" + booleanArrayLayout + ",align-fields=" + alignFields;
+    }
+
+    static CompileResult compileBuffered(String fileName){
+        CompileResult result = new CompileResult();
+        PrintStream out = new PrintStream(result.out, true);
+        PrintStream err = new PrintStream(result.err, true);
+        result.success = compile(fileName, out, err);
+        return result;
+    }
+
+    //Returns null if the file could not be opened
+    static Boolean compile(String fileName, PrintStream out, PrintStream err){
+        byte[] source;
+        try (FileInputStream fis = new FileInputStream(fileName)){
+            source = fis.readAllBytes();
+        }
+        catch(IOException ex){
+            err.println(ex.getMessage());
+            return null;
+        }
+
+        String llvmFileName = fileName.substring(0, fileName.length()-5) + ".ll";
+        CompileStats stats = new CompileStats(fileName, statsWriter != null);
+        //A program restored from the cache is not generated, so there is nothing to run, and the cache keeps .ll files only
+        if (buildCache == null || runPrograms || jvmBackend)
+            return compileSource(source, llvmFileName, out, err, stats);
+
+        try{
+            if (buildCache.restore(source, llvmFileName, out, err)){
+                stats.report(statsWriter, true, true);
+                return true;
             }
-            catch(FileNotFoundException ex){
-                System.err.println(ex.getMessage());
+        }
+        catch(Exception ex){
+            err.println(ex.getMessage());
+        }
+
+        CompileResult result = new CompileResult();
+        result.success = compileSource(source, llvmFileName, new PrintStream(result.out, true), new PrintStream(result.err, true), stats);
+        err.print(result.err.toString());
+        out.print(result.out.toString());
+        if (result.success){
+            try{
+                buildCache.store(source, llvmFileName, result);
             }
             catch(Exception ex){
-                writer.println("Failed: " + args[i]);
-                System.out.println(ex.getMessage());
+                err.println("Could not cache " + fileName + ": " + ex.getMessage());
             }
-            finally{
-                try{
-                    if(fis != null) fis.close();
+        }
+        return result.success;
+    }
+
+    static void generate(LLVMGeneratingVisitor codeGen) throws Exception {
+        if (parallelCodeGen)
+            codeGen.generateInParallel(ForkJoinPool.commonPool());
+        else
+            codeGen.visit(codeGen.getTree().getRoot());
+    }
+
+    /*
+     * Optimizes and writes every function as soon as it is generated, so the IR of one
+     * function at a time is kept instead of that of the whole program. The file is written
+     * under a temporary name and renamed when complete, so a compilation that fails
+     * halfway, as the single pass mode can, leaves no .ll file behind. With --run every
+     * function is also compiled for the interpreter.
+     */
+    static void generateAndWrite(LLVMGeneratingVisitor codeGen, String llvmFileName, CompileStats stats, Interpreter interpreter) throws Exception {
+        Path temporary = Path.of(llvmFileName + ".tmp");
+        try (PrintWriter llvmWriter = new PrintWriter(Files.newBufferedWriter(temporary))){
+            IRPrinter printer = new IRPrinter(llvmWriter);
+            printer.printHeader(codeGen.getModule());
+            codeGen.getModule().streamFunctions(function -> {
+                if (promoteAllocas){
+                    stats.begin("mem2reg");
+                    new Mem2Reg().run(function);
+                }
+                if (eliminateBoundsChecks){
+                    stats.begin("bce");
+                    new BoundsCheckElimination().run(function);
                 }
-                catch(IOException ex){
-                    System.err.println(ex.getMessage());
+                stats.begin("print");
+                printer.printFunction(function);
+                stats.countIr(function);
+                if (interpreter != null){
+                    stats.begin("run");
+                    interpreter.addFunction(function);
                 }
+                stats.begin("codegen");
+            });
+            generate(codeGen);
+            stats.end();
+            if (llvmWriter.checkError())
+                throw new IOException("Could not write " + llvmFileName);
+        }
+        catch(Exception | Error ex){
+            Files.deleteIfExists(temporary);
+            throw ex;
+        }
+        Files.move(temporary, Path.of(llvmFileName), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    //The classes of X.java go to the directory X-classes, e.g. for java -cp X-classes <main class>
+    static Path classDirectory(String llvmFileName){
+        return Path.of(llvmFileName.substring(0, llvmFileName.length() - 3) + "-classes");
+    }
+
+    //The passes after the parser work on the Tree, the syntaxtree is dropped once lowered
+    static Tree parse(byte[] source, CompileStats stats) throws Exception {
+        stats.begin("parse");
+        MiniJavaParser parser = SourceCharStream.parser(source);
+        Goal root = parser.Goal();
+        stats.begin("lower");
+        Tree tree = Lowering.lower(root);
+        stats.end();
+        return tree;
+    }
+
+    static boolean compileSource(byte[] source, String llvmFileName, PrintStream out, PrintStream err, CompileStats stats){
+        boolean success = false;
+        try{
+            Tree tree = parse(source, stats);
+            stats.countAst(tree);
+            err.println("Program parsed successfully.");
+
+            stats.begin("symbols");
+            GlobalSymbolTable globalSymbolTable = new GlobalSymbolTable();
+            SymbolTableVisitor eval1 = new SymbolTableVisitor(tree, globalSymbolTable);
+            eval1.visit(tree.getRoot());
+
+            LLVMGeneratingVisitor codeGen;
+            Interpreter interpreter = null;
+            Program program = null;
+            //The JVM backend generates from the checked tree only
+            if (singlePass && !jvmBackend){
+                //Offsets need only the declarations, but are printed after the type check as below
+                stats.begin("offsets");
+                ByteArrayOutputStream offsets = new ByteArrayOutputStream();
+                globalSymbolTable.calculateOffsets(new PrintStream(offsets, true), alignFields);
+                stats.begin("codegen");
+                codeGen = new LLVMGeneratingVisitor(tree, globalSymbolTable, devirtualize, booleanArrayLayout, true);
+                interpreter = runPrograms ? new Interpreter(codeGen.getModule(), out) : null;
+                generateAndWrite(codeGen, llvmFileName, stats, interpreter);
+                out.println("Type check success.");
+                out.print(offsets.toString());
+            }
+            else{
+                stats.begin("typecheck");
+                if (parallelTypeCheck)
+                    TypeCheckVisitor.checkInParallel(tree, globalSymbolTable, ForkJoinPool.commonPool(), allErrors);
+                else{
+                    TypeCheckVisitor eval2 = new TypeCheckVisitor(tree, globalSymbolTable);
+                    if (allErrors)
+                        eval2.collectErrors();
+                    eval2.visit(tree.getRoot());
+                    eval2.finish();
+                }
+                out.println("Type check success.");
+
+                stats.begin("offsets");
+                globalSymbolTable.calculateOffsets(out, alignFields);
+                stats.begin("codegen");
+                if (jvmBackend){
+                    JVMGeneratingVisitor classGen = new JVMGeneratingVisitor(tree, globalSymbolTable);
+                    classGen.visit(tree.getRoot());
+                    program = classGen.getProgram();
+                    stats.begin("print");
+                    program.write(classDirectory(llvmFileName));
+                    stats.end();
+                }
+                else{
+                    codeGen = new LLVMGeneratingVisitor(tree, globalSymbolTable, devirtualize, booleanArrayLayout, false);
+                    interpreter = runPrograms ? new Interpreter(codeGen.getModule(), out) : null;
+                    generateAndWrite(codeGen, llvmFileName, stats, interpreter);
+                }
+            }
+            out.println(jvmBackend ? "JVM class generation success." : "LLVM IR generation success.");
+            success = true;
+
+            //The output of the program follows, as runLLVMTests.sh prints it after the compiler's
+            if (runPrograms){
+                stats.begin("run");
+                if (program != null)
+                    program.run(out);
+                else
+                    interpreter.run();
+                stats.end();
             }
         }
-        writer.close();
+        //Errors too, e.g. the TokenMgrError of a character no token starts with, fail this file only
+        catch(Throwable ex){
+            out.println(ex.getMessage());
+        }
+        stats.report(statsWriter, success, false);
+        return success;
     }
 }
 
-
 class MyVisitor extends GJDepthFirst<String, Void>{
-    
+
 }
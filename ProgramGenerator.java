@@ -0,0 +1,171 @@
+import java.io.PrintWriter;
+import java.util.Random;
+
+/*
+ * Generates valid, terminating MiniJava programs of a given shape for scalability
+ * tests. Classes form inheritance chains of the given depth. Every class overrides
+ * the first half of its methods from its parent and adds the rest, and declares its
+ * own int, boolean and int[] fields. Method bodies nest their expressions to the
+ * given depth and only call methods with a lower number, so they never recurse.
+ */
+public class ProgramGenerator {
+    int classes = 100;
+    int depth = 5;
+    int methods = 4;
+    int fields = 3;
+    int nesting = 3;
+    Random random;
+    StringBuilder program;
+
+    public static void main(String[] args) throws Exception {
+        ProgramGenerator generator = new ProgramGenerator();
+        String outputFile = null;
+        long seed = 0;
+        for (int i = 0; i < args.length; i += 2){
+            String option = args[i];
+            if (i + 1 >= args.length) option = "";
+            switch(option){
+                case "--classes": generator.classes = Integer.parseInt(args[i + 1]); break;
+                case "--depth": generator.depth = Integer.parseInt(args[i + 1]); break;
+                case "--methods": generator.methods = Integer.parseInt(args[i + 1]); break;
+                case "--fields": generator.fields = Integer.parseInt(args[i + 1]); break;
+                case "--nesting": generator.nesting = Integer.parseInt(args[i + 1]); break;
+                case "--seed": seed = Long.parseLong(args[i + 1]); break;
+                case "--output": outputFile = args[i + 1]; break;
+                default:
+                    System.err.println("Usage: java ProgramGenerator [--classes N] [--depth N] [--methods N] [--fields N] [--nesting N] [--seed N] [--output <file>]");
+                    System.exit(1);
+            }
+        }
+
+        String program = generator.generate(seed);
+        if (outputFile == null){
+            System.out.print(program);
+            return;
+        }
+        try (PrintWriter writer = new PrintWriter(outputFile)){
+            writer.print(program);
+        }
+    }
+
+    public ProgramGenerator(){
+    }
+
+    public ProgramGenerator(int classes, int depth, int methods, int fields, int nesting){
+        this.classes = classes;
+        this.depth = depth;
+        this.methods = methods;
+        this.fields = fields;
+        this.nesting = nesting;
+    }
+
+    public String generate(long seed){
+        this.random = new Random(seed);
+        this.program = new StringBuilder();
+        this.depth = Math.max(1, this.depth);
+        this.methods = Math.max(1, this.methods);
+
+        this.line(0, "class Generated {");
+        this.line(1, "public static void main(String[] args){");
+        for (int i = 0; i < this.classes; i++){
+            //Call the leaf of every chain
+            if ((i + 1) % this.depth == 0 || i == this.classes - 1)
+                this.line(2, "System.out.println(new C" + i + "().m0(" + i + ", 3));");
+        }
+        this.line(1, "}");
+        this.line(0, "}");
+
+        for (int i = 0; i < this.classes; i++){
+            this.generateClass(i);
+        }
+        return this.program.toString();
+    }
+
+    void generateClass(int index){
+        boolean isRoot = index % this.depth == 0;
+        this.line(0, "class C" + index + (isRoot ? "" : " extends C" + (index - 1)) + " {");
+        for (int field = 0; field < this.fields; field++){
+            this.line(1, fieldType(field) + " f" + index + "_" + field + ";");
+        }
+        for (int method = 0; method < this.methods; method++){
+            this.generateMethod(index, method);
+        }
+        this.line(0, "}");
+    }
+
+    static String fieldType(int field){
+        switch(field % 3){
+            case 0: return "int";
+            case 1: return "boolean";
+            default: return "int[]";
+        }
+    }
+
+    //The first half of the methods are shared by the whole chain, the rest are new in each class
+    String methodName(int index, int method){
+        return method < (this.methods + 1) / 2 ? "m" + method : "c" + index + "m" + method;
+    }
+
+    void generateMethod(int index, int method){
+        this.line(1, "public int " + this.methodName(index, method) + "(int a, int b){");
+        this.line(2, "int x;");
+        this.line(2, "int i;");
+        this.line(2, "int[] values;");
+        this.line(2, "boolean t;");
+        this.line(2, "x = a;");
+        this.line(2, "x = " + this.intExpression(index, this.nesting) + ";");
+        this.line(2, "values = new int[10];");
+        this.line(2, "i = 0;");
+        this.line(2, "while (i < (values.length)){");
+        this.line(3, "values[i] = " + this.intExpression(index, this.nesting) + ";");
+        this.line(3, "x = x + (values[i]);");
+        this.line(3, "i = i + 1;");
+        this.line(2, "}");
+        for (int field = 0; field < this.fields; field++){
+            String name = "f" + index + "_" + field;
+            switch(field % 3){
+                case 0: this.line(2, name + " = " + this.intExpression(index, this.nesting) + ";"); break;
+                case 1: this.line(2, name + " = " + this.booleanExpression(index) + ";"); break;
+                default:
+                    this.line(2, name + " = new int[3];");
+                    this.line(2, name + "[1] = x;");
+            }
+        }
+        this.line(2, "t = " + this.booleanExpression(index) + ";");
+        if (method > 0){
+            String callee = this.methodName(index, this.random.nextInt(method));
+            this.line(2, "if (t) x = this." + callee + "(x, " + this.atom(index) + "); else x = " + this.intExpression(index, this.nesting) + ";");
+        }
+        this.line(2, "System.out.println(x);");
+        this.line(2, "return x;");
+        this.line(1, "}");
+    }
+
+    //Nests on the left only, so the expression grows linearly with the depth
+    String intExpression(int index, int depth){
+        if (depth == 0) return this.atom(index);
+        String[] operators = {"+", "-", "*"};
+        return "(" + this.intExpression(index, depth - 1) + ") " + operators[this.random.nextInt(3)] + " " + this.atom(index);
+    }
+
+    String booleanExpression(int index){
+        return "((" + this.intExpression(index, this.nesting / 2) + ") < " + this.atom(index) + ") && (!(b < a))";
+    }
+
+    String atom(int index){
+        switch(this.random.nextInt(this.fields > 0 ? 5 : 4)){
+            case 0: return "a";
+            case 1: return "b";
+            case 2: return "x";
+            case 3: return Integer.toString(this.random.nextInt(100));
+            default: return "f" + index + "_0";
+        }
+    }
+
+    void line(int indent, String text){
+        for (int i = 0; i < indent; i++){
+            this.program.append("    ");
+        }
+        this.program.append(text).append('\n');
+    }
+}
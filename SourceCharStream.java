@@ -0,0 +1,123 @@
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/*
+ * The characters of a whole source file, decoded at once, for the token manager.
+ * JavaCharStream (JAVA_UNICODE_ESCAPE in minijava.jj) checks every character for a
+ * backslash-u escape, copies it through its ring buffer and records its line and
+ * column. In a source without a backslash followed by 'u' the escapes change nothing,
+ * so this stream reads the characters straight from the array and works out the line
+ * and column of a token only when the token manager asks for them, by the rules of
+ * JavaCharStream: a tab moves to the next multiple of 8, "\r\n" is a single line
+ * break, and the end of the file is at its last character.
+ */
+public class SourceCharStream extends JavaCharStream {
+    static final int TAB_SIZE = 8;
+
+    char[] text;
+    int length;
+    int position = -1;      //the last character read
+    int tokenStart;
+    int[] lineStarts;       //index of the first character of every line
+    int lineCount;
+    BitSet tabbedLines;     //the lines with a tab in them
+    int line = 0;           //index in lineStarts of the line of the last position looked up
+    int lineStart = 0, nextLineStart;   //the bounds of that line
+    int columnIndex = -1;   //on a line with tabs, the last position whose column was counted, and that column
+    int column = 0;
+
+    SourceCharStream(char[] text, int length){
+        super(Reader.nullReader(), 1, 1, 1);
+        this.text = text;
+        this.length = length;
+        this.lineStarts = new int[64];
+        this.lineStarts[this.lineCount++] = 0;
+        this.tabbedLines = new BitSet();
+        for (int i = 0; i < length; i++){
+            char c = text[i];
+            if (c == '\t')
+                this.tabbedLines.set(this.lineCount - 1);
+            else if ((c == '\n' || (c == '\r' && (i + 1 == length || text[i + 1] != '\n'))) && i + 1 < length){
+                if (this.lineCount == this.lineStarts.length)
+                    this.lineStarts = Arrays.copyOf(this.lineStarts, 2 * this.lineCount);
+                this.lineStarts[this.lineCount++] = i + 1;
+            }
+        }
+    }
+
+    //A parser of the source. Sources with unicode escapes go through JavaCharStream as before
+    static MiniJavaParser parser(byte[] source){
+        //Decoded as the InputStreamReader of JavaCharStream would
+        CharBuffer chars = Charset.defaultCharset().decode(ByteBuffer.wrap(source));
+        char[] text = chars.array();
+        int length = chars.limit();
+        for (int i = 0; i + 1 < length; i++){
+            if (text[i] == '\\' && text[i + 1] == 'u')
+                return new MiniJavaParser(new ByteArrayInputStream(source));
+        }
+        return new MiniJavaParser(new MiniJavaParserTokenManager(new SourceCharStream(text, length)));
+    }
+
+    public char readChar() throws IOException {
+        if (this.position + 1 >= this.length)
+            throw new IOException();
+        return this.text[++this.position];
+    }
+
+    public char BeginToken() throws IOException {
+        //At the end of the file the empty token is at its last character
+        this.tokenStart = Math.min(this.position + 1, this.length - 1);
+        return this.readChar();
+    }
+
+    public void backup(int amount){
+        this.position -= amount;
+    }
+
+    public String GetImage(){
+        return new String(this.text, this.tokenStart, this.position - this.tokenStart + 1);
+    }
+
+    public int getBeginLine() { return this.lineOf(this.tokenStart) + 1; }
+    public int getBeginColumn() { return this.columnOf(this.tokenStart); }
+    public int getEndLine() { return this.lineOf(this.position) + 1; }
+    public int getEndColumn() { return this.columnOf(this.position); }
+
+    //Tokens are looked up in order, so the line is found by moving from the one of the last lookup
+    int lineOf(int index){
+        if (index < this.lineStart || index >= this.nextLineStart){
+            while (this.line + 1 < this.lineCount && this.lineStarts[this.line + 1] <= index)
+                this.line++;
+            while (this.line > 0 && this.lineStarts[this.line] > index)
+                this.line--;
+            this.lineStart = this.lineStarts[this.line];
+            this.nextLineStart = this.line + 1 < this.lineCount ? this.lineStarts[this.line + 1] : Integer.MAX_VALUE;
+        }
+        return this.line;
+    }
+
+    //Without a tab on the line the column is the distance from its start, otherwise it is
+    //counted on from the last position looked up when that is earlier on the same line
+    int columnOf(int index){
+        if (index < 0) return 0;
+        if (!this.tabbedLines.get(this.lineOf(index)))
+            return index - this.lineStart + 1;
+        if (this.columnIndex < this.lineStart || this.columnIndex > index){
+            this.columnIndex = this.lineStart - 1;
+            this.column = 0;
+        }
+        for (int i = this.columnIndex + 1; i <= index; i++){
+            this.column++;
+            if (this.text[i] == '\t')
+                this.column += TAB_SIZE - ((this.column - 1) % TAB_SIZE) - 1;
+        }
+        this.columnIndex = index;
+        return this.column;
+    }
+}
@@ -1,200 +1,124 @@
+import AST.Tree;
+import AST.TreeVisitor;
 import SymbolTables.ClassSymbolTable;
 import SymbolTables.GlobalSymbolTable;
 import SymbolTables.MethodSymbolTable;
-import syntaxtree.*;
-import visitor.*;
+import SymbolTables.Type;
 
-public class SymbolTableVisitor extends GJDepthFirst<String, Void>{
+public class SymbolTableVisitor extends TreeVisitor<String>{
     GlobalSymbolTable symbolTable;
     ClassSymbolTable curClassSymbolTable;
     MethodSymbolTable curMethodSymbolTable;
     String scope;
 
-    SymbolTableVisitor(GlobalSymbolTable globalSymbolTable){
+    SymbolTableVisitor(Tree tree, GlobalSymbolTable globalSymbolTable){
+        super(tree);
         this.symbolTable = globalSymbolTable;
     }
 
 
     /**
-    * f0 -> "class"
-    * f1 -> Identifier()
-    * f2 -> "{"
-    * f3 -> "public"
-    * f4 -> "static"
-    * f5 -> "void"
-    * f6 -> "main"
-    * f7 -> "("
-    * f8 -> "String"
-    * f9 -> "["
-    * f10 -> "]"
-    * f11 -> Identifier()
-    * f12 -> ")"
-    * f13 -> "{"
-    * f14 -> ( VarDeclaration() )*
-    * f15 -> ( Statement() )*
-    * f16 -> "}"
-    * f17 -> "}"
+    * children -> MAIN_CLASS, then a CLASS_DECLARATION or CLASS_EXTENDS_DECLARATION per class
     */
-    public String visit(MainClass n, Void argu) throws Exception {
-        n.f0.accept(this, argu);
-        String className = n.f1.accept(this, argu);
+    public String visitGoal(int n) throws Exception {
+        this.visitChildren(n);
+        //A class without methods may be declared before its parent, so the parents are checked once every class is known
+        this.symbolTable.checkHierarchy();
+        return null;
+    }
+
+    /**
+    * name -> the class
+    * children -> FORMAL_PARAMETER (the arguments), VAR_DECLARATION*, statement*
+    */
+    public String visitMainClass(int n) throws Exception {
+        String className = this.tree.getName(n);
         symbolTable.addMainClass(className);
         this.curClassSymbolTable = this.symbolTable.getClassSymbolTable(className);
-        n.f2.accept(this, argu);
         scope = "class";
-        n.f3.accept(this, argu);
-        n.f4.accept(this, argu);
-        n.f5.accept(this, argu);
-        n.f6.accept(this, argu);
-        n.f7.accept(this, argu);
-        n.f8.accept(this, argu);
-        n.f9.accept(this, argu);
-        n.f10.accept(this, argu);
-        String argsIdentifier = n.f11.accept(this, argu);
-        n.f12.accept(this, argu);
-        n.f13.accept(this, argu);
-        this.curClassSymbolTable.addMethod("main", "");
+        String argsIdentifier = this.tree.getName(this.tree.getChild(n, 0));
+        this.curClassSymbolTable.addMethod("main", null);
         this.curMethodSymbolTable = this.curClassSymbolTable.getMethodSymbolTable("main");
-        this.curMethodSymbolTable.addArgument(argsIdentifier, "String[]");
+        this.curMethodSymbolTable.addArgument(argsIdentifier, Type.STRING_ARRAY);
         scope = "method";
-        n.f14.accept(this, argu);
-        n.f15.accept(this, argu);
-        n.f16.accept(this, argu);
-        n.f17.accept(this, argu);
+        //Statements declare nothing, the type checker and code generation walk them
+        this.visitChildren(n, 1, this.tree.skipChildren(n, Tree.VAR_DECLARATION, 1));
         return null;
     }
 
     /**
-    * f0 -> "class"
-    * f1 -> Identifier()
-    * f2 -> "{"
-    * f3 -> ( VarDeclaration() )*
-    * f4 -> ( MethodDeclaration() )*
-    * f5 -> "}"
+    * name -> the class
+    * children -> VAR_DECLARATION*, METHOD_DECLARATION*
     */
-    public String visit(ClassDeclaration n, Void argu) throws Exception {
-        n.f0.accept(this, argu);
-        String className = n.f1.accept(this, argu);
+    public String visitClassDeclaration(int n) throws Exception {
+        String className = this.tree.getName(n);
         symbolTable.addClass(className);
         this.curClassSymbolTable = this.symbolTable.getClassSymbolTable(className);
-        n.f2.accept(this, argu);
         scope = "class";
-        n.f3.accept(this, argu);
-        n.f4.accept(this, argu);
-        n.f5.accept(this, argu);
+        this.visitChildren(n);
         return null;
     }
 
-  /**
-    * f0 -> "class"
-    * f1 -> Identifier()
-    * f2 -> "extends"
-    * f3 -> Identifier()
-    * f4 -> "{"
-    * f5 -> ( VarDeclaration() )*
-    * f6 -> ( MethodDeclaration() )*
-    * f7 -> "}"
+    /**
+    * name -> the class
+    * children -> TYPE (the parent class), VAR_DECLARATION*, METHOD_DECLARATION*
     */
-    public String visit(ClassExtendsDeclaration n, Void argu) throws Exception {
-        n.f0.accept(this, argu);
-        String className = n.f1.accept(this, argu);
-        n.f2.accept(this, argu);
-        String parentName = n.f3.accept(this, argu);
+    public String visitClassExtendsDeclaration(int n) throws Exception {
+        String className = this.tree.getName(n);
+        String parentName = this.tree.getName(this.tree.getChild(n, 0));
         symbolTable.addClass(className, parentName);
         this.curClassSymbolTable = this.symbolTable.getClassSymbolTable(className);
-        n.f4.accept(this, argu);
         scope = "class";
-        n.f5.accept(this, argu);
-        n.f6.accept(this, argu);
-        n.f7.accept(this, argu);
+        this.visitChildren(n, 1, this.tree.getChildCount(n));
         return null;
-     }
+    }
 
-     /**
-      * f0 -> Type()
-      * f1 -> Identifier()
-      * f2 -> ";"
-      */
-    public String visit(VarDeclaration n, Void argu) throws Exception {
-        String type = n.f0.accept(this, argu);
-        String name = n.f1.accept(this, argu);
+    /**
+    * name -> the variable
+    * children -> TYPE
+    */
+    public String visitVarDeclaration(int n) throws Exception {
+        Type type = this.symbolTable.getType(this.visit(this.tree.getChild(n, 0)));
+        String name = this.tree.getName(n);
         if (this.scope == "class")
             this.curClassSymbolTable.addField(name, type);
         else if (this.scope == "method")
             this.curMethodSymbolTable.addLocalVariable(name, type);
-        n.f2.accept(this, argu);
         return null;
     }
 
-        /**
-    * f0 -> "public"
-    * f1 -> Type()
-    * f2 -> Identifier()
-    * f3 -> "("
-    * f4 -> ( FormalParameterList() )?
-    * f5 -> ")"
-    * f6 -> "{"
-    * f7 -> ( VarDeclaration() )*
-    * f8 -> ( Statement() )*
-    * f9 -> "return"
-    * f10 -> Expression()
-    * f11 -> ";"
-    * f12 -> "}"
+    /**
+    * name -> the method
+    * children -> TYPE (the return type), FORMAL_PARAMETER*, VAR_DECLARATION*, statement*, return expression
     */
-    public String visit(MethodDeclaration n, Void argu) throws Exception {
-        n.f0.accept(this, argu);
-        String returnType = n.f1.accept(this, argu);
-        String methodName = n.f2.accept(this, argu);
+    public String visitMethodDeclaration(int n) throws Exception {
+        Type returnType = this.symbolTable.getType(this.visit(this.tree.getChild(n, 0)));
+        String methodName = this.tree.getName(n);
         this.curClassSymbolTable.addMethod(methodName, returnType);
         this.curMethodSymbolTable = this.curClassSymbolTable.getMethodSymbolTable(methodName);
-        n.f3.accept(this, argu);
-        n.f4.accept(this, argu);  //-->Populates the argument map of the method
+        int variables = this.tree.skipChildren(n, Tree.FORMAL_PARAMETER, 1);
+        this.visitChildren(n, 1, variables);  //-->Populates the argument map of the method
         curClassSymbolTable.checkMethodOverwrite(curMethodSymbolTable, symbolTable);
-        n.f5.accept(this, argu);
-        n.f6.accept(this, argu);
         scope = "method";
-        n.f7.accept(this, argu);
-        n.f8.accept(this, argu);
-        n.f9.accept(this, argu);
-        n.f10.accept(this, argu);
-        n.f11.accept(this, argu);
-        n.f12.accept(this, argu);
+        //Statements and the return expression declare nothing, the type checker and code generation walk them
+        this.visitChildren(n, variables, this.tree.skipChildren(n, Tree.VAR_DECLARATION, variables));
         return null;
     }
 
     /**
-    * f0 -> Type()
-    * f1 -> Identifier()
+    * name -> the parameter
+    * children -> TYPE
     */
-    public String visit(FormalParameter n, Void argu) throws Exception {
-        String type = n.f0.accept(this, argu);
-        String ident = n.f1.accept(this, argu);
+    public String visitFormalParameter(int n) throws Exception {
+        Type type = this.symbolTable.getType(this.visit(this.tree.getChild(n, 0)));
+        String ident = this.tree.getName(n);
         this.curMethodSymbolTable.addArgument(ident, type);
         this.curMethodSymbolTable.addLocalVariable(ident, type);
         return null;
     }
 
-
-    public String visit(IntegerArrayType n, Void argu) throws Exception {
-        return "int[]";
-    }
-
-    public String visit(BooleanArrayType n, Void argu) throws Exception {
-        return "boolean[]";
-    }
-
-    public String visit(BooleanType n, Void argu) {
-        return "boolean";
-    }
-
-    public String visit(IntegerType n, Void argu) {
-        return "int";
-    }
-
-     /**
-    * f0 -> <IDENTIFIER>
-    */
-    public String visit(Identifier n, Void argu) throws Exception {
-        return n.f0.toString();
+    //e.g. "int[]" or the class name
+    public String visitType(int n) throws Exception {
+        return this.tree.getName(n);
     }
 }
@@ -1,14 +1,20 @@
 package SymbolTables;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.Set;
 import java.util.Iterator;
+import java.util.List;
 import java.util.LinkedHashMap;
 
 public class ClassSymbolTable {
     String className;
     String parentName;
-    Map<String, String>  fieldsTable;
+    ClassType type;
+    ClassType parentType;   //null without a parent
+    Map<String, Type>  fieldsTable;
     Map<String, MethodSymbolTable>  methodsTable;
+    Map<String, Integer>  fieldOffsets;
+    VTableLayout vtableLayout;    //built after the method offsets, dropped when a method is added
+    Map<String, FieldSymbol>  resolvedFields;   //own and inherited fields, built after the field offsets
 
     public int fieldsOffset;
     public int methodsOffset;
@@ -16,8 +22,10 @@ public class ClassSymbolTable {
     public ClassSymbolTable(String className){
         this.className = className;
         this.parentName = null;
-        this.fieldsTable = new LinkedHashMap<String, String>();  //varName -> varType
+        this.fieldsTable = new LinkedHashMap<String, Type>();  //varName -> varType
         this.methodsTable = new LinkedHashMap<String, MethodSymbolTable>(); //methodName -> methodSymbolTable
+        this.fieldOffsets = new LinkedHashMap<String, Integer>();  //varName -> offset after the vtable pointer
+        this.resolvedFields = new HashMap<String, FieldSymbol>();
         
         this.fieldsOffset = 0;
         this.methodsOffset = 0;
@@ -26,8 +34,10 @@ public class ClassSymbolTable {
     public ClassSymbolTable(String className, String parentName) throws Exception{
         this.className = className;
         this.parentName = parentName;
-        this.fieldsTable = new LinkedHashMap<String, String>();  //varName -> varType
+        this.fieldsTable = new LinkedHashMap<String, Type>();  //varName -> varType
         this.methodsTable = new LinkedHashMap<String, MethodSymbolTable>(); //methodName -> methodSymbolTable
+        this.fieldOffsets = new LinkedHashMap<String, Integer>();  //varName -> offset after the vtable pointer
+        this.resolvedFields = new HashMap<String, FieldSymbol>();
     
         this.fieldsOffset = 0;
         this.methodsOffset = 0;
@@ -37,51 +47,67 @@ public class ClassSymbolTable {
 
     public String getParentName(){ return this.parentName; }
 
+    public ClassType getType(){ return this.type; }
+
+    public ClassType getParentType(){ return this.parentType; }
+
     public int getClassSize(){ return fieldsOffset + 8; }
 
     public int getNumMethods(GlobalSymbolTable globalSymbolTable) throws Exception { 
-        return this.getAllMethodsTable(globalSymbolTable).size(); 
+        return this.getVTableLayout(globalSymbolTable).size(); 
     }
 
-    public Map<String, String>  getFieldsTable() { return this.fieldsTable; }
-    public Map<String, MethodSymbolTable>  getMethodsTable() { return this.methodsTable; }
+    //Needs the method offsets of calculateOffsets
+    public VTableLayout getVTableLayout(GlobalSymbolTable globalSymbolTable) throws Exception {
+        if (this.vtableLayout == null)
+            this.vtableLayout = this.buildVTableLayout(globalSymbolTable);
+        return this.vtableLayout;
+    }
+
+    //Copies the parent's slots and puts this class's methods, new or overriding, in theirs
+    VTableLayout buildVTableLayout(GlobalSymbolTable globalSymbolTable) throws Exception {
+        if (this.className.equals(globalSymbolTable.mainClass))
+            return new VTableLayout(new MethodSymbolTable[0]);
 
-    public Map<String, MethodSymbolTable>  getAllMethodsTable(GlobalSymbolTable globalSymbolTable) throws Exception {
-        Map<String, MethodSymbolTable> allMethodsTable = new LinkedHashMap<String, MethodSymbolTable>();
-        String curClassName = this.getClassName();
-        while (curClassName != null){
-            if (curClassName == globalSymbolTable.mainClass) break;
-            ClassSymbolTable curClassSymbolTable = globalSymbolTable.getClassSymbolTable(curClassName);
-            Map<String, MethodSymbolTable> curClassMethods = curClassSymbolTable.getMethodsTable();
-            Set<String> methodNames = curClassMethods.keySet();
-            for(String methodName : methodNames){
-                allMethodsTable.putIfAbsent(methodName, curClassMethods.get(methodName));
+        MethodSymbolTable[] slots = new MethodSymbolTable[this.methodsOffset / 8];
+        if (this.parentName != null){
+            List<MethodSymbolTable> parentSlots = globalSymbolTable.getClassSymbolTable(this.parentName)
+                                                                  .getVTableLayout(globalSymbolTable).getMethods();
+            for (int slot = 0; slot < parentSlots.size(); slot++){
+                slots[slot] = parentSlots.get(slot);
             }
-            curClassName = curClassSymbolTable.getParentName();
         }
-        return allMethodsTable; 
+        for (MethodSymbolTable methodSymbolTable : this.methodsTable.values()){
+            slots[methodSymbolTable.getOffset() / 8] = methodSymbolTable;
+        }
+        return new VTableLayout(slots);
     }
 
-    public void addField(String fieldName, String type) throws Exception {
+    public Map<String, Type>  getFieldsTable() { return this.fieldsTable; }
+    public Map<String, MethodSymbolTable>  getMethodsTable() { return this.methodsTable; }
+
+    public void addField(String fieldName, Type type) throws Exception {
         if (this.fieldsTable.containsKey(fieldName))
             throw new Exception("Redefinition of field '" + fieldName + "'");
 
         fieldsTable.put(fieldName, type);
+        this.resolvedFields.clear();
     }
 
-    public void addMethod(String methodName, String returnType) throws Exception{
+    public void addMethod(String methodName, Type returnType) throws Exception{
         if (this.methodsTable.containsKey(methodName)){
             throw new Exception("Duplicate method '" + methodName + "' in class '" + className + "'");
         }
 
         MethodSymbolTable st = new MethodSymbolTable(this.className, methodName, returnType);
         methodsTable.put(methodName, st);
+        this.vtableLayout = null;
     }
 
     public MethodSymbolTable checkMethodOverwrite(MethodSymbolTable methodSymbolTable, GlobalSymbolTable globalSymbolTable) throws Exception{
         //Check if method overwrites one from a parent class
         String methodName = methodSymbolTable.getMethodName();
-        String returnType = methodSymbolTable.getReturnType();
+        Type returnType = methodSymbolTable.getReturnType();
         String curParentName = this.parentName;
         MethodSymbolTable overwrittenMethod = null;
         while(curParentName != null){
@@ -91,22 +117,23 @@ public class ClassSymbolTable {
                 overwrittenMethod = parentMethodSymbolTable;
                 
                 //Check return types
-                if (!parentMethodSymbolTable.getReturnType().equals(returnType))
+                if (parentMethodSymbolTable.getReturnType() != returnType)
                     throw new Exception("Return type incompatible with " + parentClassSymbolTable.getClassName()
                                             + "." + methodName);
                 
                 //Check argument count and types
-                Map<String, String> parentMethodArguments = parentMethodSymbolTable.getArgumentSymbolTable();
-                Map<String, String> curMethodArguments = methodSymbolTable.getArgumentSymbolTable();
+                Map<String, Type> parentMethodArguments = parentMethodSymbolTable.getArgumentSymbolTable();
+                Map<String, Type> curMethodArguments = methodSymbolTable.getArgumentSymbolTable();
                 if (parentMethodArguments.size() != curMethodArguments.size())
                     throw new Exception("Argument count incompatible with " + parentClassSymbolTable.getClassName()
                                             + "." + methodName);
 
-                Iterator<?> parentIterator = parentMethodArguments.entrySet().iterator();
-                Iterator<?> curIterator = curMethodArguments.entrySet().iterator();
+                Iterator<Map.Entry<String, Type>> parentIterator = parentMethodArguments.entrySet().iterator();
+                Iterator<Map.Entry<String, Type>> curIterator = curMethodArguments.entrySet().iterator();
                 while (curIterator.hasNext()){
-                    //System.out.println(curIterator.next().toString() + " == " + parentIterator.next().toString());
-                    if (!curIterator.next().toString().equals(parentIterator.next().toString()))
+                    Map.Entry<String, Type> curArgument = curIterator.next();
+                    Map.Entry<String, Type> parentArgument = parentIterator.next();
+                    if (!curArgument.getKey().equals(parentArgument.getKey()) || curArgument.getValue() != parentArgument.getValue())
                         throw new Exception("Argument types incompatible with " + parentClassSymbolTable.getClassName()
                                                     + "." + methodName);
                 }
@@ -124,6 +151,14 @@ public class ClassSymbolTable {
 
     //Search parent classes too if method not found
     public MethodSymbolTable getMethodSymbolTable(String methodName, GlobalSymbolTable globalSymbolTable) throws Exception{
+        MethodSymbolTable methodSymbolTable = this.findMethodSymbolTable(methodName, globalSymbolTable);
+        if (methodSymbolTable == null)
+            throw new Exception("Unknown symbol '" + methodName + "'");
+        return methodSymbolTable;
+    }
+
+    //As getMethodSymbolTable, null if neither the class nor a parent has the method
+    public MethodSymbolTable findMethodSymbolTable(String methodName, GlobalSymbolTable globalSymbolTable) throws Exception{
         if (this.methodsTable.containsKey(methodName))
             return methodsTable.get(methodName);
 
@@ -134,8 +169,7 @@ public class ClassSymbolTable {
                 return parentClassSymbolTable.getMethodSymbolTable(methodName);
             curParentName = parentClassSymbolTable.getParentName();
         }
-        
-        throw new Exception("Unknown symbol '" + methodName + "'");
+        return null;
     }
 
     public boolean hasMethod(String methodName){
@@ -150,30 +184,29 @@ public class ClassSymbolTable {
         }
     }
 
-    public boolean hasField(String identifier){
-        return this.fieldsTable.containsKey(identifier);
+    //Offset after the vtable pointer, inherited fields included. Set by calculateOffsets
+    public int getFieldOffset(String identifier){
+        Integer offset = this.fieldOffsets.get(identifier);
+        return offset == null ? -1 : offset;
     }
 
-    public int getFieldOffset(String identifier){
-        int offset = 0;
-        Set<String> fields = this.fieldsTable.keySet();
-        for(String field : fields){
-            if (field.equals(identifier)) return offset;
-            String type = this.fieldsTable.get(field);
-            switch(type){
-                case "int" : 
-                    offset += 4;
-                    break;
-                case "boolean" : 
-                    offset += 1;
-                    break;
-                default : offset += 8;
-            }
+    public void setFieldOffset(String identifier, int offset){
+        this.fieldOffsets.put(identifier, offset);
+    }
+
+    //Starts from the parent's fields, so a field declared again here shadows the inherited one
+    void resolveFields(GlobalSymbolTable globalSymbolTable) throws Exception{
+        this.resolvedFields = new HashMap<String, FieldSymbol>();
+        if (this.parentName != null)
+            this.resolvedFields.putAll(globalSymbolTable.getClassSymbolTable(this.parentName).resolvedFields);
+        for (String fieldName : this.fieldsTable.keySet()){
+            FieldSymbol field = new FieldSymbol(fieldName, this.fieldsTable.get(fieldName), this, this.getFieldOffset(fieldName));
+            this.resolvedFields.put(fieldName, field);
         }
-        return -1;
     }
 
-    public String getFieldType(String identifier){
-        return this.fieldsTable.get(identifier);
+    //The field an identifier in this class refers to, inherited fields included. Needs calculateOffsets
+    public FieldSymbol getField(String identifier){
+        return this.resolvedFields.get(identifier);
     }
 }
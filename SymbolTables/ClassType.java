@@ -0,0 +1,17 @@
+package SymbolTables;
+
+//The type of the objects of a class. Exists before the class is declared, so fields and
+//arguments can name classes declared further down; the symbol table is set on declaration
+public class ClassType extends Type {
+    ClassSymbolTable classSymbolTable;
+    int preorder = -1;          //position in a depth first walk of the class hierarchy, -1 if not reached
+    int lastDescendant = -1;    //preorder of the last class in this class's subtree
+
+    ClassType(String className){
+        super(className, 8);
+    }
+
+    public boolean isClass() { return this.classSymbolTable != null; }
+
+    public ClassSymbolTable getClassSymbolTable() { return this.classSymbolTable; }
+}
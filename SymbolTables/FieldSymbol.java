@@ -0,0 +1,21 @@
+package SymbolTables;
+
+//A field as seen from a class: the class declaring it and its offset after the vtable pointer
+public class FieldSymbol {
+    String name;
+    Type type;
+    ClassSymbolTable owner;
+    int offset;
+
+    FieldSymbol(String name, Type type, ClassSymbolTable owner, int offset){
+        this.name = name;
+        this.type = type;
+        this.owner = owner;
+        this.offset = offset;
+    }
+
+    public String getName() { return this.name; }
+    public Type getType() { return this.type; }
+    public ClassSymbolTable getOwner() { return this.owner; }
+    public int getOffset() { return this.offset; }
+}
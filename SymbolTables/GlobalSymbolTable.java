@@ -1,33 +1,104 @@
 package SymbolTables;
+import java.io.PrintStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class GlobalSymbolTable {
     public Map<String, ClassSymbolTable> classesSymbolTable;
     public String mainClass;
+    Map<String, ClassType> classTypes;    //className -> the one type of that name, declared or not. Concurrent, the parallel type check adds unknown names
+    Map<String, String> ancestorLinks;    //className -> its parent, or an ancestor further up once undeclaredAncestor has walked there
+    Map<String, Set<String>> overriddenMethods;   //className -> methods defined again in a subclass
+    boolean hierarchyNumbered;    //the preorder intervals of the class types are up to date
 
     public GlobalSymbolTable(){
         this.classesSymbolTable = new LinkedHashMap<String, ClassSymbolTable>();
+        this.classTypes = new ConcurrentHashMap<String, ClassType>();
+        this.ancestorLinks = new HashMap<String, String>();
     }
 
     public void addMainClass(String className){
         this.mainClass = className;
         ClassSymbolTable st = new ClassSymbolTable(className);
-        this.classesSymbolTable.put(className, st);
+        this.declareClass(st);
     }
 
     public void addClass(String className) throws Exception{
         if (this.classesSymbolTable.containsKey(className))
             throw new Exception("Redefinition of class '" + className + "'");
         ClassSymbolTable st = new ClassSymbolTable(className);
-        this.classesSymbolTable.put(className, st);
+        this.declareClass(st);
     }
 
+    //A cycle of extends closes when its last class is declared, as the parent's chain then leads back to it
     public void addClass(String className, String parentName) throws Exception{
         if (this.classesSymbolTable.containsKey(className))
             throw new Exception("Redefinition of class '" + className + "'");
+        if (className.equals(this.undeclaredAncestor(parentName)))
+            throw new Exception("Cyclic inheritance involving class '" + className + "'");
         ClassSymbolTable st = new ClassSymbolTable(className, parentName);
-        this.classesSymbolTable.put(className, st);
+        st.parentType = this.getClassType(parentName);
+        this.declareClass(st);
+    }
+
+    /*
+     * The first class up the chain from className that is not declared yet, or null if the
+     * chain ends at a class without parent. The links walked over are pointed at the result,
+     * so declaring a long chain of classes takes about linear time.
+     */
+    String undeclaredAncestor(String className){
+        List<String> path = new ArrayList<String>();
+        String ancestor = className;
+        while (ancestor != null && this.classesSymbolTable.containsKey(ancestor)){
+            path.add(ancestor);
+            ancestor = this.ancestorLinks.get(ancestor);
+        }
+        for (String name : path){
+            this.ancestorLinks.put(name, ancestor);
+        }
+        return ancestor;
+    }
+
+    void declareClass(ClassSymbolTable classSymbolTable){
+        this.ancestorLinks.put(classSymbolTable.getClassName(), classSymbolTable.getParentName());
+        classSymbolTable.type = this.getClassType(classSymbolTable.getClassName());
+        classSymbolTable.type.classSymbolTable = classSymbolTable;
+        this.classesSymbolTable.put(classSymbolTable.getClassName(), classSymbolTable);
+        this.hierarchyNumbered = false;
+    }
+
+    //Run once every class is declared, as a class without methods may come before its parent
+    public void checkHierarchy() throws Exception{
+        for (ClassSymbolTable classSymbolTable : this.classesSymbolTable.values()){
+            String parentName = classSymbolTable.getParentName();
+            if (parentName != null && !this.classesSymbolTable.containsKey(parentName))
+                throw new Exception("Unknown parent class '" + parentName + "' of class '" + classSymbolTable.getClassName() + "'");
+        }
+    }
+
+    //The interned type of a type name. Class types can be looked up before their class is declared
+    public Type getType(String typeName){
+        switch(typeName){
+            case "int" : return Type.INT;
+            case "boolean" : return Type.BOOLEAN;
+            case "int[]" : return Type.INT_ARRAY;
+            case "boolean[]" : return Type.BOOLEAN_ARRAY;
+            case "String[]" : return Type.STRING_ARRAY;
+            default : return this.getClassType(typeName);
+        }
+    }
+
+    public ClassType getClassType(String className){
+        return this.classTypes.computeIfAbsent(className, ClassType::new);
     }
 
     public ClassSymbolTable getClassSymbolTable(String className) throws Exception{
@@ -40,58 +111,161 @@ public class GlobalSymbolTable {
         return this.classesSymbolTable.containsKey(className);
     }
 
-    public boolean isDerived(String derived, String base){
-        ClassSymbolTable derivedClassSymbolTable = this.classesSymbolTable.get(derived);
-        
-        String curParent = derivedClassSymbolTable.getParentName();
-        while (curParent != null){
-            ClassSymbolTable parentClassSymbolTable = this.classesSymbolTable.get(curParent);
-            if (curParent == base) return true;
-            curParent = parentClassSymbolTable.getParentName();
+    //Same type, or a class derived from base. Constant time once the hierarchy is numbered
+    public boolean isSubtype(Type derived, Type base){
+        if (derived == base) return true;
+        if (!derived.isClass() || !base.isClass()) return false;
+        if (!this.hierarchyNumbered) this.numberHierarchy();
+
+        int preorder = ((ClassType) derived).preorder;
+        ClassType baseType = (ClassType) base;
+        return preorder >= 0 && baseType.preorder <= preorder && preorder <= baseType.lastDescendant;
+    }
+
+    /*
+     * Numbers the classes in depth first order from every class without a declared parent,
+     * so the subclasses of a class are exactly the classes numbered from it up to its last
+     * descendant. The walk uses its own stack, inheritance chains can be long. addClass
+     * rejects cycles of extends, a class in one would never be reached.
+     *
+     * Done on the first subtype query; call it first when the queries come from several threads.
+     */
+    public void numberHierarchy(){
+        Map<ClassType, List<ClassType>> subclasses = new HashMap<ClassType, List<ClassType>>();
+        Deque<ClassType> stack = new ArrayDeque<ClassType>();
+        for (ClassSymbolTable classSymbolTable : this.classesSymbolTable.values()){
+            ClassType parentType = classSymbolTable.parentType;
+            classSymbolTable.type.preorder = classSymbolTable.type.lastDescendant = -1;
+            if (parentType == null || !parentType.isClass())
+                stack.addLast(classSymbolTable.type);
+            else
+                subclasses.computeIfAbsent(parentType, type -> new ArrayList<ClassType>()).add(classSymbolTable.type);
+        }
+
+        List<ClassType> preorder = new ArrayList<ClassType>();
+        while (!stack.isEmpty()){
+            ClassType type = stack.pop();
+            type.preorder = type.lastDescendant = preorder.size();
+            preorder.add(type);
+            for (ClassType subclass : subclasses.getOrDefault(type, List.of())){
+                stack.push(subclass);
+            }
+        }
+        //Children come after their parent, so going backwards every subtree is complete when it reaches its parent
+        for (int i = preorder.size() - 1; i >= 0; i--){
+            ClassType parentType = preorder.get(i).classSymbolTable.parentType;
+            if (parentType != null && parentType.isClass())
+                parentType.lastDescendant = Math.max(parentType.lastDescendant, preorder.get(i).lastDescendant);
         }
+        this.hierarchyNumbered = true;
+    }
+
+    //The method that every call on a receiver of static type className reaches, or null
+    //if a subclass overrides it (class hierarchy analysis)
+    public MethodSymbolTable getUniqueImplementation(String className, String methodName) throws Exception{
+        if (this.overriddenMethods == null)
+            this.findOverriddenMethods();
+        Set<String> overridden = this.overriddenMethods.get(className);
+        if (overridden != null && overridden.contains(methodName))
+            return null;
+        return this.getClassSymbolTable(className).getMethodSymbolTable(methodName, this);
+    }
 
-        return false;
+    //Done by getUniqueImplementation when first needed, call it first when the queries come from several threads
+    public void findOverriddenMethods() throws Exception{
+        this.overriddenMethods = new HashMap<String, Set<String>>();
+        for (ClassSymbolTable classSymbolTable : this.classesSymbolTable.values()){
+            String curParent = classSymbolTable.getParentName();
+            while (curParent != null){
+                this.overriddenMethods.computeIfAbsent(curParent, name -> new HashSet<String>())
+                                      .addAll(classSymbolTable.getMethodsTable().keySet());
+                curParent = this.getClassSymbolTable(curParent).getParentName();
+            }
+        }
     }
 
-    public void calculateOffsets() throws Exception{
+    /*
+     * With alignFields, the fields a class declares are laid out from the largest to
+     * the smallest after the inherited ones, each at an offset that is a multiple of
+     * its size. Otherwise they are packed in declaration order.
+     *
+     * A class may be declared before its parent, so every class is laid out after its
+     * parent and the offsets are printed afterwards in declaration order.
+     */
+    public void calculateOffsets(PrintStream out, boolean alignFields) throws Exception{
+        Set<ClassSymbolTable> visited = new HashSet<ClassSymbolTable>();    //laid out, or about to be
+        visited.add(this.classesSymbolTable.get(this.mainClass));
+        for (ClassSymbolTable classSymbolTable : this.classesSymbolTable.values()){
+            //The class and its ancestors not laid out yet, nearest first
+            Deque<ClassSymbolTable> ancestors = new ArrayDeque<ClassSymbolTable>();
+            ClassSymbolTable curClassSymbolTable = classSymbolTable;
+            while (curClassSymbolTable != null && visited.add(curClassSymbolTable)){
+                ancestors.addLast(curClassSymbolTable);
+                String parentName = curClassSymbolTable.getParentName();
+                curClassSymbolTable = parentName == null ? null : this.getClassSymbolTable(parentName);
+            }
+            while (!ancestors.isEmpty()){
+                this.layOut(ancestors.removeLast(), alignFields);
+            }
+        }
+
         for (String className : this.classesSymbolTable.keySet()){
-            if (className == this.mainClass) continue;
+            if (className.equals(this.mainClass)) continue;
 
             ClassSymbolTable classSymbolTable = this.classesSymbolTable.get(className);
-            classSymbolTable.calculateParentOffsets(this);
-            System.out.println("-----------Class " + className + "-----------");
+            out.println("-----------Class " + className + "-----------");
 
             //Print fields
-            Map<String, String> fieldsTable = classSymbolTable.getFieldsTable();
-            System.out.println("--Variables---");
-            for (String fieldName : fieldsTable.keySet()){
-                System.out.println(className + "." + fieldName + " : " + classSymbolTable.fieldsOffset);
-                String fieldType = fieldsTable.get(fieldName);
-                if (fieldType == "boolean")
-                    classSymbolTable.fieldsOffset += 1;
-                else if (fieldType == "int")
-                    classSymbolTable.fieldsOffset += 4;
-                else
-                    classSymbolTable.fieldsOffset += 8;     //array or method
+            out.println("--Variables---");
+            for (String fieldName : classSymbolTable.getFieldsTable().keySet()){
+                out.println(className + "." + fieldName + " : " + classSymbolTable.getFieldOffset(fieldName));
             }
 
-            //Print methods
+            //Print methods, but not those that overwrite one from the parent and so take an inherited slot
+            int inheritedMethods = 0;
+            if (classSymbolTable.getParentName() != null)
+                inheritedMethods = this.getClassSymbolTable(classSymbolTable.getParentName()).methodsOffset;
             Map<String, MethodSymbolTable> methodsTable = classSymbolTable.getMethodsTable();
-            System.out.println("---Methods---");
+            out.println("---Methods---");
             for (String methodName : methodsTable.keySet()){
-                MethodSymbolTable overwrittenMethod = classSymbolTable.checkMethodOverwrite(methodsTable.get(methodName), this);
-                if (overwrittenMethod == null){
-                    System.out.println(className + "." + methodName + " : " + classSymbolTable.methodsOffset);
-                    methodsTable.get(methodName).setOffset(classSymbolTable.methodsOffset);
-                    classSymbolTable.methodsOffset += 8;
-                }
-                else{
-                    //Method overwrites one from the parent -> Save offset but do not print
-                    methodsTable.get(methodName).setOffset(overwrittenMethod.getOffset());
-                }
+                int offset = methodsTable.get(methodName).getOffset();
+                if (offset >= inheritedMethods)
+                    out.println(className + "." + methodName + " : " + offset);
             }
 
-            System.out.println();
+            out.println();
+        }
+    }
+
+    //The field and method offsets and the vtable of a class whose parent is laid out
+    void layOut(ClassSymbolTable classSymbolTable, boolean alignFields) throws Exception{
+        classSymbolTable.calculateParentOffsets(this);
+
+        Map<String, Type> fieldsTable = classSymbolTable.getFieldsTable();
+        List<String> layout = new ArrayList<String>(fieldsTable.keySet());
+        if (alignFields)
+            layout.sort(Comparator.comparingInt((String fieldName) -> -fieldsTable.get(fieldName).getSize()));
+        for (String fieldName : layout){
+            int size = fieldsTable.get(fieldName).getSize();
+            if (alignFields)
+                classSymbolTable.fieldsOffset = (classSymbolTable.fieldsOffset + size - 1) / size * size;
+            classSymbolTable.setFieldOffset(fieldName, classSymbolTable.fieldsOffset);
+            classSymbolTable.fieldsOffset += size;
+        }
+        classSymbolTable.resolveFields(this);
+
+        Map<String, MethodSymbolTable> methodsTable = classSymbolTable.getMethodsTable();
+        for (String methodName : methodsTable.keySet()){
+            MethodSymbolTable overwrittenMethod = classSymbolTable.checkMethodOverwrite(methodsTable.get(methodName), this);
+            if (overwrittenMethod == null){
+                methodsTable.get(methodName).setOffset(classSymbolTable.methodsOffset);
+                classSymbolTable.methodsOffset += 8;
+            }
+            else{
+                //Method overwrites one from the parent -> Save offset
+                methodsTable.get(methodName).setOffset(overwrittenMethod.getOffset());
+            }
         }
+        classSymbolTable.vtableLayout = classSymbolTable.buildVTableLayout(this);
     }
 }
@@ -4,17 +4,17 @@ import java.util.LinkedHashMap;
 
 public class MethodSymbolTable {
     String methodName;
-    String returnType;
-    Map<String, String> argumentsTable;
-    Map<String, String> localVariablesTable;
+    Type returnType;
+    Map<String, Type> argumentsTable;
+    Map<String, Type> localVariablesTable;
     int offset;
     String className;
 
-    public MethodSymbolTable(String className, String methodName, String returnType){
+    public MethodSymbolTable(String className, String methodName, Type returnType){
         this.methodName = methodName;
         this.returnType = returnType;
-        this.argumentsTable = new LinkedHashMap<String, String>();   //varName -> varType
-        this.localVariablesTable = new LinkedHashMap<String, String>();  //varName -> varType
+        this.argumentsTable = new LinkedHashMap<String, Type>();   //varName -> varType
+        this.localVariablesTable = new LinkedHashMap<String, Type>();  //varName -> varType
         this.className = className;
     }
 
@@ -23,27 +23,27 @@ public class MethodSymbolTable {
 
     public String getMethodName() { return this.methodName; }
 
-    public String getReturnType() { return this.returnType; }
+    public Type getReturnType() { return this.returnType; }
 
     public String getClassName() { return this.className; }
 
-    public Map<String, String> getArgumentSymbolTable() { return this.argumentsTable; }
+    public Map<String, Type> getArgumentSymbolTable() { return this.argumentsTable; }
 
-    public void addLocalVariable(String name, String type) throws Exception{
+    public void addLocalVariable(String name, Type type) throws Exception{
         if (this.localVariablesTable.containsKey(name))
             throw new Exception("Redefinition of variable '" + name + "'");
         
         this.localVariablesTable.put(name,type);
     }
 
-    public void addArgument(String name, String type) throws Exception{
+    public void addArgument(String name, Type type) throws Exception{
         if (this.argumentsTable.containsKey(name))
             throw new Exception("Duplicate argument '" + name + "'");
         
         this.argumentsTable.put(name,type);
     }
 
-    public String getIdentifierType(String identifier, ClassSymbolTable curClassSymbolTable, GlobalSymbolTable globalSymbolTable) throws Exception{
+    public Type getIdentifierType(String identifier, ClassSymbolTable curClassSymbolTable, GlobalSymbolTable globalSymbolTable) throws Exception{
         //Search method local variables -> method arguments -> class fields -> parent class fields
 
         if (this.localVariablesTable.containsKey(identifier))
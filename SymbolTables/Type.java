@@ -0,0 +1,44 @@
+package SymbolTables;
+
+/*
+ * A MiniJava type. The primitive and array types are the constants below and every
+ * class name has a single ClassType (see GlobalSymbolTable.getType), so two types are
+ * the same exactly when they are the same object.
+ */
+public class Type {
+    public static final Type INT = new Type("int", 4);
+    public static final Type BOOLEAN = new Type("boolean", 1);
+    public static final Type INT_ARRAY = new Type("int[]", 8);
+    public static final Type BOOLEAN_ARRAY = new Type("boolean[]", 8);
+    public static final Type STRING_ARRAY = new Type("String[]", 8);
+    //The type of an expression with an error in it. The checks accept it, so collecting
+    //every error of a program reports each one once instead of again at every use
+    public static final Type ERROR = new Type("<error>", 8);
+
+    String name;
+    int size;   //bytes of a field of this type
+
+    Type(String name, int size){
+        this.name = name;
+        this.size = size;
+    }
+
+    public String getName() { return this.name; }
+    public int getSize() { return this.size; }
+
+    public boolean isArray() { return this == INT_ARRAY || this == BOOLEAN_ARRAY; }
+
+    //Declared class types only
+    public boolean isClass() { return false; }
+
+    public ClassSymbolTable getClassSymbolTable() { return null; }
+
+    //The type of an element of an array type, null for other types
+    public Type getElementType(){
+        if (this == INT_ARRAY) return INT;
+        if (this == BOOLEAN_ARRAY) return BOOLEAN;
+        return null;
+    }
+
+    public String toString() { return this.name; }
+}
@@ -0,0 +1,32 @@
+package SymbolTables;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+//The flattened vtable of a class: the implementation in every slot and the slot of every method name
+public class VTableLayout {
+    List<MethodSymbolTable> slots;
+    Map<String, Integer> slotIndex;    //methodName -> slot
+
+    VTableLayout(MethodSymbolTable[] slots){
+        this.slots = List.of(slots);
+        this.slotIndex = new HashMap<String, Integer>();
+        for (int slot = 0; slot < slots.length; slot++){
+            this.slotIndex.put(slots[slot].getMethodName(), slot);
+        }
+    }
+
+    public int size() { return this.slots.size(); }
+    public List<MethodSymbolTable> getMethods() { return this.slots; }
+
+    public int getSlot(String methodName){
+        Integer slot = this.slotIndex.get(methodName);
+        return slot == null ? -1 : slot;
+    }
+
+    //The implementation called for methodName, null if the class has no such method
+    public MethodSymbolTable getMethod(String methodName){
+        Integer slot = this.slotIndex.get(methodName);
+        return slot == null ? null : this.slots.get(slot);
+    }
+}
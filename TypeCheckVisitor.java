@@ -1,625 +1,494 @@
-import java.util.LinkedList;
-import java.util.Map;
-import java.util.Queue;
-import java.util.Set;
-
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import AST.Tree;
+import AST.TreeVisitor;
 import SymbolTables.ClassSymbolTable;
+import SymbolTables.ClassType;
 import SymbolTables.GlobalSymbolTable;
 import SymbolTables.MethodSymbolTable;
-import syntaxtree.*;
-import visitor.*;
-
-public class TypeCheckVisitor extends GJDepthFirst<String, Void>{
+import SymbolTables.Type;
+
+/*
+ * Every expression visit returns the interned Type of the expression, so types are
+ * compared by identity. Identifiers that are not variables (class and method names)
+ * are the names of the nodes they belong to.
+ *
+ * The rules themselves are the check methods at the end, which the single pass mode
+ * of LLVMGeneratingVisitor calls with the types of the values it generates.
+ *
+ * A check stops at the first error, or after collectErrors records it with the line and
+ * column of the node it is about and goes on. An expression with an error has the type
+ * Type.ERROR, which every check accepts, so one mistake is reported once.
+ */
+public class TypeCheckVisitor extends TreeVisitor<Type>{
     GlobalSymbolTable symbolTable;
     ClassSymbolTable curClassSymbolTable;
     MethodSymbolTable curMethodSymbolTable;
-    Boolean identifierTypeCheck;
-    Queue<String> argumentTypesToCheck;
+    List<String> diagnostics;   //null to stop at the first error
+    int location;               //the node errors are reported at
 
-    TypeCheckVisitor(GlobalSymbolTable globalSymbolTable){
+    TypeCheckVisitor(Tree tree, GlobalSymbolTable globalSymbolTable){
+        super(tree);
         this.symbolTable = globalSymbolTable;
-        this.identifierTypeCheck = false;
-        this.argumentTypesToCheck = new LinkedList<String>();
     } 
+
+    //Record every error and go on, finish reports them
+    void collectErrors(){
+        this.diagnostics = new ArrayList<String>();
+    }
+
+    //Throws the collected errors, one per line in source order, if there are any
+    void finish() throws Exception {
+        if (this.diagnostics != null && !this.diagnostics.isEmpty())
+            throw new Exception(String.join("\n", this.diagnostics));
+    }
+
+    void error(String message) throws Exception {
+        if (this.diagnostics == null)
+            throw new Exception(message);
+        this.diagnostics.add(message + " at line " + this.tree.getLine(this.location) + ", column " + this.tree.getColumn(this.location));
+    }
+
+    /*
+     * Checks the main class, the fields of every class and every method body as separate
+     * tasks on the pool, each with a visitor of its own. The symbol table is only read
+     * meanwhile. All tasks run to the end, and the error thrown is the first one in source
+     * order, the one the sequential check stops at. With allErrors every task collects its
+     * errors and the error thrown has those of all tasks, in source order.
+     */
+    static void checkInParallel(Tree tree, GlobalSymbolTable symbolTable, ForkJoinPool pool, boolean allErrors) throws Exception {
+        symbolTable.numberHierarchy();
+        int root = tree.getRoot();
+        List<Callable<Exception>> tasks = new ArrayList<Callable<Exception>>();
+        tasks.add(checkTask(tree, root, 0, symbolTable, null, allErrors));
+        for (int i = 1; i < tree.getChildCount(root); i++){
+            int declaration = tree.getChild(root, i);
+            ClassSymbolTable classSymbolTable = symbolTable.getClassSymbolTable(tree.getName(declaration));
+            int fields = tree.getKind(declaration) == Tree.CLASS_EXTENDS_DECLARATION ? 1 : 0;
+            int methods = tree.skipChildren(declaration, Tree.VAR_DECLARATION, fields);
+            tasks.add(checkTask(tree, declaration, fields, methods, symbolTable, classSymbolTable, allErrors));
+            for (int j = methods; j < tree.getChildCount(declaration); j++){
+                tasks.add(checkTask(tree, declaration, j, symbolTable, classSymbolTable, allErrors));
+            }
+        }
+
+        List<String> diagnostics = new ArrayList<String>();
+        for (Future<Exception> result : pool.invokeAll(tasks)){
+            Exception error = result.get();
+            if (error != null && !allErrors)
+                throw error;
+            if (error != null)
+                diagnostics.add(error.getMessage());
+        }
+        if (!diagnostics.isEmpty())
+            throw new Exception(String.join("\n", diagnostics));
+    }
+
+    static Callable<Exception> checkTask(Tree tree, int parent, int child, GlobalSymbolTable symbolTable, ClassSymbolTable classSymbolTable, boolean allErrors){
+        return checkTask(tree, parent, child, child + 1, symbolTable, classSymbolTable, allErrors);
+    }
+
+    //Checks the children from up to to of parent. Returns the error instead of throwing it,
+    //the pool would rethrow a copy of it
+    static Callable<Exception> checkTask(Tree tree, int parent, int from, int to, GlobalSymbolTable symbolTable, ClassSymbolTable classSymbolTable, boolean allErrors){
+        return () -> {
+            TypeCheckVisitor checker = new TypeCheckVisitor(tree, symbolTable);
+            checker.curClassSymbolTable = classSymbolTable;
+            if (allErrors)
+                checker.collectErrors();
+            try{
+                checker.visitChildren(parent, from, to);
+                checker.finish();
+                return null;
+            }
+            catch(Exception ex){
+                return ex;
+            }
+        };
+    }
     
     /**
-    * f0 -> "class"
-    * f1 -> Identifier()
-    * f2 -> "{"
-    * f3 -> "public"
-    * f4 -> "static"
-    * f5 -> "void"
-    * f6 -> "main"
-    * f7 -> "("
-    * f8 -> "String"
-    * f9 -> "["
-    * f10 -> "]"
-    * f11 -> Identifier()
-    * f12 -> ")"
-    * f13 -> "{"
-    * f14 -> ( VarDeclaration() )*
-    * f15 -> ( Statement() )*
-    * f16 -> "}"
-    * f17 -> "}"
+    * name -> the class
+    * children -> FORMAL_PARAMETER (the arguments), VAR_DECLARATION*, statement*
     */
-    public String visit(MainClass n, Void argu) throws Exception {
-        n.f0.accept(this, argu);
-        String className = n.f1.accept(this, argu);
-        this.curClassSymbolTable = this.symbolTable.getClassSymbolTable(className);
-        n.f2.accept(this, argu);
-        n.f3.accept(this, argu);
-        n.f4.accept(this, argu);
-        n.f5.accept(this, argu);
-        n.f6.accept(this, argu);
+    public Type visitMainClass(int n) throws Exception {
+        this.curClassSymbolTable = this.symbolTable.getClassSymbolTable(this.tree.getName(n));
         this.curMethodSymbolTable = this.curClassSymbolTable.getMethodSymbolTable("main");
-        n.f7.accept(this, argu);
-        n.f8.accept(this, argu);
-        n.f9.accept(this, argu);
-        n.f10.accept(this, argu);
-        n.f11.accept(this, argu);
-        n.f12.accept(this, argu);
-        n.f13.accept(this, argu);
-        n.f14.accept(this, argu);
-        n.f15.accept(this, argu);
-        n.f16.accept(this, argu);
-        n.f17.accept(this, argu);
+        this.visitChildren(n, 1, this.tree.getChildCount(n));
         return null;
     }
     
     /**
-    * f0 -> "class"
-    * f1 -> Identifier()
-    * f2 -> "{"
-    * f3 -> ( VarDeclaration() )*
-    * f4 -> ( MethodDeclaration() )*
-    * f5 -> "}"
+    * name -> the class
+    * children -> VAR_DECLARATION*, METHOD_DECLARATION*
     */
-    public String visit(ClassDeclaration n, Void argu) throws Exception {
-        n.f0.accept(this, argu);
-        String className = n.f1.accept(this, argu);
-        this.curClassSymbolTable = this.symbolTable.getClassSymbolTable(className);
-        n.f2.accept(this, argu);
-        n.f3.accept(this, argu);
-        n.f4.accept(this, argu);
-        n.f5.accept(this, argu);
+    public Type visitClassDeclaration(int n) throws Exception {
+        this.curClassSymbolTable = this.symbolTable.getClassSymbolTable(this.tree.getName(n));
+        this.visitChildren(n);
         return null;
     }
 
     /**
-     * f0 -> "class"
-    * f1 -> Identifier()
-    * f2 -> "extends"
-    * f3 -> Identifier()
-    * f4 -> "{"
-    * f5 -> ( VarDeclaration() )*
-    * f6 -> ( MethodDeclaration() )*
-    * f7 -> "}"
+    * name -> the class
+    * children -> TYPE (the parent class), VAR_DECLARATION*, METHOD_DECLARATION*
     */
-    public String visit(ClassExtendsDeclaration n, Void argu) throws Exception {
-        n.f0.accept(this, argu);
-        String className = n.f1.accept(this, argu);
-        this.curClassSymbolTable = this.symbolTable.getClassSymbolTable(className);
-        n.f2.accept(this, argu);
-        n.f3.accept(this, argu);
-        n.f4.accept(this, argu);
-        n.f5.accept(this, argu);
-        n.f6.accept(this, argu);
-        n.f7.accept(this, argu);
+    public Type visitClassExtendsDeclaration(int n) throws Exception {
+        this.curClassSymbolTable = this.symbolTable.getClassSymbolTable(this.tree.getName(n));
+        this.visitChildren(n, 1, this.tree.getChildCount(n));
         return null;
     }
 
     /**
-    * f0 -> "public"
-    * f1 -> Type()
-    * f2 -> Identifier()
-    * f3 -> "("
-    * f4 -> ( FormalParameterList() )?
-    * f5 -> ")"
-    * f6 -> "{"
-    * f7 -> ( VarDeclaration() )*
-    * f8 -> ( Statement() )*
-    * f9 -> "return"
-    * f10 -> Expression()
-    * f11 -> ";"
-    * f12 -> "}"
+    * name -> the method
+    * position -> "return"
+    * children -> TYPE (the return type), FORMAL_PARAMETER*, VAR_DECLARATION*, statement*, return expression
     */
-    public String visit(MethodDeclaration n, Void argu) throws Exception {
-        n.f0.accept(this, argu);
-        n.f1.accept(this, argu);
+    public Type visitMethodDeclaration(int n) throws Exception {
+        int returnExpression = this.tree.getChildCount(n) - 1;
+        this.visit(this.tree.getChild(n, 0));
 
-        String methodName = n.f2.accept(this, argu);
+        String methodName = this.tree.getName(n);
         this.curMethodSymbolTable = this.curClassSymbolTable.getMethodSymbolTable(methodName, symbolTable);
         
-        n.f3.accept(this, argu);
-        n.f4.accept(this, argu);
-        n.f5.accept(this, argu);
-        n.f6.accept(this, argu);
-        n.f7.accept(this, argu);
-        n.f8.accept(this, argu);
-        n.f9.accept(this, argu);
-
-        String expressionType = n.f10.accept(this, argu);
-        if (!expressionType.equals(this.curMethodSymbolTable.getReturnType()))
-            throw new ParseException(expressionType + " does not match the return type of " + 
-                                    curClassSymbolTable.getClassName() + "." + curMethodSymbolTable.getMethodName());
-        
-                                    n.f11.accept(this, argu);
-        n.f12.accept(this, argu);
+        this.visitChildren(n, 1, returnExpression);
+
+        Type expressionType = this.visit(this.tree.getChild(n, returnExpression));
+        this.location = n;
+        this.checkReturn(expressionType, this.curClassSymbolTable, this.curMethodSymbolTable);
         this.curMethodSymbolTable = null;
         return null;
     }
 
     /**
-    * f0 -> IntegerLiteral()
-    *       | TrueLiteral()
-    *       | FalseLiteral()
-    *       | Identifier()
-    *       | ThisExpression()
-    *       | ArrayAllocationExpression()
-    *       | AllocationExpression()
-    *       | BracketExpression()
+    * name -> the type as written
     */
-    public String visit(PrimaryExpression n, Void argu) throws Exception {
-        this.identifierTypeCheck = true;
-        String result = n.f0.accept(this, argu);
-        this.identifierTypeCheck = false;
-
-        if (result.equals("true") || result.equals("false"))
-            return "boolean";
-        else 
-            return result;
-    }
-
-    public String visit(IntegerArrayType n, Void argu) throws Exception {
-        return "int[]";
-    }
-
-    public String visit(BooleanArrayType n, Void argu) throws Exception {
-        return "boolean[]";
-    }
-
-    public String visit(BooleanType n, Void argu) {
-        return "boolean";
+    public Type visitType(int n) throws Exception {
+        Type type = this.symbolTable.getType(this.tree.getName(n));
+        this.location = n;
+        this.checkDeclaredType(type);
+        return type;
     }
 
-    public String visit(IntegerType n, Void argu) {
-        return "int";
+    public Type visitIntegerLiteral(int n) throws Exception {
+        return Type.INT;
     }
 
-    /**
-    * f0 -> <INTEGER_LITERAL>
-    */
-    public String visit(IntegerLiteral n, Void argu) throws Exception {
-        n.f0.accept(this, argu);
-        return "int";
+    public Type visitTrueLiteral(int n) throws Exception {
+        return Type.BOOLEAN;
     }
 
-    /**
-     * f0 -> "true"
-    */
-    public String visit(TrueLiteral n, Void argu) throws Exception {
-        n.f0.accept(this, argu);
-        return "true";
+    public Type visitFalseLiteral(int n) throws Exception {
+        return Type.BOOLEAN;
     }
 
-    /**
-     * f0 -> "false"
-    */
-    public String visit(FalseLiteral n, Void argu) throws Exception {
-        n.f0.accept(this, argu);
-        return "false";
+    public Type visitThisExpression(int n) throws Exception {
+        return this.curClassSymbolTable.getType();
     }
 
     /**
-     * f0 -> "this"
-    */
-    public String visit(ThisExpression n, Void argu) throws Exception {
-        n.f0.accept(this, argu);
-        return this.curClassSymbolTable.getClassName();
-    }
-
-     /**
-    * f0 -> <IDENTIFIER>
+    * name -> the variable
     */
-    public String visit(Identifier n, Void argu) throws Exception {
-        String identifier = n.f0.toString();
-        
-        if (this.identifierTypeCheck == false){
-            return identifier;
-        }
-        
-        String type = curMethodSymbolTable.getIdentifierType(identifier, curClassSymbolTable, symbolTable);
-        //If identifier is not a variable
-        if (type == null){
-            //Check if identifier is a class
-            if (this.symbolTable.hasClass(identifier))
-                type = identifier;
-            else
-                throw new ParseException("Unknown identifier '" + identifier + "'");
-        }
-        if (type == "String[]")
-            throw new ParseException("Illegal use of " + curClassSymbolTable.getClassName() + ".main arguments");
-        return type;
+    public Type visitIdentifier(int n) throws Exception {
+        this.location = n;
+        return this.checkIdentifier(this.tree.getName(n), this.curClassSymbolTable, this.curMethodSymbolTable);
     }
 
     /**
-    * f0 -> "!"
-    * f1 -> Clause()
+    * position -> "!"
+    * children -> expression
     */
-    public String visit(NotExpression n, Void argu) throws Exception {
-        n.f0.accept(this, argu);
-        String clause = n.f1.accept(this, argu);
-        if (!clause.equals("boolean"))
-            throw new ParseException("Invalid use of operator '!'");
-        return "boolean";
+    public Type visitNotExpression(int n) throws Exception {
+        Type clause = this.visit(this.tree.getChild(n, 0));
+        this.location = n;
+        this.checkOperands(clause, clause, Type.BOOLEAN, "!");
+        return Type.BOOLEAN;
     }
 
     /**
-    * f0 -> "new"
-    * f1 -> "boolean"
-    * f2 -> "["
-    * f3 -> Expression()
-    * f4 -> "]"
+    * position -> "new"
+    * children -> size
     */
-    public String visit(BooleanArrayAllocationExpression n, Void argu) throws Exception {
-        n.f0.accept(this, argu);
-        n.f1.accept(this, argu);
-        n.f2.accept(this, argu);
+    public Type visitBooleanArrayAllocation(int n) throws Exception {
         //Add integer check
-        String indexType = n.f3.accept(this, argu);
-        if (!indexType.equals("int"))
-            throw new ParseException("Array index must be an integer");
-        n.f4.accept(this, argu);
-        return "boolean[]";
+        Type indexType = this.visit(this.tree.getChild(n, 0));
+        this.location = n;
+        this.checkArraySize(indexType);
+        return Type.BOOLEAN_ARRAY;
     }
 
     /**
-     * f0 -> "new"
-    * f1 -> "int"
-    * f2 -> "["
-    * f3 -> Expression()
-    * f4 -> "]"
+    * position -> "new"
+    * children -> size
     */
-    public String visit(IntegerArrayAllocationExpression n, Void argu) throws Exception {
-        n.f0.accept(this, argu);
-        n.f1.accept(this, argu);
-        n.f2.accept(this, argu);
+    public Type visitIntegerArrayAllocation(int n) throws Exception {
         //Add integer check
-        String indexType = n.f3.accept(this, argu);
-        if (!indexType.equals("int"))
-            throw new ParseException("Array index must be an integer");
-        n.f4.accept(this, argu);
-        return "int[]";
+        Type indexType = this.visit(this.tree.getChild(n, 0));
+        this.location = n;
+        this.checkArraySize(indexType);
+        return Type.INT_ARRAY;
     }
 
     /**
-    * f0 -> "new"
-    * f1 -> Identifier()
-    * f2 -> "("
-    * f3 -> ")"
+    * name -> the class
     */
-    public String visit(AllocationExpression n, Void argu) throws Exception {
-        n.f0.accept(this, argu);
-        this.identifierTypeCheck = false;
-        String type = n.f1.accept(this, argu);
-        this.identifierTypeCheck = true;
-        n.f2.accept(this, argu);
-        n.f3.accept(this, argu);
-        return type;
+    public Type visitAllocationExpression(int n) throws Exception {
+        return this.symbolTable.getClassType(this.tree.getName(n));
     }
 
-    /**
-    * f0 -> "("
-    * f1 -> Expression()
-    * f2 -> ")"
-    */
-    public String visit(BracketExpression n, Void argu) throws Exception {
-        n.f0.accept(this, argu);
-        String type = n.f1.accept(this, argu);
-        n.f2.accept(this, argu);
-        return type;
+    //The operands of a binary operator, checked at the operator
+    Type binary(int n, Type operandType, String operator, Type resultType) throws Exception {
+        Type t1 = this.visit(this.tree.getChild(n, 0));
+        Type t2 = this.visit(this.tree.getChild(n, 1));
+        this.location = n;
+        this.checkOperands(t1, t2, operandType, operator);
+        return resultType;
     }
 
-    /**
-    * f0 -> Clause()
-    * f1 -> "&&"
-    * f2 -> Clause()
-    */
-    public String visit(AndExpression n, Void argu) throws Exception {
-        String t1 = n.f0.accept(this, argu);
-        n.f1.accept(this, argu);
-        String t2 = n.f2.accept(this, argu);
-        if (!t1.equals("boolean") || !t2.equals("boolean"))
-            throw new ParseException("Invalid use of operator '&&'");
-        return "boolean";
+    public Type visitAndExpression(int n) throws Exception {
+        return this.binary(n, Type.BOOLEAN, "&&", Type.BOOLEAN);
     }
 
-    /**
-    * f0 -> PrimaryExpression()
-    * f1 -> "<"
-    * f2 -> PrimaryExpression()
-    */
-    public String visit(CompareExpression n, Void argu) throws Exception {
-        String t1 = n.f0.accept(this, argu);
-        n.f1.accept(this, argu);
-        String t2 = n.f2.accept(this, argu);
-        if (!t1.equals("int") || !t2.equals("int"))
-            throw new ParseException("Invalid use of operator '<'");
-        return "boolean";
+    public Type visitCompareExpression(int n) throws Exception {
+        return this.binary(n, Type.INT, "<", Type.BOOLEAN);
     }
 
-    /**
-    * f0 -> PrimaryExpression()
-    * f1 -> "+"
-    * f2 -> PrimaryExpression()
-    */
-    public String visit(PlusExpression n, Void argu) throws Exception {
-        String t1 = n.f0.accept(this, argu);
-        n.f1.accept(this, argu);
-        String t2 = n.f2.accept(this, argu);
-        if (!t1.equals("int") || !t2.equals("int"))
-            throw new ParseException("Invalid use of operator '+'");
-        return "int";
+    public Type visitPlusExpression(int n) throws Exception {
+        return this.binary(n, Type.INT, "+", Type.INT);
     }
 
-    /**
-    * f0 -> PrimaryExpression()
-    * f1 -> "-"
-    * f2 -> PrimaryExpression()
-    */
-    public String visit(MinusExpression n, Void argu) throws Exception {
-        String t1 = n.f0.accept(this, argu);
-        n.f1.accept(this, argu);
-        String t2 = n.f2.accept(this, argu);
-        if (!t1.equals("int") || !t2.equals("int"))
-            throw new ParseException("Invalid use of operator '-'");
-        return "int";
+    public Type visitMinusExpression(int n) throws Exception {
+        return this.binary(n, Type.INT, "-", Type.INT);
     }
 
-    /**
-     * f0 -> PrimaryExpression()
-    * f1 -> "*"
-    * f2 -> PrimaryExpression()
-    */
-    public String visit(TimesExpression n, Void argu) throws Exception {
-        String t1 = n.f0.accept(this, argu);
-        n.f1.accept(this, argu);
-        String t2 = n.f2.accept(this, argu);
-        if (!t1.equals("int") || !t2.equals("int"))
-            throw new ParseException("Invalid use of operator '*'");
-        return "int";
+    public Type visitTimesExpression(int n) throws Exception {
+        return this.binary(n, Type.INT, "*", Type.INT);
     }
 
     /**
-    * f0 -> PrimaryExpression()
-    * f1 -> "["
-    * f2 -> PrimaryExpression()
-    * f3 -> "]"
+    * position -> "["
+    * children -> array, index
     */
-    public String visit(ArrayLookup n, Void argu) throws Exception {
-        String arrayType = n.f0.accept(this, argu);
-        n.f1.accept(this, argu);
-        String indexType = n.f2.accept(this, argu);
-        n.f3.accept(this, argu);
+    public Type visitArrayLookup(int n) throws Exception {
+        Type arrayType = this.visit(this.tree.getChild(n, 0));
+        Type indexType = this.visit(this.tree.getChild(n, 1));
         
-        if (!indexType.equals("int"))
-            throw new ParseException("Invalid index type. ('int' required)");
-        
-        if (arrayType.equals("int[]"))
-            return "int";
-        else if (arrayType.equals("boolean[]"))
-            return "boolean";
-        else 
-            throw new ParseException("Invalid use of array index");
+        this.location = n;
+        return this.checkArrayIndex(arrayType, indexType);
     }
 
     /**
-    * f0 -> PrimaryExpression()
-    * f1 -> "."
-    * f2 -> "length"
+    * position -> "."
+    * children -> array
     */
-    public String visit(ArrayLength n, Void argu) throws Exception {
-        String type = n.f0.accept(this, argu);
-        if (!type.equals("int[]") && !type.equals("boolean[]"))
-            throw new ParseException("Invalid use of 'length' (Not an array)");
-        n.f1.accept(this, argu);
-        n.f2.accept(this, argu);
-        return "int";
+    public Type visitArrayLength(int n) throws Exception {
+        Type type = this.visit(this.tree.getChild(n, 0));
+        this.location = n;
+        this.checkArrayLength(type);
+        return Type.INT;
     }
 
     /**
-    * f0 -> PrimaryExpression()
-    * f1 -> "."
-    * f2 -> Identifier()
-    * f3 -> "("
-    * f4 -> ( ExpressionList() )?
-    * f5 -> ")"
+    * name, position -> the method
+    * children -> object, arguments*
     */
-    public String visit(MessageSend n, Void argu) throws Exception {
-        String className = n.f0.accept(this, argu);
-        ClassSymbolTable classSymbolTable = this.symbolTable.getClassSymbolTable(className);
-        n.f1.accept(this, argu);
-        String methodName = n.f2.accept(this, argu);
-        MethodSymbolTable methodSymbolTable = classSymbolTable.getMethodSymbolTable(methodName, symbolTable);
-        n.f3.accept(this, argu);
-        this.argumentTypesToCheck.clear();
-        n.f4.accept(this, argu);
-        n.f5.accept(this, argu);
-
-        //Check if given arguments match the method template
-        Map<String, String> requiredArguments = methodSymbolTable.getArgumentSymbolTable();
-        if (requiredArguments.size() != argumentTypesToCheck.size())
-            throw new ParseException("Invalid argument count for " + className + "." + methodName);
-
-        Set<String> requiredArgumentNames = requiredArguments.keySet();
-        for (String argument : requiredArgumentNames){
-            String type1 = requiredArguments.get(argument);
-            String type2 = argumentTypesToCheck.poll();
-            if (!type1.equals(type2)){
-                //Check if arguments are derived classes
-                if (symbolTable.hasClass(type1) && symbolTable.hasClass(type2)){
-                    if (symbolTable.isDerived(type2, type1)){
-                        return methodSymbolTable.getReturnType();
-                    }
-                }
-
-                throw new ParseException("Invalid argument types for " + className + "." + methodName);
-            }
+    public Type visitMessageSend(int n) throws Exception {
+        Type objectType = this.visit(this.tree.getChild(n, 0));
+        this.location = n;
+        MethodSymbolTable methodSymbolTable = this.checkMethod(objectType, this.tree.getName(n));
+        List<Type> argumentTypes = new ArrayList<Type>();
+        for (int i = 1; i < this.tree.getChildCount(n); i++){
+            argumentTypes.add(this.visit(this.tree.getChild(n, i)));
         }
+        this.location = n;
+        this.checkArguments(objectType, methodSymbolTable, argumentTypes);
+        if (methodSymbolTable == null)
+            return Type.ERROR;
         return methodSymbolTable.getReturnType();
     }
 
     /**
-    * f0 -> Expression()
-    * f1 -> ExpressionTail()
+    * position -> "="
+    * children -> IDENTIFIER, expression
     */
-   public String visit(ExpressionList n, Void argu) throws Exception {
-        String exprType = n.f0.accept(this, argu);
-        this.argumentTypesToCheck.add(exprType);
-        n.f1.accept(this, argu);
+    public Type visitAssignmentStatement(int n) throws Exception {
+        int identifier = this.tree.getChild(n, 0);
+        this.location = identifier;
+        Type identifierType = this.checkAssignedIdentifier(this.tree.getName(identifier), this.curClassSymbolTable, this.curMethodSymbolTable);
+        Type expressionType = this.visit(this.tree.getChild(n, 1));
+        this.location = n;
+        this.checkAssignment(identifierType, expressionType);
         return null;
     }
 
     /**
-     * f0 -> ","
-    * f1 -> Expression()
+    * position -> "="
+    * children -> ARRAY_LOOKUP, expression
     */
-    public String visit(ExpressionTerm n, Void argu) throws Exception {
-        n.f0.accept(this, argu);
-        String exprType = n.f1.accept(this, argu);
-        this.argumentTypesToCheck.add(exprType);
+    public Type visitArrayAssignmentStatement(int n) throws Exception {
+        Type elementType = this.visit(this.tree.getChild(n, 0));
+        Type expressionType = this.visit(this.tree.getChild(n, 1));
+        this.location = n;
+        this.checkAssignment(elementType, expressionType);
         return null;
     }
 
     /**
-    * f0 -> Identifier()
-    * f1 -> "="
-    * f2 -> Expression()
-    * f3 -> ";"
+    * position -> "if"
+    * children -> condition, statement, statement
     */
-    public String visit(AssignmentStatement n, Void argu) throws Exception {
-        identifierTypeCheck = true;
-        String identifierType = n.f0.accept(this, argu);
-        identifierTypeCheck = false;
-        n.f1.accept(this, argu);
-        String expressionType = n.f2.accept(this, argu);
-        n.f3.accept(this, argu);
-
-        if (!identifierType.equals(expressionType)){
-            //check if they are derived and base classes
-            if (symbolTable.hasClass(identifierType) && symbolTable.hasClass(expressionType)){
-                if (symbolTable.isDerived(expressionType, identifierType)){
-                    return null;
-                }
-            }
-            throw new ParseException("Cannot assign '" + expressionType + "' to '" + identifierType + "'");
-        }
+    public Type visitIfStatement(int n) throws Exception {
+        Type expressionType = this.visit(this.tree.getChild(n, 0));
+        this.location = n;
+        this.checkCondition(expressionType, "if");
+        this.visitChildren(n, 1, 3);
         return null;
     }
-
+    
     /**
-    * f0 -> Identifier()
-    * f1 -> "["
-    * f2 -> Expression()
-    * f3 -> "]"
-    * f4 -> "="
-    * f5 -> Expression()
-    * f6 -> ";"
+    * position -> "while"
+    * children -> condition, statement
     */
-    public String visit(ArrayAssignmentStatement n, Void argu) throws Exception {
-        identifierTypeCheck = true;
-        String identifierType = n.f0.accept(this, argu);
-        identifierTypeCheck = false;
-        identifierType = identifierType.replaceAll("\\[\\]", ""); //remove square brackets from identifier
-        
-        n.f1.accept(this, argu);
-        String indexType = n.f2.accept(this, argu);
-        if (!indexType.equals("int"))
-            throw new ParseException("Invalid index type. ('int' required)");
-        n.f3.accept(this, argu);
-        n.f4.accept(this, argu);
-        String expressionType = n.f5.accept(this, argu);
-        n.f6.accept(this, argu);
-
-        if (!identifierType.equals(expressionType))
-            throw new ParseException("Cannot assign '" + expressionType + "' to '" + identifierType + "'");
+    public Type visitWhileStatement(int n) throws Exception {
+        Type expressionType = this.visit(this.tree.getChild(n, 0));
+        this.location = n;
+        this.checkCondition(expressionType, "while");
+        this.visit(this.tree.getChild(n, 1));
         return null;
     }
 
     /**
-    * f0 -> "if"
-    * f1 -> "("
-    * f2 -> Expression()
-    * f3 -> ")"
-    * f4 -> Statement()
-    * f5 -> "else"
-    * f6 -> Statement()
+    * position -> "System.out.println"
+    * children -> expression
     */
-    public String visit(IfStatement n, Void argu) throws Exception {
-        n.f0.accept(this, argu);
-        n.f1.accept(this, argu);
-        String expressionType = n.f2.accept(this, argu);
-        if (!expressionType.equals("boolean"))
-            throw new ParseException("'if' condition must be boolean");
-        n.f3.accept(this, argu);
-        n.f4.accept(this, argu);
-        n.f5.accept(this, argu);
-        n.f6.accept(this, argu);
+    public Type visitPrintStatement(int n) throws Exception {
+        Type expressionType = this.visit(this.tree.getChild(n, 0));
+        this.location = n;
+        this.checkPrint(expressionType);
         return null;
     }
-    
-    /**
-     * f0 -> "while"
-    * f1 -> "("
-    * f2 -> Expression()
-    * f3 -> ")"
-    * f4 -> Statement()
-    */
-    public String visit(WhileStatement n, Void argu) throws Exception {
-        n.f0.accept(this, argu);
-        n.f1.accept(this, argu);
-        String expressionType = n.f2.accept(this, argu);
-        if (!expressionType.equals("boolean"))
-            throw new ParseException("'while' condition must be boolean");
-        n.f3.accept(this, argu);
-        n.f4.accept(this, argu);
-        return null;
+
+    void checkDeclaredType(Type type) throws Exception {
+        if (type instanceof ClassType && !type.isClass())
+            this.error("Unknown type '" + type + "'");
     }
 
-    /**
-    * f0 -> "System.out.println"
-    * f1 -> "("
-    * f2 -> Expression()
-    * f3 -> ")"
-    * f4 -> ";"
-    */
-    public String visit(PrintStatement n, Void argu) throws Exception {
-        n.f0.accept(this, argu);
-        n.f1.accept(this, argu);
-        n.f2.accept(this, argu);String expressionType = n.f2.accept(this, argu);
-        if (!expressionType.equals("int"))
-            throw new ParseException("Print statement can only be used with type 'int'");
-        n.f3.accept(this, argu);
-        n.f4.accept(this, argu);
-        return null;
+    Type checkIdentifier(String identifier, ClassSymbolTable classSymbolTable, MethodSymbolTable methodSymbolTable) throws Exception {
+        Type type = methodSymbolTable.getIdentifierType(identifier, classSymbolTable, this.symbolTable);
+        //If identifier is not a variable
+        if (type == null){
+            //Check if identifier is a class
+            if (this.symbolTable.hasClass(identifier))
+                type = this.symbolTable.getClassType(identifier);
+            else{
+                this.error("Unknown identifier '" + identifier + "'");
+                return Type.ERROR;
+            }
+        }
+        if (type == Type.STRING_ARRAY){
+            this.error("Illegal use of " + classSymbolTable.getClassName() + ".main arguments");
+            return Type.ERROR;
+        }
+        return type;
     }
 
-    /**
-    * f0 -> ArrayType()
-    *       | BooleanType()
-    *       | IntegerType()
-    *       | Identifier()
-    */
-    public String visit(Type n, Void argu) throws Exception {
+    //As checkIdentifier, for the variable an assignment stores to. A class name is a value but holds nothing
+    Type checkAssignedIdentifier(String identifier, ClassSymbolTable classSymbolTable, MethodSymbolTable methodSymbolTable) throws Exception {
+        if (methodSymbolTable.getIdentifierType(identifier, classSymbolTable, this.symbolTable) == null && this.symbolTable.hasClass(identifier)){
+            this.error("Cannot assign to class '" + identifier + "'");
+            return Type.ERROR;
+        }
+        return this.checkIdentifier(identifier, classSymbolTable, methodSymbolTable);
+    }
 
-        String type = n.f0.accept(this, argu);
+    void checkOperands(Type t1, Type t2, Type operandType, String operator) throws Exception {
+        if ((t1 != operandType && t1 != Type.ERROR) || (t2 != operandType && t2 != Type.ERROR))
+            this.error("Invalid use of operator '" + operator + "'");
+    }
+
+    void checkArraySize(Type sizeType) throws Exception {
+        if (sizeType != Type.INT && sizeType != Type.ERROR)
+            this.error("Array index must be an integer");
+    }
 
-        if (!type.equals("int") && !type.equals("int[]")
-            && !type.equals("boolean") && !type.equals("boolean[]")
-            && !this.symbolTable.hasClass(type))
-        {
-            throw new ParseException("Unknown type '" + type + "'");
+    //Returns the element type
+    Type checkArrayIndex(Type arrayType, Type indexType) throws Exception {
+        if (indexType != Type.INT && indexType != Type.ERROR)
+            this.error("Invalid index type. ('int' required)");
+        if (arrayType == Type.ERROR)
+            return Type.ERROR;
+        if (!arrayType.isArray()){
+            this.error("Invalid use of array index");
+            return Type.ERROR;
         }
-        return type;
+        return arrayType.getElementType();
+    }
+
+    void checkArrayLength(Type arrayType) throws Exception {
+        if (!arrayType.isArray() && arrayType != Type.ERROR)
+            this.error("Invalid use of 'length' (Not an array)");
+    }
+
+    //The method called on a receiver of the given type, searched in the parent classes too.
+    //Null after an error
+    MethodSymbolTable checkMethod(Type objectType, String methodName) throws Exception {
+        if (objectType == Type.ERROR) return null;
+        ClassSymbolTable classSymbolTable = objectType.getClassSymbolTable();
+        if (classSymbolTable == null){
+            this.error("Unknown symbol '" + objectType + "'");
+            return null;
+        }
+        MethodSymbolTable methodSymbolTable = classSymbolTable.findMethodSymbolTable(methodName, this.symbolTable);
+        if (methodSymbolTable == null)
+            this.error("Unknown symbol '" + methodName + "'");
+        return methodSymbolTable;
+    }
+
+    //Check if given arguments match the method template, derived classes included
+    void checkArguments(Type objectType, MethodSymbolTable methodSymbolTable, Collection<Type> argumentTypes) throws Exception {
+        if (methodSymbolTable == null) return;
+        String methodName = objectType + "." + methodSymbolTable.getMethodName();
+        Collection<Type> requiredArguments = methodSymbolTable.getArgumentSymbolTable().values();
+        if (requiredArguments.size() != argumentTypes.size()){
+            this.error("Invalid argument count for " + methodName);
+            return;
+        }
+
+        Iterator<Type> argumentType = argumentTypes.iterator();
+        for (Type requiredType : requiredArguments){
+            Type type = argumentType.next();
+            if (type != Type.ERROR && !this.symbolTable.isSubtype(type, requiredType)){
+                this.error("Invalid argument types for " + methodName);
+                return;
+            }
+        }
+    }
+
+    //Same type, or a derived class assigned to a base class
+    void checkAssignment(Type variableType, Type expressionType) throws Exception {
+        if (variableType == Type.ERROR || expressionType == Type.ERROR) return;
+        if (!this.symbolTable.isSubtype(expressionType, variableType))
+            this.error("Cannot assign '" + expressionType + "' to '" + variableType + "'");
+    }
+
+    void checkCondition(Type conditionType, String statement) throws Exception {
+        if (conditionType != Type.BOOLEAN && conditionType != Type.ERROR)
+            this.error("'" + statement + "' condition must be boolean");
+    }
+
+    void checkPrint(Type expressionType) throws Exception {
+        if (expressionType != Type.INT && expressionType != Type.ERROR)
+            this.error("Print statement can only be used with type 'int'");
+    }
+
+    void checkReturn(Type expressionType, ClassSymbolTable classSymbolTable, MethodSymbolTable methodSymbolTable) throws Exception {
+        if (expressionType != methodSymbolTable.getReturnType() && expressionType != Type.ERROR)
+            this.error(expressionType + " does not match the return type of " + 
+                                    classSymbolTable.getClassName() + "." + methodSymbolTable.getMethodName());
     }
 }
\ No newline at end of file
@@ -0,0 +1,645 @@
+@.QuickSort_vtable = global [0 x i8*] []
+@.QS_vtable = global [4 x i8*] [i8* bitcast (i32 (i8*,i32)* @QS.Start to i8*), i8* bitcast (i32 (i8*,i32,i32)* @QS.Sort to i8*), i8* bitcast (i32 (i8*)* @QS.Print to i8*), i8* bitcast (i32 (i8*,i32)* @QS.Init to i8*)]
+
+declare i8* @calloc(i32, i32)
+declare i32 @printf(i8*, ...)
+declare void @exit(i32)
+
+@_cint = constant [4 x i8] c"%d\0a\00"
+@_cOOB = constant [15 x i8] c"Out of bounds\0a\00"
+define void @print_int(i32 %i) {
+     %_str = bitcast [4 x i8]* @_cint to i8*
+     call i32 (i8*, ...) @printf(i8* %_str, i32 %i)
+     ret void
+}
+
+define void @throw_oob() {
+     %_str = bitcast [15 x i8]* @_cOOB to i8*
+     call i32 (i8*, ...) @printf(i8* %_str)
+     call void @exit(i32 1)
+     ret void
+}
+
+define i32 @main() {
+entry.0:
+	%_0 = call i8* @calloc(i32 1, i32 20)
+	%_1 = bitcast i8* %_0 to i8***
+	%_2 = getelementptr [4 x i8*], [4 x i8*]* @.QS_vtable, i32 0, i32 0
+	store i8** %_2, i8*** %_1
+	; QS.Start: 0
+	%_3 = bitcast i8* %_0 to i8***
+	%_4 = load i8**, i8*** %_3
+	%_5 = getelementptr i8*, i8** %_4, i32 0
+	%_6 = load i8*, i8** %_5
+	%_7 = bitcast i8* %_6 to i32 (i8*,i32)*
+	%_8 = call i32 %_7(i8* %_0, i32 10)
+	call void @print_int(i32 %_8)
+	ret i32 0
+}
+
+define i32 @QS.Start(i8* %this, i32 %.sz) {
+entry.0:
+	%sz = alloca i32
+	store i32 %.sz, i32* %sz
+	%aux01 = alloca i32
+	%_0 = load i32, i32* %sz
+	; QS.Init: 3
+	%_1 = bitcast i8* %this to i8***
+	%_2 = load i8**, i8*** %_1
+	%_3 = getelementptr i8*, i8** %_2, i32 3
+	%_4 = load i8*, i8** %_3
+	%_5 = bitcast i8* %_4 to i32 (i8*,i32)*
+	%_6 = call i32 %_5(i8* %this, i32 %_0)
+	store i32 %_6, i32* %aux01
+	; QS.Print: 2
+	%_7 = bitcast i8* %this to i8***
+	%_8 = load i8**, i8*** %_7
+	%_9 = getelementptr i8*, i8** %_8, i32 2
+	%_10 = load i8*, i8** %_9
+	%_11 = bitcast i8* %_10 to i32 (i8*)*
+	%_12 = call i32 %_11(i8* %this)
+	store i32 %_12, i32* %aux01
+	call void @print_int(i32 9999)
+	%_13 = getelementptr i8, i8* %this, i32 16
+	%_14 = bitcast i8* %_13 to i32*
+	%_15 = load i32, i32* %_14
+	%_16 = sub i32 %_15, 1
+	store i32 %_16, i32* %aux01
+	%_17 = load i32, i32* %aux01
+	; QS.Sort: 1
+	%_18 = bitcast i8* %this to i8***
+	%_19 = load i8**, i8*** %_18
+	%_20 = getelementptr i8*, i8** %_19, i32 1
+	%_21 = load i8*, i8** %_20
+	%_22 = bitcast i8* %_21 to i32 (i8*,i32,i32)*
+	%_23 = call i32 %_22(i8* %this, i32 0, i32 %_17)
+	store i32 %_23, i32* %aux01
+	; QS.Print: 2
+	%_24 = bitcast i8* %this to i8***
+	%_25 = load i8**, i8*** %_24
+	%_26 = getelementptr i8*, i8** %_25, i32 2
+	%_27 = load i8*, i8** %_26
+	%_28 = bitcast i8* %_27 to i32 (i8*)*
+	%_29 = call i32 %_28(i8* %this)
+	store i32 %_29, i32* %aux01
+	ret i32 0
+}
+
+define i32 @QS.Sort(i8* %this, i32 %.left, i32 %.right) {
+entry.0:
+	%left = alloca i32
+	store i32 %.left, i32* %left
+	%right = alloca i32
+	store i32 %.right, i32* %right
+	%v = alloca i32
+	%i = alloca i32
+	%j = alloca i32
+	%nt = alloca i32
+	%t = alloca i32
+	%cont01 = alloca i1
+	%cont02 = alloca i1
+	%aux03 = alloca i32
+	store i32 0, i32* %t
+	%_0 = load i32, i32* %left
+	%_1 = load i32, i32* %right
+	%_2 = icmp slt i32 %_0, %_1
+	br i1 %_2, label %if0, label %if1
+
+if0:
+	%_3 = getelementptr i8, i8* %this, i32 8
+	%_4 = bitcast i8* %_3 to i32**
+	%_5 = load i32*, i32** %_4
+	%_6 = load i32, i32* %right
+	%_7 = load i32, i32* %_5
+	%_8 = icmp ult i32 %_6, %_7
+	br i1 %_8, label %oob1, label %oob0
+
+oob0:
+	call void @throw_oob()
+	br label %oob1
+
+oob1:
+	%_9 = add i32 %_6, 1
+	%_10 = getelementptr i32, i32* %_5, i32 %_9
+	%_11 = load i32, i32* %_10
+	store i32 %_11, i32* %v
+	%_12 = load i32, i32* %left
+	%_13 = sub i32 %_12, 1
+	store i32 %_13, i32* %i
+	%_14 = load i32, i32* %right
+	store i32 %_14, i32* %j
+	store i1 1, i1* %cont01
+	br label %loop0
+
+loop0:
+	%_15 = load i1, i1* %cont01
+	br i1 %_15, label %loop1, label %loop2
+
+loop1:
+	store i1 1, i1* %cont02
+	br label %loop3
+
+loop3:
+	%_16 = load i1, i1* %cont02
+	br i1 %_16, label %loop4, label %loop5
+
+loop4:
+	%_17 = load i32, i32* %i
+	%_18 = add i32 %_17, 1
+	store i32 %_18, i32* %i
+	%_19 = getelementptr i8, i8* %this, i32 8
+	%_20 = bitcast i8* %_19 to i32**
+	%_21 = load i32*, i32** %_20
+	%_22 = load i32, i32* %i
+	%_23 = load i32, i32* %_21
+	%_24 = icmp ult i32 %_22, %_23
+	br i1 %_24, label %oob3, label %oob2
+
+oob2:
+	call void @throw_oob()
+	br label %oob3
+
+oob3:
+	%_25 = add i32 %_22, 1
+	%_26 = getelementptr i32, i32* %_21, i32 %_25
+	%_27 = load i32, i32* %_26
+	store i32 %_27, i32* %aux03
+	%_28 = load i32, i32* %aux03
+	%_29 = load i32, i32* %v
+	%_30 = icmp slt i32 %_28, %_29
+	%_31 = xor i1 %_30, 1
+	br i1 %_31, label %if3, label %if4
+
+if3:
+	store i1 0, i1* %cont02
+	br label %if5
+
+if4:
+	store i1 1, i1* %cont02
+	br label %if5
+
+if5:
+	br label %loop3
+
+loop5:
+	store i1 1, i1* %cont02
+	br label %loop6
+
+loop6:
+	%_32 = load i1, i1* %cont02
+	br i1 %_32, label %loop7, label %loop8
+
+loop7:
+	%_33 = load i32, i32* %j
+	%_34 = sub i32 %_33, 1
+	store i32 %_34, i32* %j
+	%_35 = getelementptr i8, i8* %this, i32 8
+	%_36 = bitcast i8* %_35 to i32**
+	%_37 = load i32*, i32** %_36
+	%_38 = load i32, i32* %j
+	%_39 = load i32, i32* %_37
+	%_40 = icmp ult i32 %_38, %_39
+	br i1 %_40, label %oob5, label %oob4
+
+oob4:
+	call void @throw_oob()
+	br label %oob5
+
+oob5:
+	%_41 = add i32 %_38, 1
+	%_42 = getelementptr i32, i32* %_37, i32 %_41
+	%_43 = load i32, i32* %_42
+	store i32 %_43, i32* %aux03
+	%_44 = load i32, i32* %v
+	%_45 = load i32, i32* %aux03
+	%_46 = icmp slt i32 %_44, %_45
+	%_47 = xor i1 %_46, 1
+	br i1 %_47, label %if6, label %if7
+
+if6:
+	store i1 0, i1* %cont02
+	br label %if8
+
+if7:
+	store i1 1, i1* %cont02
+	br label %if8
+
+if8:
+	br label %loop6
+
+loop8:
+	%_48 = getelementptr i8, i8* %this, i32 8
+	%_49 = bitcast i8* %_48 to i32**
+	%_50 = load i32*, i32** %_49
+	%_51 = load i32, i32* %i
+	%_52 = load i32, i32* %_50
+	%_53 = icmp ult i32 %_51, %_52
+	br i1 %_53, label %oob7, label %oob6
+
+oob6:
+	call void @throw_oob()
+	br label %oob7
+
+oob7:
+	%_54 = add i32 %_51, 1
+	%_55 = getelementptr i32, i32* %_50, i32 %_54
+	%_56 = load i32, i32* %_55
+	store i32 %_56, i32* %t
+	%_57 = getelementptr i8, i8* %this, i32 8
+	%_58 = bitcast i8* %_57 to i32**
+	%_59 = load i32*, i32** %_58
+	%_60 = load i32, i32* %i
+	%_61 = getelementptr i8, i8* %this, i32 8
+	%_62 = bitcast i8* %_61 to i32**
+	%_63 = load i32*, i32** %_62
+	%_64 = load i32, i32* %j
+	%_65 = load i32, i32* %_63
+	%_66 = icmp ult i32 %_64, %_65
+	br i1 %_66, label %oob9, label %oob8
+
+oob8:
+	call void @throw_oob()
+	br label %oob9
+
+oob9:
+	%_67 = add i32 %_64, 1
+	%_68 = getelementptr i32, i32* %_63, i32 %_67
+	%_69 = load i32, i32* %_68
+	%_70 = load i32, i32* %_59
+	%_71 = icmp ult i32 %_60, %_70
+	br i1 %_71, label %oob11, label %oob10
+
+oob10:
+	call void @throw_oob()
+	br label %oob11
+
+oob11:
+	%_72 = add i32 %_60, 1
+	%_73 = getelementptr i32, i32* %_59, i32 %_72
+	store i32 %_69, i32* %_73
+	%_74 = getelementptr i8, i8* %this, i32 8
+	%_75 = bitcast i8* %_74 to i32**
+	%_76 = load i32*, i32** %_75
+	%_77 = load i32, i32* %j
+	%_78 = load i32, i32* %t
+	%_79 = load i32, i32* %_76
+	%_80 = icmp ult i32 %_77, %_79
+	br i1 %_80, label %oob13, label %oob12
+
+oob12:
+	call void @throw_oob()
+	br label %oob13
+
+oob13:
+	%_81 = add i32 %_77, 1
+	%_82 = getelementptr i32, i32* %_76, i32 %_81
+	store i32 %_78, i32* %_82
+	%_83 = load i32, i32* %j
+	%_84 = load i32, i32* %i
+	%_85 = add i32 %_84, 1
+	%_86 = icmp slt i32 %_83, %_85
+	br i1 %_86, label %if9, label %if10
+
+if9:
+	store i1 0, i1* %cont01
+	br label %if11
+
+if10:
+	store i1 1, i1* %cont01
+	br label %if11
+
+if11:
+	br label %loop0
+
+loop2:
+	%_87 = getelementptr i8, i8* %this, i32 8
+	%_88 = bitcast i8* %_87 to i32**
+	%_89 = load i32*, i32** %_88
+	%_90 = load i32, i32* %j
+	%_91 = getelementptr i8, i8* %this, i32 8
+	%_92 = bitcast i8* %_91 to i32**
+	%_93 = load i32*, i32** %_92
+	%_94 = load i32, i32* %i
+	%_95 = load i32, i32* %_93
+	%_96 = icmp ult i32 %_94, %_95
+	br i1 %_96, label %oob15, label %oob14
+
+oob14:
+	call void @throw_oob()
+	br label %oob15
+
+oob15:
+	%_97 = add i32 %_94, 1
+	%_98 = getelementptr i32, i32* %_93, i32 %_97
+	%_99 = load i32, i32* %_98
+	%_100 = load i32, i32* %_89
+	%_101 = icmp ult i32 %_90, %_100
+	br i1 %_101, label %oob17, label %oob16
+
+oob16:
+	call void @throw_oob()
+	br label %oob17
+
+oob17:
+	%_102 = add i32 %_90, 1
+	%_103 = getelementptr i32, i32* %_89, i32 %_102
+	store i32 %_99, i32* %_103
+	%_104 = getelementptr i8, i8* %this, i32 8
+	%_105 = bitcast i8* %_104 to i32**
+	%_106 = load i32*, i32** %_105
+	%_107 = load i32, i32* %i
+	%_108 = getelementptr i8, i8* %this, i32 8
+	%_109 = bitcast i8* %_108 to i32**
+	%_110 = load i32*, i32** %_109
+	%_111 = load i32, i32* %right
+	%_112 = load i32, i32* %_110
+	%_113 = icmp ult i32 %_111, %_112
+	br i1 %_113, label %oob19, label %oob18
+
+oob18:
+	call void @throw_oob()
+	br label %oob19
+
+oob19:
+	%_114 = add i32 %_111, 1
+	%_115 = getelementptr i32, i32* %_110, i32 %_114
+	%_116 = load i32, i32* %_115
+	%_117 = load i32, i32* %_106
+	%_118 = icmp ult i32 %_107, %_117
+	br i1 %_118, label %oob21, label %oob20
+
+oob20:
+	call void @throw_oob()
+	br label %oob21
+
+oob21:
+	%_119 = add i32 %_107, 1
+	%_120 = getelementptr i32, i32* %_106, i32 %_119
+	store i32 %_116, i32* %_120
+	%_121 = getelementptr i8, i8* %this, i32 8
+	%_122 = bitcast i8* %_121 to i32**
+	%_123 = load i32*, i32** %_122
+	%_124 = load i32, i32* %right
+	%_125 = load i32, i32* %t
+	%_126 = load i32, i32* %_123
+	%_127 = icmp ult i32 %_124, %_126
+	br i1 %_127, label %oob23, label %oob22
+
+oob22:
+	call void @throw_oob()
+	br label %oob23
+
+oob23:
+	%_128 = add i32 %_124, 1
+	%_129 = getelementptr i32, i32* %_123, i32 %_128
+	store i32 %_125, i32* %_129
+	%_130 = load i32, i32* %left
+	%_131 = load i32, i32* %i
+	%_132 = sub i32 %_131, 1
+	; QS.Sort: 1
+	%_133 = bitcast i8* %this to i8***
+	%_134 = load i8**, i8*** %_133
+	%_135 = getelementptr i8*, i8** %_134, i32 1
+	%_136 = load i8*, i8** %_135
+	%_137 = bitcast i8* %_136 to i32 (i8*,i32,i32)*
+	%_138 = call i32 %_137(i8* %this, i32 %_130, i32 %_132)
+	store i32 %_138, i32* %nt
+	%_139 = load i32, i32* %i
+	%_140 = add i32 %_139, 1
+	%_141 = load i32, i32* %right
+	; QS.Sort: 1
+	%_142 = bitcast i8* %this to i8***
+	%_143 = load i8**, i8*** %_142
+	%_144 = getelementptr i8*, i8** %_143, i32 1
+	%_145 = load i8*, i8** %_144
+	%_146 = bitcast i8* %_145 to i32 (i8*,i32,i32)*
+	%_147 = call i32 %_146(i8* %this, i32 %_140, i32 %_141)
+	store i32 %_147, i32* %nt
+	br label %if2
+
+if1:
+	store i32 0, i32* %nt
+	br label %if2
+
+if2:
+	ret i32 0
+}
+
+define i32 @QS.Print(i8* %this) {
+entry.0:
+	%j = alloca i32
+	store i32 0, i32* %j
+	br label %loop0
+
+loop0:
+	%_0 = load i32, i32* %j
+	%_1 = getelementptr i8, i8* %this, i32 16
+	%_2 = bitcast i8* %_1 to i32*
+	%_3 = load i32, i32* %_2
+	%_4 = icmp slt i32 %_0, %_3
+	br i1 %_4, label %loop1, label %loop2
+
+loop1:
+	%_5 = getelementptr i8, i8* %this, i32 8
+	%_6 = bitcast i8* %_5 to i32**
+	%_7 = load i32*, i32** %_6
+	%_8 = load i32, i32* %j
+	%_9 = load i32, i32* %_7
+	%_10 = icmp ult i32 %_8, %_9
+	br i1 %_10, label %oob1, label %oob0
+
+oob0:
+	call void @throw_oob()
+	br label %oob1
+
+oob1:
+	%_11 = add i32 %_8, 1
+	%_12 = getelementptr i32, i32* %_7, i32 %_11
+	%_13 = load i32, i32* %_12
+	call void @print_int(i32 %_13)
+	%_14 = load i32, i32* %j
+	%_15 = add i32 %_14, 1
+	store i32 %_15, i32* %j
+	br label %loop0
+
+loop2:
+	ret i32 0
+}
+
+define i32 @QS.Init(i8* %this, i32 %.sz) {
+entry.0:
+	%sz = alloca i32
+	store i32 %.sz, i32* %sz
+	%_0 = load i32, i32* %sz
+	%_1 = getelementptr i8, i8* %this, i32 16
+	%_2 = bitcast i8* %_1 to i32*
+	store i32 %_0, i32* %_2
+	%_3 = load i32, i32* %sz
+	%_4 = icmp slt i32 %_3, 0
+	br i1 %_4, label %arr_alloc0, label %arr_alloc1
+
+arr_alloc0:
+	call void @throw_oob()
+	br label %arr_alloc1
+
+arr_alloc1:
+	%_5 = add i32 %_3, 1
+	%_6 = call i8* @calloc(i32 4, i32 %_5)
+	%_7 = bitcast i8* %_6 to i32*
+	store i32 %_3, i32* %_7
+	%_8 = getelementptr i8, i8* %this, i32 8
+	%_9 = bitcast i8* %_8 to i32**
+	store i32* %_7, i32** %_9
+	%_10 = getelementptr i8, i8* %this, i32 8
+	%_11 = bitcast i8* %_10 to i32**
+	%_12 = load i32*, i32** %_11
+	%_13 = load i32, i32* %_12
+	%_14 = icmp ult i32 0, %_13
+	br i1 %_14, label %oob1, label %oob0
+
+oob0:
+	call void @throw_oob()
+	br label %oob1
+
+oob1:
+	%_15 = add i32 0, 1
+	%_16 = getelementptr i32, i32* %_12, i32 %_15
+	store i32 20, i32* %_16
+	%_17 = getelementptr i8, i8* %this, i32 8
+	%_18 = bitcast i8* %_17 to i32**
+	%_19 = load i32*, i32** %_18
+	%_20 = load i32, i32* %_19
+	%_21 = icmp ult i32 1, %_20
+	br i1 %_21, label %oob3, label %oob2
+
+oob2:
+	call void @throw_oob()
+	br label %oob3
+
+oob3:
+	%_22 = add i32 1, 1
+	%_23 = getelementptr i32, i32* %_19, i32 %_22
+	store i32 7, i32* %_23
+	%_24 = getelementptr i8, i8* %this, i32 8
+	%_25 = bitcast i8* %_24 to i32**
+	%_26 = load i32*, i32** %_25
+	%_27 = load i32, i32* %_26
+	%_28 = icmp ult i32 2, %_27
+	br i1 %_28, label %oob5, label %oob4
+
+oob4:
+	call void @throw_oob()
+	br label %oob5
+
+oob5:
+	%_29 = add i32 2, 1
+	%_30 = getelementptr i32, i32* %_26, i32 %_29
+	store i32 12, i32* %_30
+	%_31 = getelementptr i8, i8* %this, i32 8
+	%_32 = bitcast i8* %_31 to i32**
+	%_33 = load i32*, i32** %_32
+	%_34 = load i32, i32* %_33
+	%_35 = icmp ult i32 3, %_34
+	br i1 %_35, label %oob7, label %oob6
+
+oob6:
+	call void @throw_oob()
+	br label %oob7
+
+oob7:
+	%_36 = add i32 3, 1
+	%_37 = getelementptr i32, i32* %_33, i32 %_36
+	store i32 18, i32* %_37
+	%_38 = getelementptr i8, i8* %this, i32 8
+	%_39 = bitcast i8* %_38 to i32**
+	%_40 = load i32*, i32** %_39
+	%_41 = load i32, i32* %_40
+	%_42 = icmp ult i32 4, %_41
+	br i1 %_42, label %oob9, label %oob8
+
+oob8:
+	call void @throw_oob()
+	br label %oob9
+
+oob9:
+	%_43 = add i32 4, 1
+	%_44 = getelementptr i32, i32* %_40, i32 %_43
+	store i32 2, i32* %_44
+	%_45 = getelementptr i8, i8* %this, i32 8
+	%_46 = bitcast i8* %_45 to i32**
+	%_47 = load i32*, i32** %_46
+	%_48 = load i32, i32* %_47
+	%_49 = icmp ult i32 5, %_48
+	br i1 %_49, label %oob11, label %oob10
+
+oob10:
+	call void @throw_oob()
+	br label %oob11
+
+oob11:
+	%_50 = add i32 5, 1
+	%_51 = getelementptr i32, i32* %_47, i32 %_50
+	store i32 11, i32* %_51
+	%_52 = getelementptr i8, i8* %this, i32 8
+	%_53 = bitcast i8* %_52 to i32**
+	%_54 = load i32*, i32** %_53
+	%_55 = load i32, i32* %_54
+	%_56 = icmp ult i32 6, %_55
+	br i1 %_56, label %oob13, label %oob12
+
+oob12:
+	call void @throw_oob()
+	br label %oob13
+
+oob13:
+	%_57 = add i32 6, 1
+	%_58 = getelementptr i32, i32* %_54, i32 %_57
+	store i32 6, i32* %_58
+	%_59 = getelementptr i8, i8* %this, i32 8
+	%_60 = bitcast i8* %_59 to i32**
+	%_61 = load i32*, i32** %_60
+	%_62 = load i32, i32* %_61
+	%_63 = icmp ult i32 7, %_62
+	br i1 %_63, label %oob15, label %oob14
+
+oob14:
+	call void @throw_oob()
+	br label %oob15
+
+oob15:
+	%_64 = add i32 7, 1
+	%_65 = getelementptr i32, i32* %_61, i32 %_64
+	store i32 9, i32* %_65
+	%_66 = getelementptr i8, i8* %this, i32 8
+	%_67 = bitcast i8* %_66 to i32**
+	%_68 = load i32*, i32** %_67
+	%_69 = load i32, i32* %_68
+	%_70 = icmp ult i32 8, %_69
+	br i1 %_70, label %oob17, label %oob16
+
+oob16:
+	call void @throw_oob()
+	br label %oob17
+
+oob17:
+	%_71 = add i32 8, 1
+	%_72 = getelementptr i32, i32* %_68, i32 %_71
+	store i32 19, i32* %_72
+	%_73 = getelementptr i8, i8* %this, i32 8
+	%_74 = bitcast i8* %_73 to i32**
+	%_75 = load i32*, i32** %_74
+	%_76 = load i32, i32* %_75
+	%_77 = icmp ult i32 9, %_76
+	br i1 %_77, label %oob19, label %oob18
+
+oob18:
+	call void @throw_oob()
+	br label %oob19
+
+oob19:
+	%_78 = add i32 9, 1
+	%_79 = getelementptr i32, i32* %_75, i32 %_78
+	store i32 5, i32* %_79
+	ret i32 0
+}
+
@@ -0,0 +1,17 @@
+class AssignClass {
+
+    public static void main(String[] args){
+        System.out.println(new A().Start());
+    }
+
+}
+
+
+class A {
+
+    public int Start(){
+        A = new A();
+        return 1;
+    }
+
+}
@@ -0,0 +1,18 @@
+class ClassArraySize {
+
+    public static void main(String[] args){
+        System.out.println(new A().Start());
+    }
+
+}
+
+
+class A {
+
+    public int Start(){
+        int[] arr;
+        arr = new int[A];
+        return arr.length;
+    }
+
+}
@@ -0,0 +1,22 @@
+class ClassOperand {
+
+    public static void main(String[] args){
+        System.out.println(new S4().Start());
+    }
+
+}
+
+
+class S4 {
+
+    public int Start(){
+        int v;
+        v = 1;
+        if (v < S4)
+            v = 2;
+        else
+            v = 3;
+        return v;
+    }
+
+}
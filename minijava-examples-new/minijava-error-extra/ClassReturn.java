@@ -0,0 +1,16 @@
+class ClassReturn {
+
+    public static void main(String[] args){
+        System.out.println(new Fac().ComputeFac(10));
+    }
+
+}
+
+
+class Fac {
+
+    public int ComputeFac(int num){
+        return Fac;
+    }
+
+}
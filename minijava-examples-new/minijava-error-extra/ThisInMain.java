@@ -0,0 +1,16 @@
+class ThisInMain {
+
+    public static void main(String[] args){
+        System.out.println(new A().f(this));
+    }
+
+}
+
+
+class A {
+
+    public int f(A a){
+        return 1;
+    }
+
+}
@@ -0,0 +1,61 @@
+@.DerivedCall_vtable = global [0 x i8*] []
+@.A_vtable = global [0 x i8*] []
+@.B_vtable = global [0 x i8*] []
+@.F_vtable = global [1 x i8*] [i8* bitcast (i32 (i8*,i8*)* @F.foo to i8*)]
+
+declare i8* @calloc(i32, i32)
+declare i32 @printf(i8*, ...)
+declare void @exit(i32)
+
+@_cint = constant [4 x i8] c"%d\0a\00"
+@_cOOB = constant [15 x i8] c"Out of bounds\0a\00"
+define void @print_int(i32 %i) {
+     %_str = bitcast [4 x i8]* @_cint to i8*
+     call i32 (i8*, ...) @printf(i8* %_str, i32 %i)
+     ret void
+}
+
+define void @throw_oob() {
+     %_str = bitcast [15 x i8]* @_cOOB to i8*
+     call i32 (i8*, ...) @printf(i8* %_str)
+     call void @exit(i32 1)
+     ret void
+}
+
+define i32 @main() {
+entry.0:
+	%i = alloca i32
+	%b = alloca i8*
+	%f = alloca i8*
+	%_0 = call i8* @calloc(i32 1, i32 8)
+	%_1 = bitcast i8* %_0 to i8***
+	%_2 = getelementptr [1 x i8*], [1 x i8*]* @.F_vtable, i32 0, i32 0
+	store i8** %_2, i8*** %_1
+	store i8* %_0, i8** %f
+	%_3 = call i8* @calloc(i32 1, i32 16)
+	%_4 = bitcast i8* %_3 to i8***
+	%_5 = getelementptr [0 x i8*], [0 x i8*]* @.B_vtable, i32 0, i32 0
+	store i8** %_5, i8*** %_4
+	store i8* %_3, i8** %b
+	%_6 = load i8*, i8** %f
+	%_7 = load i8*, i8** %b
+	; F.foo: 0
+	%_8 = bitcast i8* %_6 to i8***
+	%_9 = load i8**, i8*** %_8
+	%_10 = getelementptr i8*, i8** %_9, i32 0
+	%_11 = load i8*, i8** %_10
+	%_12 = bitcast i8* %_11 to i32 (i8*,i8*)*
+	%_13 = call i32 %_12(i8* %_6, i8* %_7)
+	store i32 %_13, i32* %i
+	%_14 = load i32, i32* %i
+	call void @print_int(i32 %_14)
+	ret i32 0
+}
+
+define i32 @F.foo(i8* %this, i8* %.a) {
+entry.0:
+	%a = alloca i8*
+	store i8* %.a, i8** %a
+	ret i32 0
+}
+
@@ -0,0 +1,45 @@
+@.FieldAndClassConflict_vtable = global [0 x i8*] []
+@.A_vtable = global [1 x i8*] [i8* bitcast (i32 (i8*)* @A.B to i8*)]
+@.B_vtable = global [0 x i8*] []
+
+declare i8* @calloc(i32, i32)
+declare i32 @printf(i8*, ...)
+declare void @exit(i32)
+
+@_cint = constant [4 x i8] c"%d\0a\00"
+@_cOOB = constant [15 x i8] c"Out of bounds\0a\00"
+define void @print_int(i32 %i) {
+     %_str = bitcast [4 x i8]* @_cint to i8*
+     call i32 (i8*, ...) @printf(i8* %_str, i32 %i)
+     ret void
+}
+
+define void @throw_oob() {
+     %_str = bitcast [15 x i8]* @_cOOB to i8*
+     call i32 (i8*, ...) @printf(i8* %_str)
+     call void @exit(i32 1)
+     ret void
+}
+
+define i32 @main() {
+entry.0:
+	%_0 = call i8* @calloc(i32 1, i32 16)
+	%_1 = bitcast i8* %_0 to i8***
+	%_2 = getelementptr [1 x i8*], [1 x i8*]* @.A_vtable, i32 0, i32 0
+	store i8** %_2, i8*** %_1
+	; A.B: 0
+	%_3 = bitcast i8* %_0 to i8***
+	%_4 = load i8**, i8*** %_3
+	%_5 = getelementptr i8*, i8** %_4, i32 0
+	%_6 = load i8*, i8** %_5
+	%_7 = bitcast i8* %_6 to i32 (i8*)*
+	%_8 = call i32 %_7(i8* %_0)
+	call void @print_int(i32 %_8)
+	ret i32 0
+}
+
+define i32 @A.B(i8* %this) {
+entry.0:
+	ret i32 1
+}
+